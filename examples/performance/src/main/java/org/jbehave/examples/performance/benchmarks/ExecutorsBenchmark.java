@@ -0,0 +1,102 @@
+package org.jbehave.examples.performance.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.embedder.NullEmbedderMonitor;
+import org.jbehave.core.embedder.executors.ExecutorServiceFactory;
+import org.jbehave.core.embedder.executors.FixedThreadExecutors;
+import org.jbehave.core.embedder.executors.VirtualThreadExecutors;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.core.steps.InstanceStepsFactory;
+
+/**
+ * Compares the {@link VirtualThreadExecutors} with the
+ * {@link FixedThreadExecutors}, running the same stories, whose steps mostly
+ * wait as if on I/O, with the same number of threads. The time taken and the
+ * most threads alive at once are printed for each.
+ * 
+ * Run with arguments: [stories] [threads] [millis waited per step]
+ */
+public class ExecutorsBenchmark {
+
+    public static void main(String[] args) {
+        int stories = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        long millis = args.length > 2 ? Long.parseLong(args[2]) : 20;
+        ExecutorServiceFactory[] factories = { new FixedThreadExecutors(), new VirtualThreadExecutors() };
+        // the first round only warms up the JVM
+        for (int round = 0; round < 2; round++) {
+            for (ExecutorServiceFactory factory : factories) {
+                run(factory, stories, threads, millis, round > 0);
+            }
+        }
+    }
+
+    private static void run(ExecutorServiceFactory factory, int stories, int threads, long millis, boolean print) {
+        Embedder embedder = new Embedder();
+        embedder.useEmbedderMonitor(new NullEmbedderMonitor());
+        embedder.embedderControls().useThreads(threads).doGenerateViewAfterStories(false)
+                .doIgnoreFailureInStories(false);
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(new WaitingStoryLoader(millis))
+                .useStoryReporterBuilder(new StoryReporterBuilder().withRelativeDirectory("benchmarks"));
+        embedder.useConfiguration(configuration);
+        embedder.useStepsFactory(new InstanceStepsFactory(configuration, new WaitingSteps()));
+        ExecutorService executorService = factory.create(embedder.embedderControls());
+        embedder.useExecutorService(executorService);
+        List<String> storyPaths = new ArrayList<>();
+        for (int i = 0; i < stories; i++) {
+            storyPaths.add("story" + i);
+        }
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        threadBean.resetPeakThreadCount();
+        long start = System.nanoTime();
+        try {
+            embedder.runStoriesAsPaths(storyPaths);
+        } finally {
+            executorService.shutdownNow();
+        }
+        long elapsedInMillis = (System.nanoTime() - start) / 1000000;
+        if (print) {
+            System.out.println(factory.getClass().getSimpleName() + ": " + stories + " stories, " + threads
+                    + " threads, " + elapsedInMillis + " ms, " + threadBean.getPeakThreadCount()
+                    + " threads alive at most");
+        }
+    }
+
+    public static class WaitingSteps {
+
+        @Given("the story waits $millis millis")
+        public void waits(long millis) throws InterruptedException {
+            Thread.sleep(millis);
+        }
+    }
+
+    private static class WaitingStoryLoader implements StoryLoader {
+
+        private final long millis;
+
+        WaitingStoryLoader(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public String loadStoryAsText(String storyPath) {
+            return "Scenario: " + storyPath + "\nGiven the story waits " + millis + " millis\n"
+                    + "Given the story waits " + millis + " millis";
+        }
+
+        @Override
+        public String loadResourceAsText(String resourcePath) {
+            return loadStoryAsText(resourcePath);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.jbehave.examples.performance.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.reporters.Format;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.reporters.StoryReporterBuilder;
+
+/**
+ * Compares the report buffer sizes set by
+ * {@link StoryReporterBuilder#withReportBufferSize(int)}, reporting the same
+ * stories to the TXT, XML and HTML reports. The time taken is printed for each
+ * size, as are the write system calls made, where the JVM is run on Linux and
+ * they are counted in <code>/proc/self/io</code>.
+ * 
+ * Run with arguments: [stories] [steps per story]
+ */
+public class ReportBufferBenchmark {
+
+    private static final int[] BUFFER_SIZES = { 0, 1024, 8192, 65536 };
+
+    public static void main(String[] args) throws IOException {
+        int stories = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int steps = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        // the first round only warms up the JVM
+        for (int round = 0; round < 2; round++) {
+            for (int bufferSize : BUFFER_SIZES) {
+                run(bufferSize, stories, steps, round > 0);
+            }
+        }
+    }
+
+    private static void run(int bufferSize, int stories, int steps, boolean print) throws IOException {
+        StoryReporterBuilder builder = new StoryReporterBuilder().withRelativeDirectory("benchmarks")
+                .withFormats(Format.TXT, Format.XML, Format.HTML).withReportBufferSize(bufferSize);
+        long writesBefore = writeSystemCalls();
+        long start = System.nanoTime();
+        for (int s = 0; s < stories; s++) {
+            String storyPath = "benchmark" + s + ".story";
+            StoryReporter reporter = builder.build(storyPath);
+            report(reporter, new Story(storyPath), steps);
+        }
+        long elapsedInMillis = (System.nanoTime() - start) / 1000000;
+        long writes = writeSystemCalls() - writesBefore;
+        if (print) {
+            System.out.println("Buffer of " + bufferSize + " bytes: " + stories + " stories of " + steps
+                    + " steps, " + elapsedInMillis + " ms, "
+                    + (writes >= 0 ? writes + " write system calls" : "write system calls not counted"));
+        }
+    }
+
+    private static void report(StoryReporter reporter, Story story, int steps) {
+        reporter.beforeStory(story, false);
+        reporter.beforeScenario(new Scenario("a scenario", story.getMeta()));
+        for (int i = 0; i < steps; i++) {
+            String step = "Given the step " + i + " is reported";
+            reporter.beforeStep(step);
+            reporter.successful(step);
+        }
+        reporter.afterScenario();
+        reporter.afterStory(false);
+    }
+
+    /**
+     * Returns the write system calls made by the JVM so far, as counted by
+     * Linux, or -1 if not counted.
+     */
+    private static long writeSystemCalls() throws IOException {
+        File io = new File("/proc/self/io");
+        if (!io.canRead()) {
+            return -1;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(io))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("syscw:")) {
+                    return Long.parseLong(line.substring("syscw:".length()).trim());
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,70 @@
+package org.jbehave.examples.performance.benchmarks;
+
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.jbehave.core.parsers.StoryParser;
+
+/**
+ * Times {@link RegexStoryParser#parseStory(String, String)} on generated
+ * stories, whose steps have tabular arguments of growing size. The time taken
+ * per parse is printed for each size, so that runs against different versions
+ * of jbehave-core can be compared.
+ *
+ * Run with arguments: [scenarios per story] [steps per scenario] [parses]
+ */
+public class StoryParserBenchmark {
+
+    private static final int[] TABLE_ROWS = { 0, 10, 100, 1000 };
+
+    public static void main(String[] args) {
+        int scenarios = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int steps = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int parses = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        StoryParser parser = new RegexStoryParser();
+        // the first round only warms up the JVM
+        for (int round = 0; round < 2; round++) {
+            for (int rows : TABLE_ROWS) {
+                run(parser, story(scenarios, steps, rows), scenarios, steps, rows, parses, round > 0);
+            }
+        }
+    }
+
+    private static void run(StoryParser parser, String storyAsText, int scenarios, int steps, int rows,
+            int parses, boolean print) {
+        int parsedSteps = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < parses; i++) {
+            Story story = parser.parseStory(storyAsText, "benchmark.story");
+            parsedSteps = story.getScenarios().get(0).getSteps().size();
+        }
+        long elapsedInMicros = (System.nanoTime() - start) / 1000 / parses;
+        if (parsedSteps != steps + 1) {
+            throw new IllegalStateException("Parsed " + parsedSteps + " steps instead of " + (steps + 1));
+        }
+        if (print) {
+            System.out.println("Tables of " + rows + " rows: " + scenarios + " scenarios of " + steps + " steps, "
+                    + storyAsText.length() + " chars, " + elapsedInMicros + " us per parse");
+        }
+    }
+
+    private static String story(int scenarios, int steps, int rows) {
+        StringBuilder story = new StringBuilder();
+        story.append("Meta: @theme parsing\n\n");
+        story.append("Narrative:\nIn order to time the parsing\nAs a developer\nI want to parse a long story\n\n");
+        for (int s = 0; s < scenarios; s++) {
+            story.append("Scenario: scenario ").append(s).append("\n\n");
+            for (int i = 0; i < steps; i++) {
+                story.append(i == 0 ? "Given" : "And").append(" the step ").append(i).append(" with a table:\n");
+                if (rows > 0) {
+                    story.append("|name|value|\n");
+                    for (int r = 0; r < rows; r++) {
+                        story.append("|name").append(r).append("|value").append(r).append("|\n");
+                    }
+                }
+            }
+            story.append("Then the scenario ").append(s).append(" is parsed\n\n");
+            story.append("Examples:\n|row|\n|1|\n|2|\n\n");
+        }
+        return story.toString();
+    }
+}
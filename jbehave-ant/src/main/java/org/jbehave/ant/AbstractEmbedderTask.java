@@ -130,6 +130,17 @@ public abstract class AbstractEmbedderTask extends Task {
      */
     private boolean failOnStoryTimeout = false;
 
+    /**
+     * The boolean flag to build each story just before it is run
+     */
+    private boolean buildStoriesLazily = false;
+
+    /**
+     * The boolean flag to submit stories longest first, by the durations of
+     * the previous run
+     */
+    private boolean scheduleLongestStoriesFirst = false;
+
     /**
      * The number of threads
      */
@@ -233,7 +244,8 @@ public abstract class AbstractEmbedderTask extends Task {
                 .doGenerateViewAfterStories(generateViewAfterStories).doIgnoreFailureInStories(ignoreFailureInStories)
                 .doIgnoreFailureInView(ignoreFailureInView).doVerboseFailures(verboseFailures)
                 .doVerboseFiltering(verboseFiltering)
-                .doFailOnStoryTimeout(failOnStoryTimeout).useThreads(threads);
+                .doFailOnStoryTimeout(failOnStoryTimeout).doBuildStoriesLazily(buildStoriesLazily)
+                .doScheduleLongestStoriesFirst(scheduleLongestStoriesFirst).useThreads(threads);
         if ( storyTimeoutInSecs != 0 ){
         	embedderControls.useStoryTimeoutInSecs(storyTimeoutInSecs);
         }
@@ -594,6 +606,14 @@ public abstract class AbstractEmbedderTask extends Task {
 	public void setFailOnStoryTimeout(boolean failOnStoryTimeout) {
 		this.failOnStoryTimeout = failOnStoryTimeout;
 	}
+
+    public void setBuildStoriesLazily(boolean buildStoriesLazily) {
+        this.buildStoriesLazily = buildStoriesLazily;
+    }
+
+    public void setScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        this.scheduleLongestStoriesFirst = scheduleLongestStoriesFirst;
+    }
 	
     public void setThreads(int threads) {
         this.threads = threads;
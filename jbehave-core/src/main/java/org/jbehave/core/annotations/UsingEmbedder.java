@@ -29,6 +29,9 @@ public @interface UsingEmbedder {
     /** @deprecated Use storyTimeouts() */
     @Deprecated String storyTimeoutInSecsByPath() default "";
     boolean failOnStoryTimeout() default false;
+    boolean buildStoriesLazily() default false;
+
+    boolean scheduleLongestStoriesFirst() default false;
 	int threads() default 1;
 	boolean stepsFactory() default true;
     String[] metaFilters() default {};
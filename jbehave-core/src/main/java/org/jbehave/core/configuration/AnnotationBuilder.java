@@ -194,13 +194,16 @@ public class AnnotationBuilder {
         long storyTimeoutInSecs = finder.getAnnotatedValue(UsingEmbedder.class, Long.class, "storyTimeoutInSecs");
         String storyTimeoutInSecsByPath = finder.getAnnotatedValue(UsingEmbedder.class, String.class, "storyTimeoutInSecsByPath");
         boolean failOnStoryTimeout = control(finder, "failOnStoryTimeout");
+        boolean buildStoriesLazily = control(finder, "buildStoriesLazily");
+        boolean scheduleLongestStoriesFirst = control(finder, "scheduleLongestStoriesFirst");
         int threads = finder.getAnnotatedValue(UsingEmbedder.class, Integer.class, "threads");
         Embedder embedder = embedder();
         EmbedderControls embedderControls = embedder.embedderControls();
         embedderControls.doBatch(batch).doSkip(skip).doGenerateViewAfterStories(generateViewAfterStories)
                 .doIgnoreFailureInStories(ignoreFailureInStories).doIgnoreFailureInView(ignoreFailureInView)
                 .doVerboseFailures(verboseFailures).doVerboseFiltering(verboseFiltering)
-                .doFailOnStoryTimeout(failOnStoryTimeout).useThreads(threads);
+                .doFailOnStoryTimeout(failOnStoryTimeout).doBuildStoriesLazily(buildStoriesLazily)
+                .doScheduleLongestStoriesFirst(scheduleLongestStoriesFirst).useThreads(threads);
         if ( storyTimeoutInSecs != 0 ){
             embedderControls.useStoryTimeoutInSecs(storyTimeoutInSecs);
         }
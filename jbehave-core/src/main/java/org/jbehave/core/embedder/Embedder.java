@@ -25,6 +25,7 @@ import org.jbehave.core.junit.AnnotatedEmbedderRunner;
 import org.jbehave.core.junit.AnnotatedEmbedderUtils;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryMaps;
+import org.jbehave.core.reporters.CrossReference;
 import org.jbehave.core.reporters.ReportsCount;
 import org.jbehave.core.reporters.StepdocReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
@@ -286,7 +287,12 @@ public class Embedder {
     public void generateCrossReference() {
         StoryReporterBuilder builder = configuration().storyReporterBuilder();
         if (builder.hasCrossReference()) {
-            builder.crossReference().serialise(storyManager().performableRoot(), builder.outputDirectory());
+            CrossReference crossReference = builder.crossReference();
+            if (crossReference.outputAfterEachStory()) {
+                crossReference.merge(builder.outputDirectory());
+            } else {
+                crossReference.serialise(storyManager().performableRoot(), builder.outputDirectory());
+            }
         }
     }
 
@@ -18,6 +18,8 @@ public class EmbedderControls {
     private String storyTimeouts = "300";
     private int threads = 1;
 	private boolean failOnStoryTimeout = false;
+    private boolean buildStoriesLazily = false;
+    private boolean scheduleLongestStoriesFirst = false;
 
     public EmbedderControls() {
     }
@@ -78,6 +80,24 @@ public class EmbedderControls {
 		return failOnStoryTimeout;
 	}
 
+    /**
+     * Returns whether each story is built just before it is run, rather than
+     * all stories before the first is run. Unless needed by the cross
+     * reference or surefire reports, the stories are then also released once
+     * run.
+     */
+    public boolean buildStoriesLazily() {
+        return buildStoriesLazily;
+    }
+
+    /**
+     * Returns whether stories are submitted longest first, by the durations
+     * recorded by the previous run, rather than in the order they are found.
+     */
+    public boolean scheduleLongestStoriesFirst() {
+        return scheduleLongestStoriesFirst;
+    }
+
 	public int threads() {
        return threads;
     }
@@ -145,6 +165,16 @@ public class EmbedderControls {
         return this;
     }
 
+    public EmbedderControls doBuildStoriesLazily(boolean buildStoriesLazily) {
+        this.buildStoriesLazily = buildStoriesLazily;
+        return this;
+    }
+
+    public EmbedderControls doScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        this.scheduleLongestStoriesFirst = scheduleLongestStoriesFirst;
+        return this;
+    }
+
     public EmbedderControls useThreads(int threads) {
         this.threads = threads;
         return this;
@@ -1,11 +1,23 @@
 package org.jbehave.core.embedder;
 
+import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -31,6 +43,7 @@ import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 import org.jbehave.core.reporters.ConcurrentStoryReporter;
 import org.jbehave.core.reporters.DelegatingStoryReporter;
+import org.jbehave.core.reporters.NullStoryReporter;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.*;
 import org.jbehave.core.steps.context.StepsContext;
@@ -44,7 +57,8 @@ import org.jbehave.core.steps.StepCreator.PendingStep;
  * after stories steps. The process has two phases:
  * <ol>
  * <li>The tree is populated with groups of performable steps when the stories
- * are added via the {@link #addStories(RunContext, List)} method.</li>
+ * are added via the {@link #addStories(RunContext, List)} method, or one story
+ * at a time via the {@link #addStory(RunContext, Story)} method.</li>
  * <li>The performable steps are then populated with the results when the
  * {@link #performBeforeOrAfterStories(RunContext, Stage)} and
  * {@link #perform(RunContext, Story)} methods are executed.</li>
@@ -70,6 +84,42 @@ public class PerformableTree {
         root.addAfterSteps(context.beforeOrAfterStoriesSteps(Stage.AFTER));
     }
 
+    /**
+     * Adds the before and after stories steps only, leaving the stories to be
+     * added one at a time via {@link #addStory(RunContext, Story)}.
+     * 
+     * @param context the RunContext
+     */
+    public void addBeforeAndAfterStoriesSteps(RunContext context) {
+        root.addBeforeSteps(context.beforeOrAfterStoriesSteps(Stage.BEFORE));
+        root.addAfterSteps(context.beforeOrAfterStoriesSteps(Stage.AFTER));
+    }
+
+    /**
+     * Adds a single story, e.g. just before it is performed. As other stories
+     * may already be performed with the same context, the performable story is
+     * built with a new context, as it would be by
+     * {@link #addStories(RunContext, List)}.
+     * 
+     * @param context the RunContext
+     * @param story the Story to add
+     */
+    public void addStory(RunContext context, Story story) {
+        RunContext buildContext = new RunContext(context.configuration, context.candidateSteps,
+                context.embedderMonitor, context.filter, context.failures, context.givenStories,
+                context.givenStoryScenarioSteps, context.examplesExecutor);
+        root.add(performableStory(buildContext, story, NO_PARAMETERS));
+    }
+
+    /**
+     * Removes a story once performed, releasing its performable steps.
+     * 
+     * @param story the Story to remove
+     */
+    public void removeStory(Story story) {
+        root.remove(story);
+    }
+
     private PerformableStory performableStory(RunContext context, Story story, Map<String, String> storyParameters) {
         PerformableStory performableStory = new PerformableStory(story, context.configuration().keywords(),
                 context.givenStory());
@@ -150,7 +200,10 @@ public class PerformableTree {
                         Stage.BEFORE, ScenarioType.NORMAL));
             }
             
-			if (isParameterisedByExamples(scenario)) {
+			if (isParameterisedByExamples(scenario) && scenario.getExamplesTable().isStreamed()) {
+                performableScenario.useStreamedExamples(new StreamedExampleScenarios(lifecycle, scenario,
+                        storyAndScenarioMeta));
+            } else if (isParameterisedByExamples(scenario)) {
                 ExamplesTable table = scenario.getExamplesTable();
                 List<Map<String, String>> tableRows = table.getRows();
                 for (int exampleIndex = 0; exampleIndex < tableRows.size(); exampleIndex++) {
@@ -202,6 +255,65 @@ public class PerformableTree {
         return exampleScenario;
     }
 	
+    /**
+     * The example scenarios of a table whose rows are streamed, each created
+     * from its row as it is performed, rather than when the tree is built, so
+     * that the rows are not held in memory. Only the example scenarios which
+     * failed are kept, for their failures to be reported.
+     */
+    private class StreamedExampleScenarios implements Performable {
+
+        private final Lifecycle lifecycle;
+        private final Scenario scenario;
+        private final Meta storyAndScenarioMeta;
+        private final List<ExamplePerformableScenario> failedScenarios = new ArrayList<>();
+
+        StreamedExampleScenarios(Lifecycle lifecycle, Scenario scenario, Meta storyAndScenarioMeta) {
+            this.lifecycle = lifecycle;
+            this.scenario = scenario;
+            this.storyAndScenarioMeta = storyAndScenarioMeta;
+        }
+
+        @Override
+        public void perform(RunContext context) throws InterruptedException {
+            failedScenarios.clear();
+            ExamplesTable examplesTable = scenario.getExamplesTable();
+            Iterator<Map<String, String>> rows = examplesTable.getRows().iterator();
+            try {
+                int exampleIndex = 0;
+                while (rows.hasNext()) {
+                    Map<String, String> scenarioParameters = rows.next();
+                    Meta exampleScenarioMeta = parameterMeta(context, scenarioParameters).inheritFrom(
+                            storyAndScenarioMeta);
+                    if (context.filter().allow(exampleScenarioMeta)) {
+                        ExamplePerformableScenario exampleScenario = exampleScenario(context, lifecycle, scenario,
+                                storyAndScenarioMeta, scenarioParameters, exampleIndex);
+                        exampleScenario.perform(context);
+                        FailureContext failureContext = new FailureContext();
+                        exampleScenario.reportFailures(failureContext);
+                        if (!failureContext.getFailures().isEmpty()) {
+                            failedScenarios.add(exampleScenario);
+                        }
+                    }
+                    exampleIndex++;
+                }
+            } finally {
+                // the streamed rows are closed even if not all the examples are performed
+                if (rows instanceof Closeable) {
+                    IOUtils.closeQuietly((Closeable) rows);
+                }
+                examplesTable.closeRows();
+            }
+        }
+
+        @Override
+        public void reportFailures(FailureContext context) {
+            for (ExamplePerformableScenario exampleScenario : failedScenarios) {
+                exampleScenario.reportFailures(context);
+            }
+        }
+    }
+
 	private Meta parameterMeta(RunContext context, Map<String, String> parameters) {
 	    Meta meta = Meta.EMPTY;
         Keywords keywords = context.configuration().keywords();
@@ -233,10 +345,7 @@ public class PerformableTree {
             for (GivenStory givenStory : givenStories.getStories()) {
                 RunContext childContext = context.childContextFor(givenStory);
                 // run given story, using any parameters provided
-                Story story = storyOfPath(context.configuration(), childContext.path());                
-                if ( givenStory.hasAnchorParameters() ){
-                    story = storyWithMatchingScenarios(story, givenStory.getAnchorParameters());
-                }
+                Story story = givenStoryOfPath(childContext, givenStory);
                 parameters.putAll(givenStory.getParameters());
                 stories.add(performableStory(childContext, story, parameters));
             }
@@ -244,6 +353,25 @@ public class PerformableTree {
         return stories;
     }
 
+    /**
+     * Returns the given story of the child context path, only loading and
+     * parsing it the first time it is referenced with the same anchor
+     * parameters, so that the same Story, and hence its matched steps, can be
+     * reused by all the stories referencing it.
+     */
+    private Story givenStoryOfPath(RunContext childContext, GivenStory givenStory) {
+        List<Object> key = Arrays.<Object>asList(childContext.path(), givenStory.getAnchorParameters());
+        Story story = childContext.givenStories.get(key);
+        if (story == null) {
+            story = storyOfPath(childContext.configuration(), childContext.path());
+            if ( givenStory.hasAnchorParameters() ){
+                story = storyWithMatchingScenarios(story, givenStory.getAnchorParameters());
+            }
+            childContext.givenStories.put(key, story);
+        }
+        return story;
+    }
+
     private Story storyWithMatchingScenarios(Story story, Map<String,String> parameters) {
         if ( parameters.isEmpty() ) return story;
         List<Scenario> scenarios = new ArrayList<>();
@@ -460,8 +588,11 @@ public class PerformableTree {
         private final MetaFilter filter;
         private final BatchFailures failures;
 		private final StepsContext stepsContext;
-        private Map<Story, StoryDuration> cancelledStories = new HashMap<>();
-        private Map<String, List<PendingStep>> pendingStories = new HashMap<>();
+        private Map<Story, StoryDuration> cancelledStories = new ConcurrentHashMap<>();
+        private Map<String, List<PendingStep>> pendingStories = new ConcurrentHashMap<>();
+        private final Map<List<Object>, Story> givenStories;
+        private final Map<List<Object>, PerformableSteps> givenStoryScenarioSteps;
+        private final ExamplesExecutor examplesExecutor;
         private final ThreadLocal<StoryReporter> reporter = new ThreadLocal<>();
         private String path;
         private boolean givenStory;
@@ -469,19 +600,66 @@ public class PerformableTree {
 
         public RunContext(Configuration configuration, List<CandidateSteps> candidateSteps, EmbedderMonitor embedderMonitor,
                 MetaFilter filter, BatchFailures failures) {
+            this(configuration, candidateSteps, embedderMonitor, filter, failures,
+                    new ConcurrentHashMap<List<Object>, Story>(),
+                    new ConcurrentHashMap<List<Object>, PerformableSteps>(), new ExamplesExecutor());
+        }
+
+        private RunContext(Configuration configuration, List<CandidateSteps> candidateSteps,
+                EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures,
+                Map<List<Object>, Story> givenStories, Map<List<Object>, PerformableSteps> givenStoryScenarioSteps,
+                ExamplesExecutor examplesExecutor) {
             this.configuration = configuration;
             this.candidateSteps = candidateSteps;
             this.embedderMonitor = embedderMonitor;
             this.filter = filter;
             this.failures = failures;
             this.stepsContext = configuration.stepsContext();
+            this.givenStories = givenStories;
+            this.givenStoryScenarioSteps = givenStoryScenarioSteps;
+            this.examplesExecutor = examplesExecutor;
             resetState();
         }
 
+        /**
+         * Creates a context for performing an example on behalf of this one,
+         * possibly in another thread. It shares the story being run, but has
+         * its own state and reporter.
+         */
+        private RunContext exampleContext() {
+            RunContext example = new RunContext(configuration, candidateSteps, embedderMonitor, filter, failures,
+                    givenStories, givenStoryScenarioSteps, examplesExecutor);
+            example.cancelledStories = cancelledStories;
+            example.pendingStories = pendingStories;
+            example.path = path;
+            example.givenStory = givenStory;
+            example.state = state;
+            return example;
+        }
+
 		public StepsContext stepsContext() {
 			return stepsContext;
 		}
 
+        /**
+         * Uses the executor service performing the examples of the scenarios in
+         * parallel, instead of the one created for the run. The executor service
+         * used is not shut down by the context.
+         * 
+         * @param executorService the ExecutorService
+         */
+        public void useExamplesExecutor(ExecutorService executorService) {
+            examplesExecutor.use(executorService);
+        }
+
+        /**
+         * Shuts down the executor service created to perform the examples of
+         * the scenarios in parallel, if any, once the run ends.
+         */
+        public void shutdownExamplesExecutor() {
+            examplesExecutor.shutdown();
+        }
+
     	public boolean restartScenario() {
     		Throwable cause = failure(state);
     		while (cause != null) {
@@ -566,7 +744,25 @@ public class PerformableTree {
             return new PerformableSteps(steps, monitor.matched());
         }
 
+        /**
+         * Returns the steps of a scenario, matched with the given parameters.
+         * The steps of given stories are only matched the first time the
+         * scenario is referenced with the same parameters, and then reused.
+         */
         public PerformableSteps scenarioSteps(Scenario scenario, Map<String, String> parameters) {
+            if (!givenStory) {
+                return collectScenarioSteps(scenario, parameters);
+            }
+            List<Object> key = Arrays.<Object>asList(scenario, new HashMap<>(parameters));
+            PerformableSteps steps = givenStoryScenarioSteps.get(key);
+            if (steps == null) {
+                steps = collectScenarioSteps(scenario, parameters);
+                givenStoryScenarioSteps.put(key, steps);
+            }
+            return steps;
+        }
+
+        private PerformableSteps collectScenarioSteps(Scenario scenario, Map<String, String> parameters) {
             MatchingStepMonitor monitor = new MatchingStepMonitor(configuration.stepMonitor());
             List<Step> steps = configuration.stepCollector().collectScenarioSteps(candidateSteps, scenario, parameters,
                     monitor);
@@ -574,7 +770,8 @@ public class PerformableTree {
         }
 
         public RunContext childContextFor(GivenStory givenStory) {
-            RunContext child = new RunContext(configuration, candidateSteps, embedderMonitor, filter, failures);
+            RunContext child = new RunContext(configuration, candidateSteps, embedderMonitor, filter, failures,
+                    givenStories, givenStoryScenarioSteps, examplesExecutor);
             child.path = configuration.pathCalculator().calculate(path, givenStory.getPath());
             child.givenStory = true;
             return child;
@@ -713,7 +910,7 @@ public class PerformableTree {
             this.beforeSteps = beforeSteps;
         }
 
-        public void add(PerformableStory performableStory) {
+        public synchronized void add(PerformableStory performableStory) {
             stories.put(performableStory.getStory().getPath(), performableStory);
         }
 
@@ -721,7 +918,11 @@ public class PerformableTree {
             this.afterSteps = afterSteps;
         }
 
-        public PerformableStory get(Story story) {
+        public synchronized void remove(Story story) {
+            stories.remove(story.getPath());
+        }
+
+        public synchronized PerformableStory get(Story story) {
             PerformableStory performableStory = stories.get(story.getPath());
             if (performableStory != null) {
                 return performableStory;
@@ -729,7 +930,7 @@ public class PerformableTree {
             throw new RuntimeException("No performable story for path " + story.getPath());
         }
 
-        public List<PerformableStory> getStories() {
+        public synchronized List<PerformableStory> getStories() {
             return new ArrayList<>(stories.values());
         }
 
@@ -751,6 +952,185 @@ public class PerformableTree {
         }
     }
 
+    private static void performExamples(RunContext context, List<ExamplePerformableScenario> exampleScenarios)
+            throws InterruptedException {
+        StoryControls storyControls = context.configuration().storyControls();
+        int threads = Math.min(storyControls.examplesThreads(), exampleScenarios.size());
+        if (threads > 1 && storyControls.resetStateBeforeScenario()) {
+            new ParallelExamples(context, exampleScenarios).perform(threads);
+        } else {
+            for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
+                exampleScenario.perform(context);
+            }
+        }
+    }
+
+    /**
+     * The executor service performing the examples of the scenarios in
+     * parallel, shared by a run context with the contexts derived from it.
+     * Unless one is given, it is created when first needed, with as many
+     * threads as the examples threads, and shut down when the run ends.
+     */
+    private static class ExamplesExecutor {
+
+        private ExecutorService executorService;
+        private boolean created;
+
+        synchronized void use(ExecutorService executorService) {
+            shutdown();
+            this.executorService = executorService;
+        }
+
+        synchronized ExecutorService get(StoryControls storyControls) {
+            if (executorService == null) {
+                int threads = storyControls.examplesThreads();
+                ThreadPoolExecutor threadPool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                            private final AtomicInteger count = new AtomicInteger();
+
+                            @Override
+                            public Thread newThread(Runnable runnable) {
+                                Thread thread = new Thread(runnable, "jbehave-examples-" + count.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        });
+                threadPool.allowCoreThreadTimeOut(true);
+                executorService = threadPool;
+                created = true;
+            }
+            return executorService;
+        }
+
+        synchronized void shutdown() {
+            if (created) {
+                executorService.shutdownNow();
+                created = false;
+            }
+            executorService = null;
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the examples of a scenario in parallel, each in its own
+     * {@link RunContext}, starting from the story and scenario objects of the
+     * {@link StepsContext} as they are before the examples.
+     * </p>
+     * <p>
+     * The thread performing the scenario takes part in performing the
+     * examples, so they are performed even when no other thread is available.
+     * The reports of each example are delayed and invoked in the order of the
+     * examples once all are performed, and the state of the last performed
+     * example becomes the state of the scenario, as if the examples had been
+     * performed one after another.
+     * </p>
+     */
+    private static class ParallelExamples {
+
+        private final RunContext context;
+        private final List<ExamplePerformableScenario> exampleScenarios;
+        private final StoryReporter reporter;
+        private final StepsContext.Snapshot snapshot;
+        private final RunContext[] contexts;
+        private final ConcurrentStoryReporter[] reporters;
+        private final Throwable[] failures;
+        private final AtomicInteger next = new AtomicInteger();
+        private final CountDownLatch performed;
+        private volatile boolean aborted;
+
+        ParallelExamples(RunContext context, List<ExamplePerformableScenario> exampleScenarios) {
+            this.context = context;
+            this.exampleScenarios = exampleScenarios;
+            this.reporter = context.reporter();
+            this.snapshot = context.stepsContext().snapshot();
+            int size = exampleScenarios.size();
+            this.contexts = new RunContext[size];
+            this.reporters = new ConcurrentStoryReporter[size];
+            this.failures = new Throwable[size];
+            this.performed = new CountDownLatch(size);
+        }
+
+        void perform(int threads) throws InterruptedException {
+            for (int i = 1; i < threads; i++) {
+                context.examplesExecutor.get(context.configuration().storyControls()).execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            performExamples();
+                        } finally {
+                            // the thread keeps no state once it has performed the examples
+                            context.stepsContext().clear();
+                        }
+                    }
+                });
+            }
+            try {
+                performExamples();
+                performed.await();
+            } catch (InterruptedException e) {
+                aborted = true;
+                throw e;
+            } finally {
+                context.stepsContext().restore(snapshot);
+            }
+            State initial = context.state();
+            for (int i = 0; i < exampleScenarios.size(); i++) {
+                reporters[i].invokeDelayed();
+                if (contexts[i].state() != initial) {
+                    context.stateIs(contexts[i].state());
+                }
+            }
+            for (Throwable failure : failures) {
+                if (failure != null) {
+                    rethrow(failure);
+                }
+            }
+        }
+
+        private void performExamples() {
+            int index;
+            while (!aborted && (index = next.getAndIncrement()) < exampleScenarios.size()) {
+                try {
+                    performExample(index);
+                } finally {
+                    performed.countDown();
+                }
+            }
+        }
+
+        private void performExample(int index) {
+            RunContext exampleContext = context.exampleContext();
+            // the reports are delayed until all the examples are performed
+            ConcurrentStoryReporter delayingReporter = new ConcurrentStoryReporter(new NullStoryReporter(),
+                    reporter, true);
+            contexts[index] = exampleContext;
+            reporters[index] = delayingReporter;
+            exampleContext.reporter.set(delayingReporter);
+            try {
+                exampleContext.stepsContext().restore(snapshot);
+                exampleScenarios.get(index).perform(exampleContext);
+            } catch (Throwable e) {
+                failures[index] = e;
+            } finally {
+                exampleContext.reporter.remove();
+            }
+        }
+
+        private void rethrow(Throwable failure) throws InterruptedException {
+            if (failure instanceof InterruptedException) {
+                throw (InterruptedException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new UUIDExceptionWrapper(failure);
+        }
+    }
+
     public static class PerformableStory implements Performable {
 
         private final Story story;
@@ -885,6 +1265,7 @@ public class PerformableTree {
         private Timing timing = new Timing();
 		private NormalPerformableScenario normalScenario;
         private List<ExamplePerformableScenario> exampleScenarios;
+        private transient Performable streamedExamples;
 
         public PerformableScenario(Scenario scenario, String storyPath) {
             this.scenario = scenario;
@@ -902,6 +1283,14 @@ public class PerformableTree {
             exampleScenarios.add(exampleScenario);
         }
 
+        /**
+         * Uses the example scenarios of a streamed table, which are only
+         * created as they are performed.
+         */
+        public void useStreamedExamples(Performable streamedExamples) {
+            this.streamedExamples = streamedExamples;
+        }
+
         public void allowed(boolean allowed) {
             this.allowed = allowed;
         }
@@ -937,7 +1326,7 @@ public class PerformableTree {
         }
 
         public boolean hasExamples() {
-            return exampleScenarios != null && exampleScenarios.size() > 0;
+            return exampleScenarios != null && exampleScenarios.size() > 0 || streamedExamples != null;
         }
 
         public boolean isPerformable() {
@@ -964,8 +1353,10 @@ public class PerformableTree {
                 if ( hasExamples() ) {
                     context.reporter().beforeExamples(scenario.getSteps(),
                             scenario.getExamplesTable());
-                    for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
-                        exampleScenario.perform(context);
+                    if (streamedExamples != null) {
+                        streamedExamples.perform(context);
+                    } else {
+                        performExamples(context, exampleScenarios);
                     }
                     context.reporter().afterExamples();
                 } else {
@@ -981,7 +1372,9 @@ public class PerformableTree {
 
         @Override
         public void reportFailures(FailureContext context) {
-            if ( hasExamples() ){
+            if (streamedExamples != null) {
+                streamedExamples.reportFailures(context);
+            } else if ( hasExamples() ){
                 for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
                     exampleScenario.reportFailures(context);
                 }
@@ -16,6 +16,8 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public static final String STORY_TIMEOUT_IN_SECS = "STORY_TIMEOUT_IN_SECS";
     public static final String STORY_TIMEOUT_IN_SECS_BY_PATH = "STORY_TIMEOUT_IN_SECS_BY_PATH";
     public static final String FAIL_ON_STORY_TIMEOUT = "FAIL_ON_STORY_TIMEOUT";
+    public static final String BUILD_STORIES_LAZILY = "BUILD_STORIES_LAZILY";
+    public static final String SCHEDULE_LONGEST_STORIES_FIRST = "SCHEDULE_LONGEST_STORIES_FIRST";
     public static final String THREADS = "THREADS";
 
     @Override
@@ -73,6 +75,16 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
         return propertyAs(FAIL_ON_STORY_TIMEOUT, Boolean.class, super.failOnStoryTimeout()); 
 	}
 
+    @Override
+    public boolean buildStoriesLazily() {
+        return propertyAs(BUILD_STORIES_LAZILY, Boolean.class, super.buildStoriesLazily()); 
+    }
+
+    @Override
+    public boolean scheduleLongestStoriesFirst() {
+        return propertyAs(SCHEDULE_LONGEST_STORIES_FIRST, Boolean.class, super.scheduleLongestStoriesFirst()); 
+    }
+
     @Override
     public int threads() {
         return propertyAs(THREADS, Integer.class, super.threads()); 
@@ -113,6 +125,8 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
         .append("verboseFiltering", verboseFiltering())
         .append("storyTimeoutInSecs", storyTimeoutInSecs())
         .append("storyTimeoutInSecsByPath", storyTimeoutInSecsByPath())
+        .append("buildStoriesLazily", buildStoriesLazily())
+        .append("scheduleLongestStoriesFirst", scheduleLongestStoriesFirst())
         .append("threads", threads())
         .toString();        
     }
@@ -18,6 +18,7 @@ public class StoryControls {
     private String storyMetaPrefix = "";
     private String scenarioMetaPrefix = "";
     private boolean skipStoryIfGivenStoryFailed = false;
+    private int examplesThreads = 1;
 
     public StoryControls() {
     }
@@ -62,6 +63,16 @@ public class StoryControls {
         return skipStoryIfGivenStoryFailed;
     }
 
+    /**
+     * Returns the number of threads used to perform the examples of a
+     * scenario, defaulting to 1, i.e. the examples are performed one after
+     * another. The examples are only performed in parallel if the state is
+     * reset before each scenario, as they must be independent of each other.
+     */
+    public int examplesThreads() {
+        return examplesThreads;
+    }
+
     public StoryControls doDryRun(boolean dryRun) {
         this.dryRun = dryRun;
         return this;
@@ -113,6 +124,11 @@ public class StoryControls {
         return this;
     }
 
+    public StoryControls useExamplesThreads(int examplesThreads) {
+        this.examplesThreads = examplesThreads;
+        return this;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
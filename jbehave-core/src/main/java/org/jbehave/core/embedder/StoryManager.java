@@ -1,27 +1,44 @@
 package org.jbehave.core.embedder;
 
 import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.embedder.PerformableTree.PerformableRoot;
+import org.jbehave.core.embedder.PerformableTree.PerformableStory;
 import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.embedder.StoryTimeouts.TimeoutParser;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.StoryReporterBuilder;
 import org.jbehave.core.steps.InjectableStepsFactory;
 import org.jbehave.core.steps.StepCollector.Stage;
 
@@ -29,6 +46,8 @@ import org.jbehave.core.steps.StepCollector.Stage;
  * Manages the execution and outcomes of running stories. While each story is
  * run by the {@link PerformableTree}, the manager is responsible for the concurrent
  * submission and monitoring of their execution via the {@link ExecutorService}.
+ * Stories are collected as soon as they complete, while their timeouts are
+ * enforced by checks scheduled from the start of their execution.
  */
 public class StoryManager {
 
@@ -40,8 +59,12 @@ public class StoryManager {
 	private final PerformableTree performableTree;
 	private final Map<String, RunningStory> runningStories = new HashMap<>();
 	private final Map<MetaFilter, List<Story>> excludedStories = new HashMap<>();
+	private final BlockingQueue<StoryTask> storiesToCheck = new LinkedBlockingQueue<>();
+	private ScheduledExecutorService timeoutScheduler;
 	private RunContext context;
 	private StoryTimeouts timeouts;
+	private boolean releasePerformedStories;
+	private Semaphore storiesToBuild;
 	
 	public StoryManager(Configuration configuration,
 			InjectableStepsFactory stepsFactory,
@@ -61,10 +84,53 @@ public class StoryManager {
 		return performableTree.storyOfPath(configuration, storyPath);
 	}
 
+	/**
+	 * Returns the stories of the given paths, in the same order. If running in
+	 * multiple threads, the stories are loaded and parsed concurrently via the
+	 * executor service, before any of them is submitted to be performed.
+	 * 
+	 * @param storyPaths the List of story paths
+	 * @return The List of Story
+	 */
 	public List<Story> storiesOfPaths(List<String> storyPaths) {
 		List<Story> stories = new ArrayList<>(storyPaths.size());
-		for (String storyPath : storyPaths) {
-			stories.add(storyOfPath(storyPath));
+		if (embedderControls.threads() == 1 || storyPaths.size() < 2) {
+			for (String storyPath : storyPaths) {
+				stories.add(storyOfPath(storyPath));
+			}
+			return stories;
+		}
+		List<Future<Story>> futures = new ArrayList<>(storyPaths.size());
+		try {
+			for (final String storyPath : storyPaths) {
+				futures.add(executorService.submit(new Callable<Story>() {
+					@Override
+					public Story call() {
+						return storyOfPath(storyPath);
+					}
+				}));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					stories.add(futures.get(i).get());
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw new StoryNotLoaded(storyPaths.get(i), cause);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new StoryNotLoaded(storyPaths.get(i), e);
+				}
+			}
+		} finally {
+			for (Future<Story> future : futures) {
+				future.cancel(true);
+			}
 		}
 		return stories;
 	}
@@ -100,11 +166,26 @@ public class StoryManager {
 		context = performableTree.newRunContext(configuration, stepsFactory.createCandidateSteps(),
 				embedderMonitor, filter, failures);
 
-		// add stories
-		performableTree.addStories(context, stories);
+		// add stories, or only before and after stories steps if each story
+		// is to be built just before it is submitted, as threads free up
+		if (embedderControls.buildStoriesLazily()) {
+			performableTree.addBeforeAndAfterStoriesSteps(context);
+			StoryReporterBuilder builder = configuration.storyReporterBuilder();
+			releasePerformedStories = (!builder.hasCrossReference() || builder.crossReference().outputAfterEachStory())
+					&& !builder.hasSurefireReporter();
+			storiesToBuild = new Semaphore(embedderControls.threads());
+		} else {
+			performableTree.addStories(context, stories);
+			releasePerformedStories = false;
+			storiesToBuild = null;
+		}
 
-		// perform stories
-		performStories(context, performableTree, stories);
+		// perform stories, shutting down the examples executor of the run once done
+		try {
+			performStories(context, performableTree, stories);
+		} finally {
+			context.shutdownExamplesExecutor();
+		}
 
 		// collect failures
 		failures.putAll(context.getFailures());
@@ -116,7 +197,10 @@ public class StoryManager {
 		// before stories
 		performableTree.performBeforeOrAfterStories(context, Stage.BEFORE);
 
-		// run stories
+		// run stories, longest first if so required
+		if (embedderControls.scheduleLongestStoriesFirst()) {
+			stories = longestFirst(stories);
+		}
 		runningStories(context, stories);
 		waitUntilAllDoneOrFailed(context);
 		MetaFilter filter = context.filter();
@@ -140,10 +224,59 @@ public class StoryManager {
 
 	private void filterRunning(RunContext context, Story story) {
 		FilteredStory filteredStory = context.filter(story);
+		boolean crossReferenced = crossReferencedAfterEachStory(context);
+		Semaphore storyToBuild = null;
+		if (embedderControls.buildStoriesLazily()) {
+			if (filteredStory.allowed() && storiesToBuild != null) {
+				storyToBuild = storiesToBuild;
+				awaitStoryToBuild(context, story, storyToBuild);
+			}
+			if (filteredStory.allowed() || !releasePerformedStories || crossReferenced) {
+				performableTree.addStory(context, story);
+			}
+		}
 		if (filteredStory.allowed()) {
-			runningStories.put(story.getPath(), runningStory(story));
+			runningStories.put(story.getPath(), submit(enqueuedStory(story), storyToBuild));
 		} else {
 			notAllowedBy(context.getFilter()).add(story);
+			// never submitted, the story is cross-referenced as it is filtered
+			if (crossReferenced) {
+				crossReference(performableTree, context, story);
+				if (embedderControls.buildStoriesLazily() && releasePerformedStories) {
+					performableTree.removeStory(story);
+				}
+			}
+		}
+	}
+
+	private static boolean crossReferencedAfterEachStory(RunContext context) {
+		StoryReporterBuilder builder = context.configuration().storyReporterBuilder();
+		return builder.hasCrossReference() && builder.crossReference().outputAfterEachStory();
+	}
+
+	private static void crossReference(PerformableTree performableTree, RunContext context, Story story) {
+		if (crossReferencedAfterEachStory(context)) {
+			PerformableStory performableStory = performableTree.getRoot().get(story);
+			StoryReporterBuilder builder = context.configuration().storyReporterBuilder();
+			builder.crossReference().serialise(performableStory, builder.outputDirectory());
+		}
+	}
+
+	/**
+	 * Waits until fewer stories than threads are built and not yet performed,
+	 * checking the timeouts of the running stories meanwhile.
+	 */
+	private void awaitStoryToBuild(RunContext context, Story story, Semaphore storyToBuild) {
+		try {
+			while (!storyToBuild.tryAcquire()) {
+				StoryTask task = storiesToCheck.take();
+				if (!task.isDone()) {
+					checkTimeout(context, task);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new StoryExecutionFailed(story.getPath(), e);
 		}
 	}
 
@@ -157,62 +290,100 @@ public class StoryManager {
 	}
 
 	public RunningStory runningStory(Story story) {
-		return submit(new EnqueuedStory(performableTree, context,
-				embedderControls, embedderMonitor, story, timeouts));
-	}
-
-    public void waitUntilAllDoneOrFailed(RunContext context) {
-        if ( runningStories.values().isEmpty() ) {
-        	return;
-        }
-        boolean allDone = false;
-        boolean started = false;
-        while (!allDone || !started) {
-            allDone = true;
-            for (RunningStory runningStory : runningStories.values()) {
-                if ( runningStory.isStarted() ){
-                	started = true;
-                    Story story = runningStory.getStory();
-					Future<ThrowableStory> future = runningStory.getFuture();
-					if (!future.isDone()) {
-						allDone = false;
-						StoryDuration duration = runningStory.getDuration();
-						runningStory.updateDuration();
-						if (duration.timedOut()) {
-							embedderMonitor.storyTimeout(story, duration);
-							context.cancelStory(story, duration);
-							future.cancel(true);
-							if (embedderControls.failOnStoryTimeout()) {
-								throw new StoryExecutionFailed(story.getPath(),
-										new StoryTimedOut(duration));
-							}
-							continue;
-						}
-					} else {
-						try {
-							ThrowableStory throwableStory = future.get();
-							Throwable throwable = throwableStory.getThrowable();
-							if (throwable != null) {
-								context.addFailure(story.getPath(), throwable);
-								if (!embedderControls.ignoreFailureInStories()) {
-									continue;
-								}
-							}
-						} catch (Throwable e) {
-							context.addFailure(story.getPath(), e);
-							if (!embedderControls.ignoreFailureInStories()) {
-								continue;
-							}
-						}
-					}
-                } else {
-                	started = false;
-                	allDone = false;
-                }
-            }
-            tickTock();
-        }
-        writeStoryDurations(runningStories.values());
+		return submit(enqueuedStory(story), null);
+	}
+
+	private EnqueuedStory enqueuedStory(Story story) {
+		return new EnqueuedStory(performableTree, context,
+				embedderControls, embedderMonitor, story, timeouts);
+	}
+
+	/**
+	 * Waits until all running stories are done, then collects their failures.
+	 * Running stories are checked only when notified, i.e. when they complete
+	 * or when their timeout is due, as scheduled from the start of their
+	 * execution.
+	 * 
+	 * @param context the RunContext of the stories
+	 */
+	public void waitUntilAllDoneOrFailed(RunContext context) {
+		if ( runningStories.values().isEmpty() ) {
+			return;
+		}
+		Set<RunningStory> pending = Collections.newSetFromMap(new IdentityHashMap<RunningStory, Boolean>());
+		for (RunningStory runningStory : runningStories.values()) {
+			if (runningStory.isDone()) {
+				storyDone(runningStory);
+			} else {
+				pending.add(runningStory);
+			}
+		}
+		try {
+			while (!pending.isEmpty()) {
+				StoryTask task = storiesToCheck.take();
+				RunningStory runningStory = task.getRunningStory();
+				if (!pending.contains(runningStory)) {
+					continue;
+				}
+				if (runningStory.isDone()) {
+					pending.remove(runningStory);
+					storyDone(runningStory);
+				} else {
+					checkTimeout(context, task);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			storiesToCheck.clear();
+		}
+		// failures are collected once all are done, as the context is shared
+		for (RunningStory runningStory : runningStories.values()) {
+			if (runningStory.isDone()) {
+				collectFailure(context, runningStory);
+			}
+		}
+		writeStoryDurations(runningStories.values());
+	}
+
+	private void storyDone(RunningStory runningStory) {
+		if (runningStory.isStarted()) {
+			runningStory.getDuration().update();
+		}
+	}
+
+	private void collectFailure(RunContext context, RunningStory runningStory) {
+		String storyPath = runningStory.getStory().getPath();
+		try {
+			Throwable throwable = runningStory.getFuture().get().getThrowable();
+			if (throwable != null) {
+				context.addFailure(storyPath, throwable);
+			}
+		} catch (Throwable e) {
+			context.addFailure(storyPath, e);
+		}
+	}
+
+	private void checkTimeout(RunContext context, StoryTask task) {
+		RunningStory runningStory = task.getRunningStory();
+		if (!runningStory.isStarted()) {
+			task.scheduleTimeoutCheck(System.currentTimeMillis());
+			return;
+		}
+		Story story = runningStory.getStory();
+		StoryDuration duration = runningStory.getDuration();
+		runningStory.updateDuration();
+		if (duration.timedOut()) {
+			embedderMonitor.storyTimeout(story, duration);
+			context.cancelStory(story, duration);
+			runningStory.getFuture().cancel(true);
+			if (embedderControls.failOnStoryTimeout()) {
+				throw new StoryExecutionFailed(story.getPath(),
+						new StoryTimedOut(duration));
+			}
+		} else {
+			task.scheduleTimeoutCheck(task.enqueuedStory.getStartedAtMillis());
+		}
 	}
 
 	protected void writeStoryDurations(Collection<RunningStory> runningStories) {
@@ -239,6 +410,55 @@ public class StoryManager {
 		write(storyDurations, "storyDurations.props");
 	}
 
+	/**
+	 * Returns the stories ordered by the durations written by the previous
+	 * run, longest first, so that the longest stories are not left to be run
+	 * last. The stories with no recorded duration are taken to be the longest,
+	 * and keep the order in which they are given, as do stories of the same
+	 * duration.
+	 * 
+	 * @param stories the List of Story to order
+	 * @return The ordered List of Story
+	 */
+	protected List<Story> longestFirst(List<Story> stories) {
+		Properties storyDurations = read("storyDurations.props");
+		final Map<String, Long> durations = new HashMap<>();
+		for (Story story : stories) {
+			String duration = storyDurations.getProperty(story.getPath());
+			try {
+				durations.put(story.getPath(), duration != null ? Long.parseLong(duration) : Long.MAX_VALUE);
+			} catch (NumberFormatException e) {
+				durations.put(story.getPath(), Long.MAX_VALUE);
+			}
+		}
+		List<Story> ordered = new ArrayList<>(stories);
+		Collections.sort(ordered, new Comparator<Story>() {
+			@Override
+			public int compare(Story story1, Story story2) {
+				return durations.get(story2.getPath()).compareTo(durations.get(story1.getPath()));
+			}
+		});
+		return ordered;
+	}
+
+	private Properties read(String name) {
+		Properties p = new Properties();
+		File file = new File(configuration.storyReporterBuilder().outputDirectory(), name);
+		if (file.exists()) {
+			try {
+				Reader input = new FileReader(file);
+				try {
+					p.load(input);
+				} finally {
+					input.close();
+				}
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+		return p;
+	}
+
 	private void write(Properties p, String name) {
 		File outputDirectory = configuration.storyReporterBuilder()
 				.outputDirectory();
@@ -252,15 +472,109 @@ public class StoryManager {
 		}
 	}
 
-	private void tickTock() {
-		try {
-			Thread.sleep(100);
-		} catch (InterruptedException e) {
+	private synchronized RunningStory submit(EnqueuedStory enqueuedStory, Semaphore storyToBuild) {
+		StoryTask task = new StoryTask(enqueuedStory, storyToBuild);
+		executorService.execute(task);
+		return task.getRunningStory();
+	}
+
+	private synchronized ScheduledExecutorService timeoutScheduler() {
+		if (timeoutScheduler == null) {
+			timeoutScheduler = newTimeoutScheduler();
 		}
+		return timeoutScheduler;
 	}
 
-	private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
-		return new RunningStory(enqueuedStory, executorService.submit(enqueuedStory));
+	/**
+	 * Creates the scheduler of the checks of the story timeouts, by default a
+	 * single daemon thread, which is only kept alive while checks are scheduled.
+	 * 
+	 * @return The ScheduledExecutorService
+	 */
+	protected ScheduledExecutorService newTimeoutScheduler() {
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "jbehave-story-timeouts");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		scheduler.setKeepAliveTime(1, TimeUnit.SECONDS);
+		scheduler.allowCoreThreadTimeOut(true);
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+
+	/**
+	 * The task executing an enqueued story, which notifies the manager when
+	 * the story is done and when its timeout is due.
+	 */
+	private class StoryTask extends FutureTask<ThrowableStory> {
+
+		private final EnqueuedStory enqueuedStory;
+		private final RunningStory runningStory;
+		private final long timeoutInSecs;
+		private final Semaphore storyToBuild;
+		private ScheduledFuture<?> timeoutCheck;
+
+		StoryTask(EnqueuedStory enqueuedStory, Semaphore storyToBuild) {
+			super(enqueuedStory);
+			this.enqueuedStory = enqueuedStory;
+			this.storyToBuild = storyToBuild;
+			this.runningStory = new RunningStory(enqueuedStory, this);
+			this.timeoutInSecs = enqueuedStory.getTimeoutInSecs();
+		}
+
+		RunningStory getRunningStory() {
+			return runningStory;
+		}
+
+		@Override
+		public void run() {
+			if (!isDone()) {
+				scheduleTimeoutCheck(System.currentTimeMillis());
+			}
+			super.run();
+		}
+
+		/**
+		 * Schedules the check of the story timeout at the time the story
+		 * duration would first be found to exceed it, if the story has a
+		 * timeout, replacing any check previously scheduled.
+		 */
+		synchronized void scheduleTimeoutCheck(long startedAtMillis) {
+			if (timeoutInSecs == 0 || isDone()) {
+				return;
+			}
+			cancelTimeoutCheck();
+			long delayInMillis = startedAtMillis + (timeoutInSecs + 1) * 1000 - System.currentTimeMillis();
+			timeoutCheck = timeoutScheduler().schedule(new Runnable() {
+				@Override
+				public void run() {
+					storiesToCheck.add(StoryTask.this);
+				}
+			}, Math.max(delayInMillis, 0), TimeUnit.MILLISECONDS);
+		}
+
+		private synchronized void cancelTimeoutCheck() {
+			if (timeoutCheck != null) {
+				timeoutCheck.cancel(false);
+				timeoutCheck = null;
+			}
+		}
+
+		@Override
+		protected void done() {
+			cancelTimeoutCheck();
+			if (releasePerformedStories) {
+				performableTree.removeStory(enqueuedStory.getStory());
+			}
+			if (storyToBuild != null) {
+				storyToBuild.release();
+			}
+			storiesToCheck.add(this);
+		}
 	}
 
 	static class EnqueuedStory implements Callable<ThrowableStory> {
@@ -271,7 +585,8 @@ public class StoryManager {
 		private final EmbedderMonitor embedderMonitor;
 		private final Story story;
 		private final StoryTimeouts timeouts;
-		private long startedAtMillis;
+		private volatile long startedAtMillis;
+		private Long timeoutInSecs;
 
 		public EnqueuedStory(PerformableTree performableTree,
 				RunContext context, EmbedderControls embedderControls,
@@ -298,6 +613,8 @@ public class StoryManager {
 					return new ThrowableStory(story, new StoryExecutionFailed(
 							storyPath, e));
 				}
+			} finally {
+				crossReference(performableTree, context, story);
 			}
 			return new ThrowableStory(story, null);
 		}
@@ -310,8 +627,11 @@ public class StoryManager {
 			return startedAtMillis;
 		}
 
-		public long getTimeoutInSecs() {
-			return timeouts.getTimeoutInSecs(story);
+		public synchronized long getTimeoutInSecs() {
+			if (timeoutInSecs == null) {
+				timeoutInSecs = timeouts.getTimeoutInSecs(story);
+			}
+			return timeoutInSecs;
 		}
 
 	}
@@ -410,6 +730,15 @@ public class StoryManager {
 		}
 	}
 
+	@SuppressWarnings("serial")
+	public static class StoryNotLoaded extends RuntimeException {
+
+		public StoryNotLoaded(String storyPath, Throwable cause) {
+			super("Story " + storyPath + " could not be loaded", cause);
+		}
+
+	}
+
 	public static class StoryOutcome {
 		private String path;
 		private Boolean done;
@@ -66,6 +66,16 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         return delegate.failOnStoryTimeout();
 	}
 
+    @Override
+    public boolean buildStoriesLazily() {
+        return delegate.buildStoriesLazily();
+    }
+
+    @Override
+    public boolean scheduleLongestStoriesFirst() {
+        return delegate.scheduleLongestStoriesFirst();
+    }
+
 	@Override
     public int threads() {
         return delegate.threads();
@@ -116,6 +126,16 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         throw notAllowed();
     }
 
+    @Override
+    public EmbedderControls doBuildStoriesLazily(boolean buildStoriesLazily) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        throw notAllowed();
+    }
+
     @Override
     public EmbedderControls useThreads(int threads) {
         throw notAllowed();
@@ -0,0 +1,127 @@
+package org.jbehave.core.embedder.executors;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.jbehave.core.embedder.EmbedderControls;
+
+/**
+ * <p>
+ * Creates instances of {@link ExecutorService} that run each story in a thread
+ * of its own, rather than in one of a fixed number of pooled threads, suited to
+ * stories that mostly wait on I/O. Virtual threads are used if provided by the
+ * JVM, via <code>Executors.newVirtualThreadPerTaskExecutor()</code>.
+ * </p>
+ * <p>
+ * The number of stories run at once is limited to the
+ * {@link EmbedderControls#threads()} by default, or as specified, or unlimited
+ * if the maximum specified is not positive. With virtual threads, the limit is
+ * enforced by a {@link Semaphore}, and the stories waiting for a permit are not
+ * yet started, so their timeouts do not run. Else, as the waiting platform
+ * threads would not be cheap, the stories are run by a pool with as many
+ * threads as the limit, as by {@link Executors#newFixedThreadPool(int)}, or by
+ * {@link Executors#newCachedThreadPool()} if unlimited.
+ * </p>
+ */
+public class VirtualThreadExecutors implements ExecutorServiceFactory {
+
+    private final Integer maxConcurrentStories;
+
+    public VirtualThreadExecutors() {
+        this.maxConcurrentStories = null;
+    }
+
+    public VirtualThreadExecutors(int maxConcurrentStories) {
+        this.maxConcurrentStories = maxConcurrentStories;
+    }
+
+    @Override
+    public ExecutorService create(EmbedderControls controls) {
+        int permits = maxConcurrentStories != null ? maxConcurrentStories : controls.threads();
+        ExecutorService executorService = virtualThreadPerTaskExecutor();
+        if (executorService == null) {
+            return permits > 0 ? Executors.newFixedThreadPool(permits) : Executors.newCachedThreadPool();
+        }
+        if (permits > 0) {
+            return new BoundedExecutorService(executorService, permits);
+        }
+        return executorService;
+    }
+
+    private static ExecutorService virtualThreadPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            // virtual threads not provided by the JVM
+        } catch (IllegalAccessException e) {
+            // virtual threads not accessible
+        } catch (InvocationTargetException e) {
+            // virtual threads not enabled
+        }
+        return null;
+    }
+
+    /**
+     * Runs the tasks in the delegate executor of virtual threads, each once it
+     * has acquired one of the permits.
+     */
+    private static class BoundedExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        BoundedExecutorService(ExecutorService delegate, int permits) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(permits, true);
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate.execute(new Runnable() {
+                @Override
+                public void run() {
+                    permits.acquireUninterruptibly();
+                    try {
+                        command.run();
+                    } finally {
+                        permits.release();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.jbehave.core.embedder.executors;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jbehave.core.embedder.EmbedderControls;
+
+/**
+ * Creates instances of {@link ForkJoinPool}, with the parallelism of the
+ * {@link EmbedderControls#threads()}. The pool is in asynchronous mode, so
+ * stories are taken by any idle thread in the order they are submitted, which
+ * makes it a good match for stories scheduled longest first, as by
+ * {@link EmbedderControls#doScheduleLongestStoriesFirst(boolean)}.
+ */
+public class WorkStealingExecutors implements ExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(EmbedderControls controls) {
+        return new ForkJoinPool(controls.threads(), ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+    }
+
+}
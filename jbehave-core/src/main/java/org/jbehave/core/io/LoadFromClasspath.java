@@ -2,6 +2,8 @@ package org.jbehave.core.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -11,7 +13,7 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 /**
  * Loads story resources from classpath
  */
-public class LoadFromClasspath implements StoryLoader {
+public class LoadFromClasspath implements StoryLoader, StreamingResourceLoader {
 
     private final Charset charset;
 
@@ -71,6 +73,11 @@ public class LoadFromClasspath implements StoryLoader {
         }
     }
 
+    @Override
+    public Reader openResource(String resourcePath) {
+        return new InputStreamReader(resourceAsStream(resourcePath), charset);
+    }
+
     @Override
     public String loadStoryAsText(String storyPath) {
         return loadResourceAsText(storyPath);
@@ -2,12 +2,15 @@ package org.jbehave.core.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Loads story resources from URL
  */
-public class LoadFromURL implements ResourceLoader, StoryLoader {
+public class LoadFromURL implements ResourceLoader, StoryLoader, StreamingResourceLoader {
 
     @Override
     public String loadResourceAsText(String resourcePath) {
@@ -18,6 +21,15 @@ public class LoadFromURL implements ResourceLoader, StoryLoader {
         }
     }
 
+    @Override
+    public Reader openResource(String resourcePath) {
+        try {
+            return new InputStreamReader(resourceAsStream(resourcePath), StandardCharsets.UTF_8);
+        } catch (Exception cause) {
+            throw new InvalidStoryResource(resourcePath, cause);
+        }
+    }
+
     @Override
     public String loadStoryAsText(String storyPath) {
         return loadResourceAsText(storyPath);
@@ -0,0 +1,21 @@
+package org.jbehave.core.io;
+
+import java.io.Reader;
+
+/**
+ * A {@link ResourceLoader} which can also open the resources as a
+ * {@link Reader}, so that their text can be read as it is needed rather than
+ * loaded as a whole.
+ */
+public interface StreamingResourceLoader extends ResourceLoader {
+
+    /**
+     * Opens the resource for reading. The caller is responsible for closing
+     * the reader.
+     * 
+     * @param resourcePath the resource path
+     * @return The Reader of the resource text
+     */
+    Reader openResource(String resourcePath);
+
+}
@@ -1,25 +1,38 @@
 package org.jbehave.core.model;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.annotations.Parameter;
+import org.jbehave.core.io.InvalidStoryResource;
 import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.io.StreamingResourceLoader;
 import org.jbehave.core.model.TableTransformers.TableTransformer;
 import org.jbehave.core.steps.ChainedRow;
 import org.jbehave.core.steps.ConvertedParameters;
@@ -154,6 +167,18 @@ import static java.util.regex.Pattern.DOTALL;
  * as in the header, if a row has less fields, the remaining are filled with
  * empty values, if it has more, the fields are ignored.
  * <p>
+ * The values are held by column, each row being an array of values indexed by
+ * the position of its column, and the rows are returned as maps which read and
+ * write the values in place.
+ * </p>
+ * <p>
+ * A table too large to be held in memory can be streamed from a resource, via
+ * a {@link StreamingResourceLoader}: only its properties and headers are read
+ * when created, while its rows are read from the resource each time they are
+ * iterated over. The rows of a streamed table cannot be modified, and the
+ * transformers, which need the whole table as text, are not supported: a
+ * table specifying a transformer is read in memory.
+ * </p>
  */
 public class ExamplesTable {
     private static final Map<String, String> EMPTY_MAP = Collections.emptyMap();
@@ -172,7 +197,7 @@ public class ExamplesTable {
     private final TableTransformers tableTransformers;
     private final Row defaults;
     private final List<String> headers = new ArrayList<>();
-    private final List<Map<String, String>> data = new ArrayList<>();
+    private Rows data = new TableData();
     private final Deque<ExamplesTableProperties> propertiesList = new LinkedList<>();
 
     private Map<String, String> namedParameters = new HashMap<>();
@@ -204,8 +229,40 @@ public class ExamplesTable {
         parseByRows(transformedTable);
     }
 
+    /**
+     * Creates a table streamed from the resource, whose rows are read as they
+     * are needed.
+     */
+    public ExamplesTable(StreamingResourceLoader resourceLoader, String resourcePath, String headerSeparator,
+            String valueSeparator, String ignorableSeparator, ParameterConverters parameterConverters,
+            ParameterControls parameterControls, TableTransformers tableTransformers) {
+        this.tableAsString = resourcePath;
+        this.parameterConverters = parameterConverters;
+        this.parameterControls = parameterControls;
+        this.tableTransformers = tableTransformers;
+        this.defaults = new ConvertedParameters(EMPTY_MAP, parameterConverters);
+        StreamedRows rows = new StreamedRows(resourceLoader, resourcePath, headerSeparator, valueSeparator,
+                ignorableSeparator);
+        BufferedReader reader = rows.open(propertiesList);
+        try {
+            if (hasTransformers()) {
+                parseByRows(applyTransformers(IOUtils.toString(reader).trim()));
+            } else {
+                String header = rows.nextRow(reader, getExampleTableProperties());
+                if (header != null) {
+                    headers.addAll(TableUtils.parseRow(header, true, getExampleTableProperties()));
+                }
+                data = rows.withHeaders(headers, getExampleTableProperties());
+            }
+        } catch (IOException e) {
+            throw new InvalidStoryResource(resourcePath, e);
+        } finally {
+            StreamedRows.close(reader);
+        }
+    }
+
     private ExamplesTable(ExamplesTable other, Row defaults) {
-        this.data.addAll(other.data);
+        this.data = other.data.copy();
         this.tableAsString = other.tableAsString;
         this.parameterConverters = other.parameterConverters;
         this.tableTransformers = other.tableTransformers;
@@ -229,6 +286,15 @@ public class ExamplesTable {
         return tableWithoutProperties;
     }
 
+    private boolean hasTransformers() {
+        for (ExamplesTableProperties properties : propertiesList) {
+            if (properties.getTransformer() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String applyTransformers(String tableAsString) {
         String transformedTable = tableAsString;
         for (ExamplesTableProperties properties : propertiesList) {
@@ -242,23 +308,36 @@ public class ExamplesTable {
 
     private void parseByRows(String tableAsString) {
         String[] rows = tableAsString.split(ROW_SEPARATOR_PATTERN);
+        TableData data = new TableData();
+        int[] columnIndices = null;
+        // values repeated in the table are only held once
+        Map<String, String> values = new HashMap<>();
         for (String row : rows) {
             if (row.startsWith(getExampleTableProperties().getIgnorableSeparator()) || row.isEmpty()) {
                 // skip ignorable or empty lines
                 continue;
             } else if (headers.isEmpty()) {
                 headers.addAll(TableUtils.parseRow(row, true, getExampleTableProperties()));
+                columnIndices = new int[headers.size()];
+                for (int column = 0; column < headers.size(); column++) {
+                    columnIndices[column] = data.columnIndex(headers.get(column));
+                }
             } else {
                 List<String> columns = TableUtils.parseRow(row, false, getExampleTableProperties());
-                Map<String, String> map = new LinkedHashMap<>();
-                for (int column = 0; column < columns.size(); column++) {
-                    if (column < headers.size()) {
-                        map.put(headers.get(column), columns.get(column));
+                String[] rowValues = new String[data.columnCount()];
+                for (int column = 0; column < columns.size() && column < columnIndices.length; column++) {
+                    String value = columns.get(column);
+                    String previous = values.get(value);
+                    if (previous == null) {
+                        values.put(value, value);
+                        previous = value;
                     }
+                    rowValues[columnIndices[column]] = previous;
                 }
-                data.add(map);
+                data.addRow(rowValues);
             }
         }
+        this.data = data;
     }
 
     public ExamplesTable withDefaults(Parameters defaults) {
@@ -271,6 +350,10 @@ public class ExamplesTable {
     }
 
     public ExamplesTable withRowValues(int row, Map<String, String> values) {
+        if (isStreamed()) {
+            throw new UnsupportedOperationException("Rows of table streamed from " + tableAsString
+                    + " cannot be modified");
+        }
         getRow(row).putAll(values);
         for (String header : values.keySet()) {
             if (!headers.contains(header)) {
@@ -281,8 +364,16 @@ public class ExamplesTable {
     }
 
     public ExamplesTable withRows(List<Map<String, String>> values) {
-        this.data.clear();
-        this.data.addAll(values);
+        // the values may be rows of this table, so are read before replacing them
+        TableData updated = new TableData();
+        for (Map<String, String> row : values) {
+            String[] rowValues = new String[0];
+            for (Entry<String, String> entry : row.entrySet()) {
+                rowValues = TableData.withValue(rowValues, updated.columnIndex(entry.getKey()), entry.getValue());
+            }
+            updated.addRow(rowValues);
+        }
+        this.data = updated;
         this.headers.clear();
         this.headers.addAll(values.get(0).keySet());
         return this;
@@ -304,12 +395,13 @@ public class ExamplesTable {
         if (row > data.size() - 1) {
             throw new RowNotFound(row);
         }
-        Map<String, String> values = data.get(row);
-        if (headers.size() != values.keySet().size()) {
-            for (String header : headers) {
-                if (!values.containsKey(header)) {
-                    values.put(header, EMPTY_VALUE);
-                }
+        return withAllHeaders(data.get(row));
+    }
+
+    private Map<String, String> withAllHeaders(Map<String, String> values) {
+        for (String header : headers) {
+            if (!values.containsKey(header)) {
+                values.put(header, EMPTY_VALUE);
             }
         }
         return values;
@@ -325,6 +417,9 @@ public class ExamplesTable {
     }
 
     private Map<String, String> replaceNamedParameters(Map<String, String> row) {
+        if (namedParameters.isEmpty()) {
+            return row;
+        }
         Map<String, String> replaced = new LinkedHashMap<>();
         for (Entry<String, String> rowEntry : row.entrySet()) {
             String replacedValue = rowEntry.getValue();
@@ -341,11 +436,44 @@ public class ExamplesTable {
         return data.size();
     }
 
+    /**
+     * Returns whether the rows of the table are streamed from a resource.
+     */
+    public boolean isStreamed() {
+        return data.isStreamed();
+    }
+
     public boolean metaByRow(){
         return getExampleTableProperties().isMetaByRow();
     }
 
+    /**
+     * Returns the rows of the table. The rows of a streamed table are read as
+     * they are iterated over, rather than held in the list, by iterators which
+     * are {@link Closeable}, so that the resource is closed if the iteration
+     * stops before the last row.
+     * 
+     * @return The List of rows
+     */
     public List<Map<String, String>> getRows() {
+        if (isStreamed()) {
+            return new AbstractList<Map<String, String>>() {
+                @Override
+                public Map<String, String> get(int row) {
+                    return getRow(row);
+                }
+
+                @Override
+                public int size() {
+                    return getRowCount();
+                }
+
+                @Override
+                public Iterator<Map<String, String>> iterator() {
+                    return new RowsIterator(data.iterator());
+                }
+            };
+        }
         List<Map<String, String>> rows = new ArrayList<>();
         for (int row = 0; row < getRowCount(); row++) {
             rows.add(getRow(row));
@@ -353,6 +481,15 @@ public class ExamplesTable {
         return rows;
     }
 
+    /**
+     * Closes the resource read by the rows of a streamed table got by index,
+     * once no more rows are needed. Getting a row afterwards reads the
+     * resource again.
+     */
+    public void closeRows() {
+        data.close();
+    }
+
     public List<Parameters> getRowsAsParameters() {
         return getRowsAsParameters(false);
     }
@@ -468,6 +605,482 @@ public class ExamplesTable {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
     }
 
+    /**
+     * Iterates over the rows of a streamed table with all the headers.
+     */
+    private class RowsIterator implements Iterator<Map<String, String>>, Closeable {
+
+        private final Iterator<Map<String, String>> rows;
+
+        RowsIterator(Iterator<Map<String, String>> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public Map<String, String> next() {
+            return withAllHeaders(rows.next());
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (rows instanceof Closeable) {
+                ((Closeable) rows).close();
+            }
+        }
+    }
+
+    /**
+     * The rows of the table, listed as maps of their values.
+     */
+    private abstract static class Rows extends AbstractList<Map<String, String>> {
+
+        abstract Rows copy();
+
+        boolean isStreamed() {
+            return false;
+        }
+
+        void close() {
+            // only the streamed rows hold a resource
+        }
+    }
+
+    /**
+     * The values of the table, held as an array of values by row, indexed by
+     * the position of their column. A <code>null</code> value is a value not
+     * set in the row, while a value set to <code>null</code> is held as
+     * {@link #NULL}. The rows are listed as maps of their values.
+     */
+    private static class TableData extends Rows {
+
+        private static final String NULL = new String();
+
+        private final Map<String, Integer> columnIndices;
+        private final List<String> columns;
+        private final List<String[]> rows;
+
+        TableData() {
+            this(new HashMap<String, Integer>(), new ArrayList<String>(), new ArrayList<String[]>());
+        }
+
+        private TableData(Map<String, Integer> columnIndices, List<String> columns, List<String[]> rows) {
+            this.columnIndices = columnIndices;
+            this.columns = columns;
+            this.rows = rows;
+        }
+
+        @Override
+        TableData copy() {
+            return new TableData(new HashMap<>(columnIndices), new ArrayList<>(columns), new ArrayList<>(rows));
+        }
+
+        int columnIndex(String column) {
+            Integer index = columnIndices.get(column);
+            if (index == null) {
+                index = columns.size();
+                columnIndices.put(column, index);
+                columns.add(column);
+            }
+            return index;
+        }
+
+        int existingColumnIndex(Object column) {
+            Integer index = columnIndices.get(column);
+            return index != null ? index : -1;
+        }
+
+        String column(int index) {
+            return columns.get(index);
+        }
+
+        int columnCount() {
+            return columns.size();
+        }
+
+        void addRow(String[] row) {
+            rows.add(row);
+        }
+
+        @Override
+        public Map<String, String> get(int row) {
+            return new RowValues(this, row);
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+
+        String value(int row, int column) {
+            String[] values = rows.get(row);
+            return column >= 0 && column < values.length ? values[column] : null;
+        }
+
+        String setValue(int row, int column, String value) {
+            String[] values = rows.get(row);
+            String previous = column < values.length ? values[column] : null;
+            rows.set(row, withValue(values, column, value));
+            return previous;
+        }
+
+        static String[] withValue(String[] values, int column, String value) {
+            String[] updated = column < values.length ? values : Arrays.copyOf(values, column + 1);
+            updated[column] = value;
+            return updated;
+        }
+    }
+
+    /**
+     * The rows of a table streamed from a resource. The rows are read again
+     * from the resource each time they are iterated over, while the rows got
+     * by index are read by a cursor moving forward, so that getting the rows
+     * in order reads the resource once. The iterators are {@link Closeable},
+     * so that the resource can be closed before all the rows are read.
+     */
+    private static class StreamedRows extends Rows {
+
+        private final StreamingResourceLoader resourceLoader;
+        private final String resourcePath;
+        private final String headerSeparator;
+        private final String valueSeparator;
+        private final String ignorableSeparator;
+        private List<String> headers;
+        private ExamplesTableProperties properties;
+        private int size = -1;
+        private BufferedReader cursor;
+        private int cursorRow;
+        private String cursorValues;
+
+        StreamedRows(StreamingResourceLoader resourceLoader, String resourcePath, String headerSeparator,
+                String valueSeparator, String ignorableSeparator) {
+            this.resourceLoader = resourceLoader;
+            this.resourcePath = resourcePath;
+            this.headerSeparator = headerSeparator;
+            this.valueSeparator = valueSeparator;
+            this.ignorableSeparator = ignorableSeparator;
+        }
+
+        StreamedRows withHeaders(List<String> headers, ExamplesTableProperties properties) {
+            this.headers = new ArrayList<>(headers);
+            this.properties = properties;
+            return this;
+        }
+
+        @Override
+        StreamedRows copy() {
+            return this;
+        }
+
+        @Override
+        boolean isStreamed() {
+            return true;
+        }
+
+        /**
+         * Opens the resource, reading the inlined properties which precede
+         * the table.
+         */
+        BufferedReader open(Deque<ExamplesTableProperties> propertiesList) {
+            BufferedReader reader = new BufferedReader(resourceLoader.openResource(resourcePath));
+            try {
+                int c;
+                while (true) {
+                    do {
+                        reader.mark(1);
+                        c = reader.read();
+                    } while (c != -1 && Character.isWhitespace(c));
+                    if (c != '{') {
+                        if (c != -1) {
+                            reader.reset();
+                        }
+                        break;
+                    }
+                    StringBuilder propertiesAsString = new StringBuilder();
+                    while ((c = reader.read()) != -1 && c != '}') {
+                        propertiesAsString.append((char) c);
+                    }
+                    propertiesList.add(new ExamplesTableProperties(propertiesAsString.toString(), headerSeparator,
+                            valueSeparator, ignorableSeparator));
+                }
+            } catch (IOException e) {
+                close(reader);
+                throw new InvalidStoryResource(resourcePath, e);
+            }
+            if (propertiesList.isEmpty()) {
+                propertiesList.add(new ExamplesTableProperties("", headerSeparator, valueSeparator,
+                        ignorableSeparator));
+            }
+            return reader;
+        }
+
+        String nextRow(BufferedReader reader, ExamplesTableProperties properties) throws IOException {
+            String row;
+            while ((row = reader.readLine()) != null) {
+                if (!row.startsWith(properties.getIgnorableSeparator()) && !row.isEmpty()) {
+                    return row;
+                }
+            }
+            return null;
+        }
+
+        private BufferedReader openRows() {
+            BufferedReader reader = open(new LinkedList<ExamplesTableProperties>());
+            try {
+                nextRow(reader, properties);
+            } catch (IOException e) {
+                close(reader);
+                throw new InvalidStoryResource(resourcePath, e);
+            }
+            return reader;
+        }
+
+        private String nextRow(BufferedReader reader) {
+            try {
+                String row = nextRow(reader, properties);
+                if (row == null) {
+                    close(reader);
+                }
+                return row;
+            } catch (IOException e) {
+                close(reader);
+                throw new InvalidStoryResource(resourcePath, e);
+            }
+        }
+
+        private Map<String, String> valuesOf(String row) {
+            List<String> columns = TableUtils.parseRow(row, false, properties);
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int column = 0; column < columns.size() && column < headers.size(); column++) {
+                values.put(headers.get(column), columns.get(column));
+            }
+            return values;
+        }
+
+        @Override
+        public synchronized int size() {
+            if (size < 0) {
+                int count = 0;
+                BufferedReader reader = openRows();
+                while (nextRow(reader) != null) {
+                    count++;
+                }
+                size = count;
+            }
+            return size;
+        }
+
+        @Override
+        public synchronized Map<String, String> get(int row) {
+            if (cursorValues != null && row == cursorRow - 1) {
+                return valuesOf(cursorValues);
+            }
+            if (cursor == null || row < cursorRow) {
+                close(cursor);
+                cursor = openRows();
+                cursorRow = 0;
+            }
+            while (cursorRow <= row) {
+                cursorValues = nextRow(cursor);
+                if (cursorValues == null) {
+                    cursor = null;
+                    throw new IndexOutOfBoundsException(Integer.toString(row));
+                }
+                cursorRow++;
+            }
+            return valuesOf(cursorValues);
+        }
+
+        @Override
+        public Iterator<Map<String, String>> iterator() {
+            return new StreamedRowsIterator(this, openRows());
+        }
+
+        /**
+         * Closes the cursor of the rows got by index, if open. Getting a row
+         * by index afterwards opens the resource again.
+         */
+        @Override
+        synchronized void close() {
+            close(cursor);
+            cursor = null;
+            cursorRow = 0;
+            cursorValues = null;
+        }
+
+        @Override
+        public String toString() {
+            return "rows streamed from " + resourcePath;
+        }
+
+        static void close(BufferedReader reader) {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // closing the resource only
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterates over the rows streamed from a resource, closing the resource
+     * once the last row is read or when closed.
+     */
+    private static class StreamedRowsIterator implements Iterator<Map<String, String>>, Closeable {
+
+        private final StreamedRows rows;
+        private final BufferedReader reader;
+        private String next;
+
+        StreamedRowsIterator(StreamedRows rows, BufferedReader reader) {
+            this.rows = rows;
+            this.reader = reader;
+            this.next = rows.nextRow(reader);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map<String, String> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map<String, String> values = rows.valuesOf(next);
+            next = rows.nextRow(reader);
+            return values;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            next = null;
+            StreamedRows.close(reader);
+        }
+    }
+
+    /**
+     * The values of a row, read and written in place in the table data.
+     */
+    private static class RowValues extends AbstractMap<String, String> {
+
+        private final TableData data;
+        private final int row;
+
+        RowValues(TableData data, int row) {
+            this.data = data;
+            this.row = row;
+        }
+
+        @Override
+        public String get(Object key) {
+            return valueOf(data.value(row, data.existingColumnIndex(key)));
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return data.value(row, data.existingColumnIndex(key)) != null;
+        }
+
+        @Override
+        public String put(String key, String value) {
+            return valueOf(data.setValue(row, data.columnIndex(key), value != null ? value : TableData.NULL));
+        }
+
+        @Override
+        public String remove(Object key) {
+            int column = data.existingColumnIndex(key);
+            return column >= 0 ? valueOf(data.setValue(row, column, null)) : null;
+        }
+
+        private String valueOf(String value) {
+            return value != TableData.NULL ? value : null;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new RowIterator();
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (int column = 0; column < data.columnCount(); column++) {
+                        if (data.value(row, column) != null) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+
+        private class RowIterator implements Iterator<Entry<String, String>> {
+
+            private int next = nextColumn(0);
+            private int last = -1;
+
+            private int nextColumn(int from) {
+                int column = from;
+                while (column < data.columnCount() && data.value(row, column) == null) {
+                    column++;
+                }
+                return column;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < data.columnCount();
+            }
+
+            @Override
+            public Entry<String, String> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = nextColumn(next + 1);
+                final int column = last;
+                return new SimpleEntry<String, String>(data.column(column), valueOf(data.value(row, column))) {
+                    @Override
+                    public String setValue(String value) {
+                        super.setValue(value);
+                        return put(getKey(), value);
+                    }
+                };
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                data.setValue(row, last, null);
+                last = -1;
+            }
+        }
+    }
+
     @SuppressWarnings("serial")
     public static class RowNotFound extends RuntimeException {
         public RowNotFound(int row) {
@@ -4,6 +4,7 @@ import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.io.ResourceLoader;
+import org.jbehave.core.io.StreamingResourceLoader;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.ParameterConverters;
 
@@ -16,7 +17,9 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * <li>table text input, i.e. any input that contains a
  * {@link Keywords#examplesTableHeaderSeparator()}</li>
  * <li>resource path input, the table as text is loaded via the
- * {@link ResourceLoader}.</li>
+ * {@link ResourceLoader}, or, if {@link #useStreamedResources(boolean)} and
+ * the loader is a {@link StreamingResourceLoader}, the table rows are
+ * streamed from the resource as they are needed.</li>
  * </ul>
  * Factory also supports optional specification of {@link ParameterConverters}
  * to allow the ExamplesTable to convert row values.
@@ -35,6 +38,7 @@ public class ExamplesTableFactory {
     private final ParameterConverters parameterConverters;
     private final ParameterControls parameterControls;
     private final TableTransformers tableTransformers;
+    private boolean streamedResources;
 
     public ExamplesTableFactory(ResourceLoader resourceLoader, TableTransformers tableTransformers) {
         this(new LocalizedKeywords(), resourceLoader, tableTransformers);
@@ -72,6 +76,11 @@ public class ExamplesTableFactory {
         String tableAsString;
         if (isBlank(input) || isTable(input)) {
             tableAsString = input;
+        } else if (streamedResources && resourceLoader instanceof StreamingResourceLoader) {
+            return new ExamplesTable((StreamingResourceLoader) resourceLoader, input.trim(),
+                    keywords.examplesTableHeaderSeparator(), keywords.examplesTableValueSeparator(),
+                    keywords.examplesTableIgnorableSeparator(), parameterConverters, parameterControls,
+                    tableTransformers);
         } else {
             tableAsString = resourceLoader.loadResourceAsText(input.trim());
         }
@@ -86,6 +95,14 @@ public class ExamplesTableFactory {
                 || ExamplesTable.INLINED_PROPERTIES_PATTERN.matcher(trimmedInput).matches();
     }
 
+    public void useStreamedResources(boolean streamedResources) {
+        this.streamedResources = streamedResources;
+    }
+
+    public boolean streamedResources() {
+        return streamedResources;
+    }
+
     public void useKeywords(Keywords keywords){
         this.keywords = keywords;
     }
@@ -5,18 +5,24 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.i18n.LocalizedKeywords;
 
 import static java.util.regex.Pattern.DOTALL;
 import static java.util.regex.Pattern.compile;
 
+/**
+ * Base for the parsers using the keywords to find the textual elements. As the
+ * keywords of a parser do not change, the patterns built from them are
+ * compiled once, when the parser is created.
+ */
 abstract class AbstractRegexParser {
 
     protected static final String NONE = "";
 
     private final Keywords keywords;
+    private final Pattern findingStepStart;
+    private final Pattern findingStepEnd;
 
     protected AbstractRegexParser() {
         this(new LocalizedKeywords());
@@ -24,16 +30,18 @@ abstract class AbstractRegexParser {
 
     protected AbstractRegexParser(Keywords keywords) {
         this.keywords = keywords;
+        this.findingStepStart = compile(concatenateInitialStartingWords() + "\\s", DOTALL);
+        this.findingStepEnd = compile(concatenateFollowingStartingWords() + "|\\n" + keywords.examplesTable(), DOTALL);
     }
 
     protected Keywords keywords() {
         return keywords;
     }
 
-    protected List<String> splitElements(String text, String keyword) {
+    protected List<String> splitElements(String text, Pattern byKeyword, String keyword) {
         List<String> elements = new ArrayList<>();
         StringBuilder element = new StringBuilder();
-        String[] elementsAsText = text.split(keyword);
+        String[] elementsAsText = byKeyword.split(text);
         for (int i = 0; i < elementsAsText.length; i++)
         {
             String elementAsText = elementsAsText[i];
@@ -59,8 +67,8 @@ abstract class AbstractRegexParser {
     }
 
     private boolean isLastLineNotComment(String elementAsText) {
-        String[] elementLines = elementAsText.split("\\r?\\n", -1);
-        return !elementLines[elementLines.length - 1].startsWith(keywords.ignorable());
+        String lastLine = elementAsText.substring(elementAsText.lastIndexOf('\n') + 1);
+        return !lastLine.startsWith(keywords.ignorable());
     }
 
     protected String startingWithNL(String text) {
@@ -70,27 +78,40 @@ abstract class AbstractRegexParser {
         return text;
     }
 
+    /**
+     * Finds the steps in a single pass over the text: each step starts on a
+     * new line with a starting word and ends, trailing whitespace excluded,
+     * where the next step or the examples table starts, or at the end of the
+     * text.
+     * 
+     * @param stepsAsText the text of the steps
+     * @return The List of steps found
+     */
     protected List<String> findSteps(String stepsAsText) {
-        Matcher matcher = findingSteps().matcher(stepsAsText);
+        Matcher starting = findingStepStart.matcher(stepsAsText);
+        Matcher ending = findingStepEnd.matcher(stepsAsText);
         List<String> steps = new ArrayList<>();
         int startAt = 0;
-        while (matcher.find(startAt)) {
-            steps.add(StringUtils.substringAfter(matcher.group(1), "\n"));
-            startAt = matcher.start(4);
+        while (startAt < stepsAsText.length() && starting.find(startAt)) {
+            int stepStart = starting.start() + 1;
+            int textStart = starting.end();
+            int stepEnd = ending.find(textStart) ? ending.start() : stepsAsText.length();
+            startAt = stepEnd;
+            while (stepEnd > textStart && isWhitespace(stepsAsText.charAt(stepEnd - 1))) {
+                stepEnd--;
+            }
+            steps.add(stepsAsText.substring(stepStart, stepEnd));
         }
         return steps;
     }
 
-    // Regex Patterns
-
-    private Pattern findingSteps() {
-        String initialStartingWords = concatenateInitialStartingWords();
-        String followingStartingWords = concatenateFollowingStartingWords();
-        return compile(
-                "((" + initialStartingWords + ")\\s(.)*?)\\s*(\\Z|" + followingStartingWords + "|\\n"
-                        + keywords().examplesTable() + ")", DOTALL);
+    private static boolean isWhitespace(char c) {
+        // as matched by \s
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
+    // Regex Patterns
+
     protected String concatenateInitialStartingWords() {
         return concatenateStartingWords("");
     }
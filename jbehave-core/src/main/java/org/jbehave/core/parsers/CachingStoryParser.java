@@ -0,0 +1,225 @@
+package org.jbehave.core.parsers;
+
+import static java.util.Arrays.asList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.RegexStoryParser.ScenarioElements;
+import org.jbehave.core.parsers.RegexStoryParser.StoryElements;
+
+/**
+ * <p>
+ * Decorates a {@link RegexStoryParser}, caching the textual elements found in
+ * the stories by story path, hash of the story text and parsing keywords, so
+ * that unchanged stories are parsed only once.
+ * </p>
+ * <p>
+ * The cache is held in memory and, if a cache directory is provided, in a
+ * compact format on disk, so that the stories unchanged since the previous run
+ * are not parsed again. A new story, with its own scenarios and examples
+ * tables, is created from the cached elements each time it is requested, so
+ * that the stories are not shared between callers and the examples tables are
+ * created with the current settings of the parser.
+ * </p>
+ */
+public class CachingStoryParser implements StoryParser {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String ENTRY_EXTENSION = ".story.bin";
+
+    private final RegexStoryParser delegate;
+    private final File cacheDirectory;
+    private final List<String> parsingKeywords;
+    private final ConcurrentMap<String, StoryElements> stories = new ConcurrentHashMap<>();
+
+    public CachingStoryParser(RegexStoryParser delegate) {
+        this(delegate, null);
+    }
+
+    public CachingStoryParser(RegexStoryParser delegate, File cacheDirectory) {
+        this.delegate = delegate;
+        this.cacheDirectory = cacheDirectory;
+        this.parsingKeywords = parsingKeywords(delegate.keywords());
+    }
+
+    @Override
+    public Story parseStory(String storyAsText) {
+        return parseStory(storyAsText, null);
+    }
+
+    @Override
+    public Story parseStory(String storyAsText, String storyPath) {
+        String key = keyOf(storyAsText, storyPath);
+        StoryElements elements = stories.get(key);
+        if (elements == null) {
+            elements = cacheDirectory != null ? elementsWithCacheDirectory(storyAsText, key)
+                    : delegate.storyElementsOf(storyAsText);
+            StoryElements cached = stories.putIfAbsent(key, elements);
+            if (cached != null) {
+                elements = cached;
+            }
+        }
+        return delegate.storyOf(elements, storyPath);
+    }
+
+    public void clear() {
+        stories.clear();
+    }
+
+    private StoryElements elementsWithCacheDirectory(String storyAsText, String key) {
+        File entry = new File(cacheDirectory, key + ENTRY_EXTENSION);
+        StoryElements elements = read(entry);
+        if (elements == null) {
+            elements = delegate.storyElementsOf(storyAsText);
+            write(elements, entry);
+        }
+        return elements;
+    }
+
+    private String keyOf(String storyAsText, String storyPath) {
+        MessageDigest digest = sha256();
+        for (String keyword : parsingKeywords) {
+            update(digest, keyword);
+        }
+        update(digest, storyPath != null ? storyPath : "");
+        update(digest, storyAsText);
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    private static List<String> parsingKeywords(Keywords keywords) {
+        List<String> startingWords = new ArrayList<>(asList(keywords.startingWords()));
+        // the order of the starting words may change between runs
+        Collections.sort(startingWords);
+        List<String> parsingKeywords = new ArrayList<>(asList(keywords.meta(), keywords.metaProperty(),
+                keywords.narrative(), keywords.inOrderTo(), keywords.asA(), keywords.iWantTo(), keywords.soThat(),
+                keywords.scenario(), keywords.givenStories(), keywords.lifecycle(), keywords.before(),
+                keywords.after(), keywords.scope(), keywords.outcome(), keywords.outcomeAny(),
+                keywords.outcomeSuccess(), keywords.outcomeFailure(), keywords.metaFilter(),
+                keywords.examplesTable(), keywords.ignorable()));
+        parsingKeywords.addAll(startingWords);
+        return parsingKeywords;
+    }
+
+    private void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private StoryElements read(File entry) {
+        if (!entry.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            StoryElements elements = new StoryElements();
+            elements.description = readString(in);
+            elements.meta = readString(in);
+            elements.narrative = readString(in);
+            elements.givenStories = readString(in);
+            elements.lifecycle = readString(in);
+            int scenarios = in.readInt();
+            for (int i = 0; i < scenarios; i++) {
+                ScenarioElements scenario = new ScenarioElements();
+                scenario.title = readString(in);
+                scenario.meta = readString(in);
+                scenario.givenStories = readString(in);
+                scenario.examplesTable = readString(in);
+                int steps = in.readInt();
+                List<String> stepsAsText = new ArrayList<>(steps);
+                for (int j = 0; j < steps; j++) {
+                    stepsAsText.add(readString(in));
+                }
+                scenario.steps = stepsAsText;
+                elements.scenarios.add(scenario);
+            }
+            return elements;
+        } catch (IOException e) {
+            // an unreadable entry is parsed again and overwritten
+            return null;
+        }
+    }
+
+    private void write(StoryElements elements, File entry) {
+        File temporary = new File(cacheDirectory, entry.getName() + "." + Thread.currentThread().getId() + ".tmp");
+        try {
+            cacheDirectory.mkdirs();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, elements.description);
+                writeString(out, elements.meta);
+                writeString(out, elements.narrative);
+                writeString(out, elements.givenStories);
+                writeString(out, elements.lifecycle);
+                out.writeInt(elements.scenarios.size());
+                for (ScenarioElements scenario : elements.scenarios) {
+                    writeString(out, scenario.title);
+                    writeString(out, scenario.meta);
+                    writeString(out, scenario.givenStories);
+                    writeString(out, scenario.examplesTable);
+                    out.writeInt(scenario.steps.size());
+                    for (String step : scenario.steps) {
+                        writeString(out, step);
+                    }
+                }
+            }
+            entry.delete();
+            temporary.renameTo(entry);
+        } catch (IOException e) {
+            // the cache is only an optimisation, the story is parsed again next time
+        } finally {
+            temporary.delete();
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+}
@@ -33,14 +33,14 @@ public class RegexCompositeParser extends AbstractRegexParser implements Composi
     @Override
     public List<Composite> parseComposites(String compositesAsText) {
         List<Composite> parsed = new ArrayList<>();
-        for (String compositeAsText : splitElements(compositesAsText, keywords().composite())) {
+        for (String compositeAsText : splitElements(compositesAsText, byComposite, keywords().composite())) {
             parsed.add(parseComposite(compositeAsText));
         }
         return parsed;
     }
 
     private Composite parseComposite(String compositeAsText) {
-        Matcher findingCompositeMatcher = findingCompositePattern().matcher(compositeAsText);
+        Matcher findingCompositeMatcher = findingCompositePattern.matcher(compositeAsText);
         String compositePattern = NONE;
         int priority = 0;
         if (findingCompositeMatcher.find()) {
@@ -59,10 +59,10 @@ public class RegexCompositeParser extends AbstractRegexParser implements Composi
         return new Composite(stepType, stepWithoutStartingWord, priority, steps);
     }
 
-    // Regex Patterns
-    private Pattern findingCompositePattern() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile(keywords().composite() + "(.*?)\\s*(?:\n\\s*" + keywords().priority() + "\\s*(\\d+)\\s*)?"
-                + startingWords + ".*", DOTALL);
-    }
+    // Regex Patterns, compiled once from the keywords
+
+    private final Pattern byComposite = compile(keywords().composite());
+
+    private final Pattern findingCompositePattern = compile(keywords().composite() + "(.*?)\\s*(?:\n\\s*"
+            + keywords().priority() + "\\s*(\\d+)\\s*)?" + concatenateInitialStartingWords() + ".*", DOTALL);
 }
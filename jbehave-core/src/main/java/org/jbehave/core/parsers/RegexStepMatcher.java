@@ -8,37 +8,64 @@ import org.jbehave.core.steps.StepType;
 
 public class RegexStepMatcher implements StepMatcher {
 
+    private static final String REGEX_METACHARACTERS = "()[]{}?*+.^$|";
+    private static final String WHITESPACE_SEPARATOR = "\\s+";
+
     private final Pattern regexPattern;
 	private final String[] parameterNames;
     private final StepPattern stepPattern;
-    private Matcher matcher;
+    private final String leadingToken;
+    private final ThreadLocal<Matcher> lastFound = new ThreadLocal<>();
 
 	public RegexStepMatcher(StepType stepType, String annotatedPattern, Pattern regexPattern, String[] parameterNames) {
         this.regexPattern = regexPattern;
 		this.parameterNames = parameterNames;
         this.stepPattern = new StepPattern(stepType, annotatedPattern, regexPattern.pattern());
+        this.leadingToken = findLeadingToken(regexPattern);
     }
-	
+
 	@Override
     public boolean matches(String stepWithoutStartingWord){
-		matcher(stepWithoutStartingWord);
-		return matcher.matches();
+		return regexPattern.matcher(stepWithoutStartingWord).matches();
 	}
 
 	@Override
     public boolean find(String stepWithoutStartingWord){
-		matcher(stepWithoutStartingWord);
-		return matcher.find();
+		// the last finding matcher is kept, per thread, for the deprecated parameter(int)
+		Matcher findingMatcher = regexPattern.matcher(stepWithoutStartingWord);
+		lastFound.set(findingMatcher);
+		return findingMatcher.find();
 	}
-	
+
+    /**
+     * @deprecated Use {@link #match(String)}, as the parameter depends on the
+     *             last invocation of {@link #find(String)} by the same thread
+     */
+	@Deprecated
 	@Override
     public String parameter(int matchedPosition) {
-		return matcher.group(matchedPosition);
+		return lastFound.get().group(matchedPosition);
 	}
 
-	private void matcher(String patternToMatch){
-		matcher = regexPattern.matcher(patternToMatch);
-	}
+    /**
+     * Finds the step pattern in the step, capturing its parameters without
+     * depending on the state left by previous invocations
+     *
+     * @param stepWithoutStartingWord the step without its starting word
+     * @return The immutable StepMatch, holding the captured parameters if the
+     *         pattern was found
+     */
+    public StepMatch match(String stepWithoutStartingWord) {
+        Matcher stepMatcher = regexPattern.matcher(stepWithoutStartingWord);
+        if (!stepMatcher.find()) {
+            return StepMatch.notFound(parameterNames);
+        }
+        String[] parameters = new String[stepMatcher.groupCount()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = stepMatcher.group(i + 1);
+        }
+        return new StepMatch(parameterNames, parameters);
+    }
 
 	@Override
     public String[] parameterNames(){
@@ -49,4 +76,60 @@ public class RegexStepMatcher implements StepMatcher {
     public StepPattern pattern() {
         return stepPattern;
     }
+
+    /**
+     * Returns the literal token that any step matching the pattern must start
+     * with, up to its first whitespace, e.g. "I" for the pattern
+     * "I log in as $username".
+     *
+     * @return The leading token or <code>null</code> if the pattern does not
+     *         start with a literal token
+     */
+    public String leadingToken() {
+        return leadingToken;
+    }
+
+    private static String findLeadingToken(Pattern regexPattern) {
+        if ((regexPattern.flags() & ~Pattern.DOTALL) != 0) {
+            return null;
+        }
+        String regex = regexPattern.pattern();
+        if (hasAlternation(regex)) {
+            return null;
+        }
+        StringBuilder token = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (regex.startsWith(WHITESPACE_SEPARATOR, i)) {
+                    break;
+                }
+                if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    // a character class or a special construct
+                    return null;
+                }
+                token.append(regex.charAt(i + 1));
+                i += 2;
+            } else if (REGEX_METACHARACTERS.indexOf(c) >= 0 || Character.isWhitespace(c)) {
+                return null;
+            } else {
+                token.append(c);
+                i++;
+            }
+        }
+        return token.length() > 0 ? token.toString() : null;
+    }
+
+    private static boolean hasAlternation(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '|') {
+                return true;
+            }
+        }
+        return false;
+    }
 }
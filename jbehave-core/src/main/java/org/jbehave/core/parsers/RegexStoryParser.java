@@ -81,12 +81,38 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
 
     @Override
     public Story parseStory(String storyAsText, String storyPath) {
-        Description description = parseDescriptionFrom(storyAsText);
-        Meta meta = parseStoryMetaFrom(storyAsText);
-        Narrative narrative = parseNarrativeFrom(storyAsText);
-        GivenStories givenStories = parseGivenStories(storyAsText);
-        Lifecycle lifecycle = parseLifecycle(storyAsText);
-        List<Scenario> scenarios = parseScenariosFrom(storyAsText);
+        return storyOf(storyElementsOf(storyAsText), storyPath);
+    }
+
+    /**
+     * Finds the textual elements of the story, from which the story is
+     * created by {@link #storyOf(StoryElements, String)}.
+     */
+    StoryElements storyElementsOf(String storyAsText) {
+        String beforeScenario = beforeScenario(storyAsText);
+        StoryElements elements = new StoryElements();
+        elements.description = findDescription(storyAsText);
+        elements.meta = findStoryMeta(storyAsText);
+        elements.narrative = findNarrative(storyAsText);
+        elements.givenStories = findStoryGivenStories(beforeScenario);
+        elements.lifecycle = findLifecycle(beforeScenario);
+        for (String scenarioAsText : splitScenarios(storyAsText)) {
+            elements.scenarios.add(scenarioElementsOf(scenarioAsText));
+        }
+        return elements;
+    }
+
+    Story storyOf(StoryElements elements, String storyPath) {
+        Description description = elements.description != null ? new Description(elements.description)
+                : Description.EMPTY;
+        Meta meta = elements.meta != null ? Meta.createMeta(elements.meta, keywords()) : Meta.EMPTY;
+        Narrative narrative = elements.narrative != null ? createNarrative(elements.narrative) : Narrative.EMPTY;
+        GivenStories givenStories = new GivenStories(elements.givenStories);
+        Lifecycle lifecycle = createLifecycle(elements.lifecycle);
+        List<Scenario> scenarios = new ArrayList<>();
+        for (ScenarioElements scenarioElements : elements.scenarios) {
+            scenarios.add(scenarioOf(scenarioElements));
+        }
         Story story = new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
         if (storyPath != null) {
             story.namedAs(new File(storyPath).getName());
@@ -94,46 +120,55 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
         return story;
     }
 
-    private Description parseDescriptionFrom(String storyAsText) {
-        Matcher findingDescription = findingDescription().matcher(storyAsText);
+    private String findDescription(String storyAsText) {
+        Matcher findingDescription = this.findingDescription.matcher(storyAsText);
         if (findingDescription.matches()) {
-            return new Description(findingDescription.group(1).trim());
+            return findingDescription.group(1).trim();
         }
-        return Description.EMPTY;
+        return null;
     }
 
-    private Meta parseStoryMetaFrom(String storyAsText) {
-        Matcher findingMeta = findingStoryMeta().matcher(preScenarioText(storyAsText));
+    private String findStoryMeta(String storyAsText) {
+        Matcher findingMeta = findingStoryMeta.matcher(preScenarioText(storyAsText));
         if (findingMeta.matches()) {
-            String meta = findingMeta.group(1).trim();
-            return Meta.createMeta(meta, keywords());
+            return findingMeta.group(1).trim();
         }
-        return Meta.EMPTY;
+        return null;
     }
 
     private String preScenarioText(String storyAsText) {
-        String[] split = storyAsText.split(keywords().scenario());
+        Matcher findingScenario = byScenario.matcher(storyAsText);
+        if (findingScenario.find() && findingScenario.start() > 0) {
+            return storyAsText.substring(0, findingScenario.start());
+        }
+        // as split by the scenario keyword, e.g. if starting with it
+        String[] split = byScenario.split(storyAsText);
         return split.length > 0 ? split[0] : storyAsText;
     }
 
-    private Narrative parseNarrativeFrom(String storyAsText) {
-        Matcher findingNarrative = findingNarrative().matcher(storyAsText);
+    private String beforeScenario(String storyAsText) {
+        // use text before scenario keyword, if found
+        return StringUtils.contains(storyAsText, keywords().scenario()) ? StringUtils.substringBefore(storyAsText,
+                keywords().scenario()) : "";
+    }
+
+    private String findNarrative(String storyAsText) {
+        Matcher findingNarrative = this.findingNarrative.matcher(storyAsText);
         if (findingNarrative.matches()) {
-            String narrative = findingNarrative.group(1).trim();
-            return createNarrative(narrative);
+            return findingNarrative.group(1).trim();
         }
-        return Narrative.EMPTY;
+        return null;
     }
 
     private Narrative createNarrative(String narrative) {
-        Matcher findingElements = findingNarrativeElements().matcher(narrative);
+        Matcher findingElements = findingNarrativeElements.matcher(narrative);
         if (findingElements.matches()) {
             String inOrderTo = findingElements.group(1).trim();
             String asA = findingElements.group(2).trim();
             String iWantTo = findingElements.group(3).trim();
             return new Narrative(inOrderTo, asA, iWantTo);
         }
-        Matcher findingAlternativeElements = findingAlternativeNarrativeElements().matcher(narrative);
+        Matcher findingAlternativeElements = findingAlternativeNarrativeElements.matcher(narrative);
         if (findingAlternativeElements.matches()) {            
             String asA = findingAlternativeElements.group(1).trim();
             String iWantTo = findingAlternativeElements.group(2).trim();
@@ -143,29 +178,18 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
         return Narrative.EMPTY;
     }
     
-    private GivenStories parseGivenStories(String storyAsText) {
-        String scenarioKeyword = keywords().scenario();
-        // use text before scenario keyword, if found
-        String beforeScenario = "";
-        if (StringUtils.contains(storyAsText, scenarioKeyword)) {
-            beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
-        }
-        Matcher findingGivenStories = findingStoryGivenStories().matcher(beforeScenario);
-        String givenStories = findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
-        return new GivenStories(givenStories);
+    private String findStoryGivenStories(String beforeScenario) {
+        Matcher findingGivenStories = findingStoryGivenStories.matcher(beforeScenario);
+        return findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
     }
 
-    private Lifecycle parseLifecycle(String storyAsText) {
-        String scenarioKeyword = keywords().scenario();
-        // use text before scenario keyword, if found
-        String beforeScenario = "";
-        if (StringUtils.contains(storyAsText, scenarioKeyword)) {
-            beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
-        }
-        Matcher findingLifecycle = findingLifecycle().matcher(beforeScenario);
-        String lifecycle = findingLifecycle.find() ? findingLifecycle.group(1).trim() : NONE;
+    private String findLifecycle(String beforeScenario) {
+        Matcher findingLifecycle = this.findingLifecycle.matcher(beforeScenario);
+        return findingLifecycle.find() ? findingLifecycle.group(1).trim() : NONE;
+    }
 
-        Matcher findingBeforeAndAfter = compile(".*" + keywords().before() + "(.*)\\s*" + keywords().after() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+    private Lifecycle createLifecycle(String lifecycle) {
+        Matcher findingBeforeAndAfter = this.findingBeforeAndAfter.matcher(lifecycle);
         if ( findingBeforeAndAfter.matches() ){
             String beforeLifecycle = findingBeforeAndAfter.group(1).trim();
             List<Steps> beforeSteps = parseBeforeLifecycle(beforeLifecycle);
@@ -173,13 +197,13 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
             List<Steps> afterSteps = parseAfterLifecycle(afterLifecycle);
             return new Lifecycle(beforeSteps, afterSteps);
         }
-        Matcher findingBefore = compile(".*" + keywords().before() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingBefore = this.findingBefore.matcher(lifecycle);
         if ( findingBefore.matches() ){
             String beforeLifecycle = findingBefore.group(1).trim();
             List<Steps>  beforeSteps = parseBeforeLifecycle(beforeLifecycle);
             return new Lifecycle(beforeSteps, Arrays.<Steps>asList());
         }
-        Matcher findingAfter = compile(".*" + keywords().after() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingAfter = this.findingAfter.matcher(lifecycle);
         if ( findingAfter.matches() ){
             List<Steps> beforeSteps = asList();
             String afterLifecycle = findingAfter.group(1).trim();
@@ -189,17 +213,9 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
         return Lifecycle.EMPTY;
     }
 
-    private Pattern findingBeforeAndAfterSteps() {
-        String initialStartingWords = concatenateWithOr("\\n", "", keywords().before(), keywords().after());
-        String followingStartingWords = concatenateFollowingStartingWords();
-        return compile(
-                "((" + initialStartingWords + ")\\s(.)*?)\\s*(\\Z|" + followingStartingWords + "|\\n"
-                        + keywords().examplesTable() + ")", DOTALL);
-    }
-
     private List<Steps> parseBeforeLifecycle(String lifecycleAsText) {
         List<Steps> list = new ArrayList<>();
-        for (String byScope : lifecycleAsText.split(keywords().scope()) ){
+        for (String byScope : this.byScope.split(lifecycleAsText) ){
             byScope = byScope.trim();
             if ( byScope.isEmpty() ) continue;
             Scope scope = parseScope(findScope(keywords().scope()+byScope));
@@ -211,11 +227,11 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
 
     private List<Steps> parseAfterLifecycle(String lifecycleAsText) {
         List<Steps> list = new ArrayList<>();
-        for (String byScope : lifecycleAsText.split(keywords().scope()) ) {
+        for (String byScope : this.byScope.split(lifecycleAsText) ) {
             byScope = byScope.trim();
             if ( byScope.isEmpty() ) continue;
             Scope scope = parseScope(findScope(keywords().scope()+byScope));
-            for (String byOutcome : byScope.split(keywords().outcome())) {
+            for (String byOutcome : this.byOutcome.split(byScope)) {
                 byOutcome = byOutcome.trim();
                 if (byOutcome.isEmpty()) continue;
                 String outcomeAsText = findOutcome(byOutcome);
@@ -228,7 +244,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String findScope(String lifecycleAsText) {
-        Matcher findingScope = findingLifecycleScope().matcher(lifecycleAsText.trim());
+        Matcher findingScope = findingLifecycleScope.matcher(lifecycleAsText.trim());
         if ( findingScope.matches() ){
             return findingScope.group(1).trim();
         }
@@ -245,7 +261,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String findOutcome(String stepsByOutcome) {
-        Matcher findingOutcome = findingLifecycleOutcome().matcher(stepsByOutcome);
+        Matcher findingOutcome = findingLifecycleOutcome.matcher(stepsByOutcome);
         if ( findingOutcome.matches() ){
             return findingOutcome.group(1).trim();
         }
@@ -262,7 +278,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String findFilters(String stepsByFilters) {
-        Matcher findingFilters = findingLifecycleFilters().matcher(stepsByFilters.trim());
+        Matcher findingFilters = findingLifecycleFilters.matcher(stepsByFilters.trim());
         if ( findingFilters.matches() ){
             return findingFilters.group(1).trim();
         }
@@ -273,14 +289,6 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
         return removeStart(filtersAsText, keywords().metaFilter()).trim();
     }
 
-    private List<Scenario> parseScenariosFrom(String storyAsText) {
-        List<Scenario> parsed = new ArrayList<>();
-        for (String scenarioAsText : splitScenarios(storyAsText)) {
-            parsed.add(parseScenario(scenarioAsText));
-        }
-        return parsed;
-    }
-
     private List<String> splitScenarios(String storyAsText) {
         String scenarioKeyword = keywords().scenario();
 
@@ -289,120 +297,133 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
             storyAsText = StringUtils.substringAfter(storyAsText, scenarioKeyword);
         }
 
-        return splitElements(storyAsText, scenarioKeyword);
+        return splitElements(storyAsText, byScenario, scenarioKeyword);
     }
 
-    private Scenario parseScenario(String scenarioAsText) {
-        String title = findScenarioTitle(scenarioAsText);
+    private ScenarioElements scenarioElementsOf(String scenarioAsText) {
+        ScenarioElements elements = new ScenarioElements();
+        elements.title = findScenarioTitle(scenarioAsText);
         String scenarioWithoutKeyword = removeStart(scenarioAsText, keywords().scenario()).trim();
-        String scenarioWithoutTitle = removeStart(scenarioWithoutKeyword, title);
+        String scenarioWithoutTitle = removeStart(scenarioWithoutKeyword, elements.title);
         scenarioWithoutTitle = startingWithNL(scenarioWithoutTitle);
-        Meta meta = findScenarioMeta(scenarioWithoutTitle);
-        ExamplesTable examplesTable = findExamplesTable(scenarioWithoutTitle);
-        GivenStories givenStories = findScenarioGivenStories(scenarioWithoutTitle);
+        elements.meta = findScenarioMeta(scenarioWithoutTitle);
+        elements.examplesTable = findExamplesTable(scenarioWithoutTitle);
+        elements.givenStories = findScenarioGivenStories(scenarioWithoutTitle);
+        elements.steps = findSteps(scenarioWithoutTitle);
+        return elements;
+    }
+
+    private Scenario scenarioOf(ScenarioElements elements) {
+        Meta meta = elements.meta != null ? Meta.createMeta(elements.meta, keywords()) : Meta.EMPTY;
+        ExamplesTable examplesTable = tableFactory.createExamplesTable(elements.examplesTable);
+        GivenStories givenStories = new GivenStories(elements.givenStories);
         if (givenStories.requireParameters()) {
             givenStories.useExamplesTable(examplesTable);
         }
-        List<String> steps = findSteps(scenarioWithoutTitle);
-        return new Scenario(title, meta, givenStories, examplesTable, steps);
+        return new Scenario(elements.title, meta, givenStories, examplesTable, new ArrayList<>(elements.steps));
     }
 
     private String findScenarioTitle(String scenarioAsText) {
-        Matcher findingTitle = findingScenarioTitle().matcher(scenarioAsText);
+        Matcher findingTitle = findingScenarioTitle.matcher(scenarioAsText);
         return findingTitle.find() ? findingTitle.group(1).trim() : NONE;
     }
 
-    private Meta findScenarioMeta(String scenarioAsText) {
-        Matcher findingMeta = findingScenarioMeta().matcher(scenarioAsText);
+    private String findScenarioMeta(String scenarioAsText) {
+        Matcher findingMeta = findingScenarioMeta.matcher(scenarioAsText);
         if (findingMeta.matches()) {
-            String meta = findingMeta.group(1).trim();
-            return Meta.createMeta(meta, keywords());
+            return findingMeta.group(1).trim();
         }
-        return Meta.EMPTY;
+        return null;
     }
 
-    private ExamplesTable findExamplesTable(String scenarioAsText) {
-        Matcher findingTable = findingExamplesTable().matcher(scenarioAsText);
-        String tableInput = findingTable.find() ? findingTable.group(1).trim() : NONE;
-        return tableFactory.createExamplesTable(tableInput);
+    private String findExamplesTable(String scenarioAsText) {
+        Matcher findingTable = findingExamplesTable.matcher(scenarioAsText);
+        return findingTable.find() ? findingTable.group(1).trim() : NONE;
     }
 
-    private GivenStories findScenarioGivenStories(String scenarioAsText) {
-        Matcher findingGivenStories = findingScenarioGivenStories().matcher(scenarioAsText);
-        String givenStories = findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
-        return new GivenStories(givenStories);
+    private String findScenarioGivenStories(String scenarioAsText) {
+        Matcher findingGivenStories = findingScenarioGivenStories.matcher(scenarioAsText);
+        return findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
     }
 
-    // Regex Patterns
+    // Regex Patterns, compiled once from the keywords
 
-    private Pattern findingDescription() {
-        String metaOrNarrativeOrLifecycleOrScenario = concatenateWithOr(keywords().meta(), keywords().narrative(), keywords().lifecycle(), keywords().scenario());
-        return compile("(.*?)(" + metaOrNarrativeOrLifecycleOrScenario + ").*", DOTALL);
-    }
+    private final Pattern byScenario = compile(keywords().scenario());
 
-    private Pattern findingStoryMeta() {
-        String narrativeOrLifecycleOrGivenStories = concatenateWithOr(keywords().narrative(), keywords().lifecycle(), keywords().givenStories());
-        return compile(".*" + keywords().meta() + "(.*?)\\s*(\\Z|" + narrativeOrLifecycleOrGivenStories + ").*", DOTALL);
-    }
+    private final Pattern byScope = compile(keywords().scope());
 
-    private Pattern findingNarrative() {
-        String givenStoriesOrLifecycleOrScenario = concatenateWithOr(keywords().givenStories(), keywords().lifecycle(), keywords().scenario());
-        return compile(".*" + keywords().narrative() + "(.*?)\\s*(" + givenStoriesOrLifecycleOrScenario + ").*", DOTALL);
-    }
+    private final Pattern byOutcome = compile(keywords().outcome());
 
-    private Pattern findingNarrativeElements() {
-        return compile(".*" + keywords().inOrderTo() + "(.*)\\s*" + keywords().asA() + "(.*)\\s*" + keywords().iWantTo()
-                + "(.*)", DOTALL);
-    }
+    private final Pattern findingDescription = compile("(.*?)(" + concatenateWithOr(keywords().meta(),
+            keywords().narrative(), keywords().lifecycle(), keywords().scenario()) + ").*", DOTALL);
 
-    private Pattern findingAlternativeNarrativeElements() {
-        return compile(".*" + keywords().asA() + "(.*)\\s*" + keywords().iWantTo() + "(.*)\\s*" + keywords().soThat()
-                + "(.*)", DOTALL);
-    }
-    
-    private Pattern findingStoryGivenStories() {
-        String lifecycleOrScenario = concatenateWithOr(keywords().lifecycle(), keywords().scenario());
-        return compile(".*" + keywords().givenStories() + "(.*?)\\s*(\\Z|" + lifecycleOrScenario + ").*", DOTALL);
-    }
-    
-    private Pattern findingLifecycle() {
-        return compile(".*" + keywords().lifecycle() + "\\s*(.*)", DOTALL);
-    }
+    private final Pattern findingStoryMeta = compile(".*" + keywords().meta() + "(.*?)\\s*(\\Z|"
+            + concatenateWithOr(keywords().narrative(), keywords().lifecycle(), keywords().givenStories()) + ").*",
+            DOTALL);
 
-    private Pattern findingLifecycleScope() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile(keywords().scope() + "((.)*?)\\s*(" + keywords().outcome() + "|" + keywords().metaFilter() + "|" + startingWords + ").*", DOTALL);
-    }
+    private final Pattern findingNarrative = compile(".*" + keywords().narrative() + "(.*?)\\s*("
+            + concatenateWithOr(keywords().givenStories(), keywords().lifecycle(), keywords().scenario()) + ").*",
+            DOTALL);
 
-    private Pattern findingLifecycleOutcome() {
-        String startingWords = concatenateInitialStartingWords();
-        String outcomes = concatenateWithOr(keywords().outcomeAny(), keywords().outcomeSuccess(), keywords().outcomeFailure());
-        return compile("\\s*("+ outcomes +")\\s*(" + keywords().metaFilter() + "|" + startingWords + ").*", DOTALL);
-    }
+    private final Pattern findingNarrativeElements = compile(".*" + keywords().inOrderTo() + "(.*)\\s*"
+            + keywords().asA() + "(.*)\\s*" + keywords().iWantTo() + "(.*)", DOTALL);
 
-    private Pattern findingLifecycleFilters() {
-        String startingWords = concatenateInitialStartingWords();
-        String filters = concatenateWithOr(keywords().metaFilter());
-        return compile("\\s*("+ filters +"[\\w\\+\\-\\_\\s]*)(" + startingWords + ").*", DOTALL);
-    }
+    private final Pattern findingAlternativeNarrativeElements = compile(".*" + keywords().asA() + "(.*)\\s*"
+            + keywords().iWantTo() + "(.*)\\s*" + keywords().soThat() + "(.*)", DOTALL);
 
-    private Pattern findingScenarioTitle() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile(keywords().scenario() + "(.*?)\\s*(" + keywords().meta() + "|" + startingWords + "|$).*", DOTALL);
-    }
+    private final Pattern findingStoryGivenStories = compile(".*" + keywords().givenStories() + "(.*?)\\s*(\\Z|"
+            + concatenateWithOr(keywords().lifecycle(), keywords().scenario()) + ").*", DOTALL);
 
-    private Pattern findingScenarioMeta() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile(".*" + keywords().meta() + "(.*?)\\s*(" + keywords().givenStories() + "|" + startingWords + "|$).*",
-                DOTALL);
-    }
+    private final Pattern findingLifecycle = compile(".*" + keywords().lifecycle() + "\\s*(.*)", DOTALL);
+
+    private final Pattern findingBeforeAndAfter = compile(".*" + keywords().before() + "(.*)\\s*"
+            + keywords().after() + "(.*)\\s*", DOTALL);
+
+    private final Pattern findingBefore = compile(".*" + keywords().before() + "(.*)\\s*", DOTALL);
+
+    private final Pattern findingAfter = compile(".*" + keywords().after() + "(.*)\\s*", DOTALL);
+
+    private final Pattern findingLifecycleScope = compile(keywords().scope() + "((.)*?)\\s*(" + keywords().outcome()
+            + "|" + keywords().metaFilter() + "|" + concatenateInitialStartingWords() + ").*", DOTALL);
+
+    private final Pattern findingLifecycleOutcome = compile("\\s*(" + concatenateWithOr(keywords().outcomeAny(),
+            keywords().outcomeSuccess(), keywords().outcomeFailure()) + ")\\s*(" + keywords().metaFilter() + "|"
+            + concatenateInitialStartingWords() + ").*", DOTALL);
+
+    private final Pattern findingLifecycleFilters = compile("\\s*(" + concatenateWithOr(keywords().metaFilter())
+            + "[\\w\\+\\-\\_\\s]*)(" + concatenateInitialStartingWords() + ").*", DOTALL);
+
+    private final Pattern findingScenarioTitle = compile(keywords().scenario() + "(.*?)\\s*(" + keywords().meta()
+            + "|" + concatenateInitialStartingWords() + "|$).*", DOTALL);
+
+    private final Pattern findingScenarioMeta = compile(".*" + keywords().meta() + "(.*?)\\s*("
+            + keywords().givenStories() + "|" + concatenateInitialStartingWords() + "|$).*", DOTALL);
+
+    private final Pattern findingScenarioGivenStories = compile("\\n" + keywords().givenStories()
+            + "((.|\\n)*?)\\s*(" + concatenateInitialStartingWords() + ").*", DOTALL);
+
+    private final Pattern findingExamplesTable = compile("\\n" + keywords().examplesTable() + "\\s*(.*)", DOTALL);
 
-    private Pattern findingScenarioGivenStories() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile("\\n" + keywords().givenStories() + "((.|\\n)*?)\\s*(" + startingWords + ").*", DOTALL);
+    /**
+     * The textual elements of a story, <code>null</code> if not found.
+     */
+    static class StoryElements {
+        String description;
+        String meta;
+        String narrative;
+        String givenStories = NONE;
+        String lifecycle = NONE;
+        List<ScenarioElements> scenarios = new ArrayList<>();
     }
 
-    private Pattern findingExamplesTable() {
-        return compile("\\n" + keywords().examplesTable() + "\\s*(.*)", DOTALL);
+    /**
+     * The textual elements of a scenario, <code>null</code> if not found.
+     */
+    static class ScenarioElements {
+        String title = NONE;
+        String meta;
+        String givenStories = NONE;
+        String examplesTable = NONE;
+        List<String> steps = new ArrayList<>();
     }
 }
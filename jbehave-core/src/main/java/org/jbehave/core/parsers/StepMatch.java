@@ -0,0 +1,58 @@
+package org.jbehave.core.parsers;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * <p>
+ * Represents the immutable result of matching a step against a step pattern,
+ * as provided by the {@link RegexStepMatcher}. It holds the parameter names of the
+ * pattern and the parameter values captured from the step, if it was found to
+ * match.
+ * </p>
+ * <p>
+ * As it holds no reference to the matcher, it can be created once, when the
+ * step is matched, and reused by any thread performing the step.
+ * </p>
+ */
+public class StepMatch {
+
+    private final String[] parameterNames;
+    private final String[] parameters;
+
+    public StepMatch(String[] parameterNames, String[] parameters) {
+        this.parameterNames = parameterNames;
+        this.parameters = parameters;
+    }
+
+    public static StepMatch notFound(String[] parameterNames) {
+        return new StepMatch(parameterNames, null);
+    }
+
+    public boolean found() {
+        return parameters != null;
+    }
+
+    public String[] parameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * Returns the parameter captured at a given position
+     *
+     * @param matchedPosition the position of the parameter, starting from 1
+     * @return The captured value of the parameter
+     * @throws IllegalStateException if the step was not found to match
+     */
+    public String parameter(int matchedPosition) {
+        if (parameters == null) {
+            throw new IllegalStateException("No match found");
+        }
+        return parameters[matchedPosition - 1];
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+}
@@ -0,0 +1,459 @@
+package org.jbehave.core.reporters;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.OutcomesTable;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.ConcurrentStoryReporter.DelayedEvent;
+
+/**
+ * <p>
+ * Reporter that decouples the reporting of events from their formatting and
+ * writing by the delegate, which is done asynchronously by the writer
+ * {@link Executor}, so that the thread performing the steps does not block on
+ * report I/O.
+ * </p>
+ * <p>
+ * The events are invoked on the delegate in the order they were reported, one
+ * at a time, by any one of the writer threads. They are queued in a bounded
+ * queue, so the reporting thread blocks if the writers fall too far behind.
+ * Reporting the end of a story, via {@link #afterStory(boolean)}, waits until
+ * all the events are written, and rethrows the first failure to write them, if
+ * any.
+ * </p>
+ */
+public class AsyncStoryReporter implements StoryReporter {
+
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final StoryReporter delegate;
+    private final Executor writers;
+    private final BlockingQueue<DelayedEvent> events;
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private volatile Throwable failure;
+
+    public AsyncStoryReporter(StoryReporter delegate, Executor writers) {
+        this(delegate, writers, QUEUE_CAPACITY);
+    }
+
+    public AsyncStoryReporter(StoryReporter delegate, Executor writers, int queueCapacity) {
+        this.delegate = delegate;
+        this.writers = writers;
+        this.events = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public void storyNotAllowed(final Story story, final String filter) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.storyNotAllowed(story, filter);
+            }
+        });
+    }
+
+    @Override
+    public void storyCancelled(final Story story, final StoryDuration storyDuration) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.storyCancelled(story, storyDuration);
+            }
+        });
+    }
+
+    @Override
+    public void beforeStory(final Story story, final boolean givenStory) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.beforeStory(story, givenStory);
+            }
+        });
+    }
+
+    @Override
+    public void afterStory(final boolean givenStory) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.afterStory(givenStory);
+            }
+        });
+        flush();
+    }
+
+    @Override
+    public void narrative(final Narrative narrative) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.narrative(narrative);
+            }
+        });
+    }
+
+    @Override
+    public void lifecyle(final Lifecycle lifecycle) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.lifecyle(lifecycle);
+            }
+        });
+    }
+
+    @Override
+    public void scenarioNotAllowed(final Scenario scenario, final String filter) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.scenarioNotAllowed(scenario, filter);
+            }
+        });
+    }
+
+    @Override
+    public void beforeScenario(final Scenario scenario) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.beforeScenario(scenario);
+            }
+        });
+    }
+
+    @Override
+    public void beforeScenario(final String scenarioTitle) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.beforeScenario(scenarioTitle);
+            }
+        });
+    }
+
+    @Override
+    public void scenarioMeta(final Meta meta) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.scenarioMeta(meta);
+            }
+        });
+    }
+
+    @Override
+    public void afterScenario() {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.afterScenario();
+            }
+        });
+    }
+
+    @Override
+    public void beforeGivenStories() {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.beforeGivenStories();
+            }
+        });
+    }
+
+    @Override
+    public void givenStories(final GivenStories stories) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.givenStories(stories);
+            }
+        });
+    }
+
+    @Override
+    public void givenStories(final List<String> storyPaths) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.givenStories(storyPaths);
+            }
+        });
+    }
+
+    @Override
+    public void afterGivenStories() {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.afterGivenStories();
+            }
+        });
+    }
+
+    @Override
+    public void beforeExamples(final List<String> steps, final ExamplesTable table) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.beforeExamples(steps, table);
+            }
+        });
+    }
+
+    @Override
+    public void example(final Map<String, String> tableRow) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.example(tableRow);
+            }
+        });
+    }
+
+    @Override
+    public void example(final Map<String, String> tableRow, final int exampleIndex) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.example(tableRow, exampleIndex);
+            }
+        });
+    }
+
+    @Override
+    public void afterExamples() {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.afterExamples();
+            }
+        });
+    }
+
+    @Override
+    public void beforeStep(final String step) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.beforeStep(step);
+            }
+        });
+    }
+
+    @Override
+    public void successful(final String step) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.successful(step);
+            }
+        });
+    }
+
+    @Override
+    public void ignorable(final String step) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.ignorable(step);
+            }
+        });
+    }
+
+    @Override
+    public void comment(final String step) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.comment(step);
+            }
+        });
+    }
+
+    @Override
+    public void pending(final String step) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.pending(step);
+            }
+        });
+    }
+
+    @Override
+    public void notPerformed(final String step) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.notPerformed(step);
+            }
+        });
+    }
+
+    @Override
+    public void failed(final String step, final Throwable cause) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.failed(step, cause);
+            }
+        });
+    }
+
+    @Override
+    public void failedOutcomes(final String step, final OutcomesTable table) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.failedOutcomes(step, table);
+            }
+        });
+    }
+
+    @Override
+    public void restarted(final String step, final Throwable cause) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.restarted(step, cause);
+            }
+        });
+    }
+
+    @Override
+    public void restartedStory(final Story story, final Throwable cause) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.restartedStory(story, cause);
+            }
+        });
+    }
+
+    @Override
+    public void dryRun() {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.dryRun();
+            }
+        });
+    }
+
+    @Override
+    public void pendingMethods(final List<String> methods) {
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                reporter.pendingMethods(methods);
+            }
+        });
+    }
+
+    public StoryReporter getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Waits until all the events reported so far are written
+     * 
+     * @throws RuntimeException if any event failed to be written
+     */
+    public void flush() {
+        final CountDownLatch written = new CountDownLatch(1);
+        enqueue(new DelayedEvent() {
+            @Override
+            public void invoke(StoryReporter reporter) {
+                written.countDown();
+            }
+        });
+        boolean interrupted = false;
+        while (written.getCount() > 0) {
+            try {
+                written.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        Throwable cause = failure;
+        if (cause != null) {
+            failure = null;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private void enqueue(DelayedEvent event) {
+        // events are never dropped, even if the reporting thread is interrupted
+        boolean interrupted = false;
+        while (true) {
+            try {
+                events.put(event);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        scheduleWriting();
+    }
+
+    private void scheduleWriting() {
+        if (writing.compareAndSet(false, true)) {
+            writers.execute(new Runnable() {
+                @Override
+                public void run() {
+                    write();
+                }
+            });
+        }
+    }
+
+    private void write() {
+        try {
+            DelayedEvent event;
+            while ((event = events.poll()) != null) {
+                try {
+                    event.invoke(delegate);
+                } catch (Throwable e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        } finally {
+            writing.set(false);
+        }
+        // events may have been queued after the last one was polled
+        if (!events.isEmpty()) {
+            scheduleWriting();
+        }
+    }
+
+}
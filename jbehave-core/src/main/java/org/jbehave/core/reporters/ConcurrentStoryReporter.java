@@ -2,10 +2,10 @@ package org.jbehave.core.reporters;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.model.GivenStories;
@@ -18,180 +18,161 @@ import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 
 /**
+ * <p>
  * When running a multithreading mode, reports cannot be written concurrently but should 
- * be delayed and invoked only at the end of a story, ensuring synchronization on the delegate
- * responsible for the reporting.
+ * be delayed and invoked only at the end of a story.
+ * </p>
+ * <p>
+ * Each reporter is built for a single story, and its events are delayed in a
+ * lock-free queue of typed {@link DelayedEvent}s, which are invoked on the
+ * delegate, in the order they were reported, by {@link #invokeDelayed()}.
+ * </p>
  */
 public class ConcurrentStoryReporter implements StoryReporter {
 
-    private static Method storyCancelled;
-    private static Method storyNotAllowed;
-    private static Method beforeStory;
-    private static Method afterStory;
-    private static Method narrative;
-    private static Method lifecycle;
-    private static Method scenarioNotAllowed;
-    private static Method beforeScenario;
-    private static Method beforeScenarioDeprecated;
-    private static Method scenarioMeta;
-    private static Method afterScenario;
-    private static Method beforeGivenStories;
-    private static Method givenStories;
-    private static Method givenStoriesPaths;
-    private static Method afterGivenStories;
-    private static Method beforeExamples;
-    private static Method exampleDeprecated;
-    private static Method example;
-    private static Method afterExamples;
-    private static Method beforeStep;
-    private static Method successful;
-    private static Method ignorable;
-    private static Method comment;
-    private static Method pending;
-    private static Method notPerformed;
-    private static Method failed;
-    private static Method failedOutcomes;
-    private static Method dryRun;
-    private static Method pendingMethods;
-    private static Method restarted;
-    private static Method restartedStory;
-
-    static {
-        try {
-            storyCancelled = StoryReporter.class.getMethod("storyCancelled", Story.class, StoryDuration.class);
-            storyNotAllowed = StoryReporter.class.getMethod("storyNotAllowed", Story.class, String.class);
-            beforeStory = StoryReporter.class.getMethod("beforeStory", Story.class, Boolean.TYPE);
-            afterStory = StoryReporter.class.getMethod("afterStory", Boolean.TYPE);
-            narrative = StoryReporter.class.getMethod("narrative", Narrative.class);
-            lifecycle = StoryReporter.class.getMethod("lifecyle", Lifecycle.class);
-            scenarioNotAllowed = StoryReporter.class.getMethod("scenarioNotAllowed", Scenario.class, String.class);
-            beforeScenario = StoryReporter.class.getMethod("beforeScenario", Scenario.class);
-            beforeScenarioDeprecated = StoryReporter.class.getMethod("beforeScenario", String.class);
-            scenarioMeta = StoryReporter.class.getMethod("scenarioMeta", Meta.class);
-            afterScenario = StoryReporter.class.getMethod("afterScenario");
-            beforeGivenStories = StoryReporter.class.getMethod("beforeGivenStories");
-            givenStories = StoryReporter.class.getMethod("givenStories", GivenStories.class);
-            givenStoriesPaths = StoryReporter.class.getMethod("givenStories", List.class);
-            afterGivenStories = StoryReporter.class.getMethod("afterGivenStories");
-            beforeExamples = StoryReporter.class.getMethod("beforeExamples", List.class, ExamplesTable.class);
-            exampleDeprecated = StoryReporter.class.getMethod("example", Map.class);
-            example = StoryReporter.class.getMethod("example", Map.class, int.class);
-            afterExamples = StoryReporter.class.getMethod("afterExamples");
-            beforeStep = StoryReporter.class.getMethod("beforeStep", String.class);
-            successful = StoryReporter.class.getMethod("successful", String.class);
-            ignorable = StoryReporter.class.getMethod("ignorable", String.class);
-            comment = StoryReporter.class.getMethod("comment", String.class);
-            pending = StoryReporter.class.getMethod("pending", String.class);
-            notPerformed = StoryReporter.class.getMethod("notPerformed", String.class);
-            failed = StoryReporter.class.getMethod("failed", String.class, Throwable.class);
-            failedOutcomes = StoryReporter.class.getMethod("failedOutcomes", String.class, OutcomesTable.class);
-            dryRun = StoryReporter.class.getMethod("dryRun");
-            pendingMethods = StoryReporter.class.getMethod("pendingMethods", List.class);
-            restarted = StoryReporter.class.getMethod("restarted", String.class, Throwable.class);
-            restartedStory = StoryReporter.class.getMethod("restartedStory", Story.class, Throwable.class);
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private final List<DelayedMethod> delayedMethods;
+    private final Queue<DelayedEvent> delayedEvents;
     private final StoryReporter crossReferencing;
     private final StoryReporter delegate;
     private final boolean multiThreading;
-    private boolean invoked = false;
+    private volatile boolean invoked = false;
 
     public ConcurrentStoryReporter(StoryReporter crossReferencing, StoryReporter delegate, boolean multiThreading) {
         this.crossReferencing = crossReferencing;
         this.delegate = delegate;
         this.multiThreading = multiThreading;
-        delayedMethods = multiThreading ? Collections.synchronizedList(new ArrayList<DelayedMethod>()) : null;
+        delayedEvents = multiThreading ? new ConcurrentLinkedQueue<DelayedEvent>() : null;
     }
 
     @Override
-    public void storyNotAllowed(Story story, String filter) {
+    public void storyNotAllowed(final Story story, final String filter) {
         crossReferencing.storyNotAllowed(story, filter);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(storyNotAllowed, story, filter));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.storyNotAllowed(story, filter);
+                }
+            });
         } else {
             delegate.storyNotAllowed(story, filter);
         }
     }
 
     @Override
-    public void beforeStory(Story story, boolean givenStory) {
+    public void beforeStory(final Story story, final boolean givenStory) {
         crossReferencing.beforeStory(story, givenStory);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeStory, story, givenStory));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.beforeStory(story, givenStory);
+                }
+            });
         } else {
             delegate.beforeStory(story, givenStory);
         }
     }
 
     @Override
-    public void afterStory(boolean givenStory) {
+    public void afterStory(final boolean givenStory) {
         crossReferencing.afterStory(givenStory);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterStory, givenStory));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.afterStory(givenStory);
+                }
+            });
         } else {
             delegate.afterStory(givenStory);
         }
     }
 
     @Override
-    public void narrative(Narrative aNarrative) {
+    public void narrative(final Narrative aNarrative) {
         crossReferencing.narrative(aNarrative);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(narrative, aNarrative));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.narrative(aNarrative);
+                }
+            });
         } else {
             delegate.narrative(aNarrative);
         }
     }
-    
+
     @Override
-    public void lifecyle(Lifecycle aLifecycle) {
+    public void lifecyle(final Lifecycle aLifecycle) {
         crossReferencing.lifecyle(aLifecycle);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(lifecycle, aLifecycle));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.lifecyle(aLifecycle);
+                }
+            });
         } else {
             delegate.lifecyle(aLifecycle);
         }
     }
 
     @Override
-    public void scenarioNotAllowed(Scenario scenario, String filter) {
+    public void scenarioNotAllowed(final Scenario scenario, final String filter) {
         crossReferencing.scenarioNotAllowed(scenario, filter);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(scenarioNotAllowed, scenario, filter));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.scenarioNotAllowed(scenario, filter);
+                }
+            });
         } else {
             delegate.scenarioNotAllowed(scenario, filter);
         }
     }
 
     @Override
-    public void beforeScenario(Scenario scenario) {
+    public void beforeScenario(final Scenario scenario) {
         crossReferencing.beforeScenario(scenario);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeScenario, scenario));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.beforeScenario(scenario);
+                }
+            });
         } else {
             delegate.beforeScenario(scenario);
         }
     }
 
     @Override
-    public void beforeScenario(String scenarioTitle) {
+    public void beforeScenario(final String scenarioTitle) {
         crossReferencing.beforeScenario(scenarioTitle);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeScenarioDeprecated, scenarioTitle));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.beforeScenario(scenarioTitle);
+                }
+            });
         } else {
             delegate.beforeScenario(scenarioTitle);
         }
     }
 
     @Override
-    public void scenarioMeta(Meta meta) {
+    public void scenarioMeta(final Meta meta) {
         crossReferencing.scenarioMeta(meta);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(scenarioMeta, meta));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.scenarioMeta(meta);
+                }
+            });
         } else {
             delegate.scenarioMeta(meta);
         }
@@ -201,7 +182,12 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterScenario() {
         crossReferencing.afterScenario();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterScenario));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.afterScenario();
+                }
+            });
         } else {
             delegate.afterScenario();
         }
@@ -211,27 +197,42 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void beforeGivenStories() {
         crossReferencing.beforeGivenStories();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeGivenStories));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.beforeGivenStories();
+                }
+            });
         } else {
             delegate.beforeGivenStories();
         }
     }
 
     @Override
-    public void givenStories(GivenStories stories) {
+    public void givenStories(final GivenStories stories) {
         crossReferencing.givenStories(stories);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(givenStories, stories));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.givenStories(stories);
+                }
+            });
         } else {
             delegate.givenStories(stories);
         }
     }
 
     @Override
-    public void givenStories(List<String> storyPaths) {
+    public void givenStories(final List<String> storyPaths) {
         crossReferencing.givenStories(storyPaths);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(givenStoriesPaths, storyPaths));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.givenStories(storyPaths);
+                }
+            });
         } else {
             delegate.givenStories(storyPaths);
         }
@@ -241,37 +242,57 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterGivenStories() {
         crossReferencing.afterGivenStories();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterGivenStories));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.afterGivenStories();
+                }
+            });
         } else {
             delegate.afterGivenStories();
         }
     }
 
     @Override
-    public void beforeExamples(List<String> steps, ExamplesTable table) {
+    public void beforeExamples(final List<String> steps, final ExamplesTable table) {
         crossReferencing.beforeExamples(steps, table);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeExamples, steps, table));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.beforeExamples(steps, table);
+                }
+            });
         } else {
             delegate.beforeExamples(steps, table);
         }
     }
 
     @Override
-    public void example(Map<String, String> tableRow) {
+    public void example(final Map<String, String> tableRow) {
         crossReferencing.example(tableRow);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(exampleDeprecated, tableRow));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.example(tableRow);
+                }
+            });
         } else {
             delegate.example(tableRow);
         }
     }
 
     @Override
-    public void example(Map<String, String> tableRow, int exampleIndex) {
+    public void example(final Map<String, String> tableRow, final int exampleIndex) {
         crossReferencing.example(tableRow, exampleIndex);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(example, tableRow, exampleIndex));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.example(tableRow, exampleIndex);
+                }
+            });
         } else {
             delegate.example(tableRow, exampleIndex);
         }
@@ -281,87 +302,132 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void afterExamples() {
         crossReferencing.afterExamples();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(afterExamples));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.afterExamples();
+                }
+            });
         } else {
             delegate.afterExamples();
         }
     }
 
     @Override
-    public void beforeStep(String step) {
+    public void beforeStep(final String step) {
         crossReferencing.beforeStep(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(beforeStep, step));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.beforeStep(step);
+                }
+            });
         } else {
             delegate.beforeStep(step);
         }
     }
 
     @Override
-    public void successful(String step) {
+    public void successful(final String step) {
         crossReferencing.successful(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(successful, step));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.successful(step);
+                }
+            });
         } else {
             delegate.successful(step);
         }
     }
 
     @Override
-    public void ignorable(String step) {
+    public void ignorable(final String step) {
         crossReferencing.ignorable(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(ignorable, step));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.ignorable(step);
+                }
+            });
         } else {
             delegate.ignorable(step);
         }
     }
 
     @Override
-    public void comment(String step) {
+    public void comment(final String step) {
         crossReferencing.comment(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(comment, step));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.comment(step);
+                }
+            });
         } else {
             delegate.comment(step);
         }
     }
 
     @Override
-    public void pending(String step) {
+    public void pending(final String step) {
         crossReferencing.pending(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(pending, step));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.pending(step);
+                }
+            });
         } else {
             delegate.pending(step);
         }
     }
 
     @Override
-    public void notPerformed(String step) {
+    public void notPerformed(final String step) {
         crossReferencing.notPerformed(step);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(notPerformed, step));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.notPerformed(step);
+                }
+            });
         } else {
             delegate.notPerformed(step);
         }
     }
 
     @Override
-    public void failed(String step, Throwable cause) {
+    public void failed(final String step, final Throwable cause) {
         crossReferencing.failed(step, cause);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(failed, step, cause));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.failed(step, cause);
+                }
+            });
         } else {
             delegate.failed(step, cause);
         }
     }
 
     @Override
-    public void failedOutcomes(String step, OutcomesTable table) {
+    public void failedOutcomes(final String step, final OutcomesTable table) {
         crossReferencing.failedOutcomes(step, table);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(failedOutcomes, step, table));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.failedOutcomes(step, table);
+                }
+            });
         } else {
             delegate.failedOutcomes(step, table);
         }
@@ -371,48 +437,72 @@ public class ConcurrentStoryReporter implements StoryReporter {
     public void dryRun() {
         crossReferencing.dryRun();
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(dryRun));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.dryRun();
+                }
+            });
         } else {
             delegate.dryRun();
         }
     }
 
     @Override
-    public void pendingMethods(List<String> methods) {
+    public void pendingMethods(final List<String> methods) {
         crossReferencing.pendingMethods(methods);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(pendingMethods, methods));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.pendingMethods(methods);
+                }
+            });
         } else {
             delegate.pendingMethods(methods);
         }
-        
     }
-    
+
     @Override
-    public void restarted(String step, Throwable cause) {
+    public void restarted(final String step, final Throwable cause) {
         crossReferencing.restarted(step, cause);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(restarted, step, cause));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.restarted(step, cause);
+                }
+            });
         } else {
             delegate.restarted(step, cause);
         }
     }
-    
+
     @Override
-    public void restartedStory(Story story, Throwable cause){
+    public void restartedStory(final Story story, final Throwable cause) {
         crossReferencing.restartedStory(story, cause);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(restartedStory, story, cause));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.restartedStory(story, cause);
+                }
+            });
         } else {
             delegate.restartedStory(story, cause);
         }
     }
 
     @Override
-    public void storyCancelled(Story story, StoryDuration storyDuration) {
+    public void storyCancelled(final Story story, final StoryDuration storyDuration) {
         crossReferencing.storyCancelled(story, storyDuration);
         if (multiThreading) {
-            delayedMethods.add(new DelayedMethod(storyCancelled, story, storyDuration));
+            delay(new DelayedEvent() {
+                @Override
+                public void invoke(StoryReporter reporter) {
+                    reporter.storyCancelled(story, storyDuration);
+                }
+            });
         } else {
             delegate.storyCancelled(story, storyDuration);
         }
@@ -430,16 +520,36 @@ public class ConcurrentStoryReporter implements StoryReporter {
         if ( !multiThreading ){
             return;
         }
-        synchronized (delegate) {
-            for (DelayedMethod delayed : delayedMethods) {
+        // only the delayed events of this reporter need to be kept in order
+        synchronized (delayedEvents) {
+            DelayedEvent delayed;
+            while ((delayed = delayedEvents.poll()) != null) {
                 delayed.invoke(delegate);
             }
-            delayedMethods.clear();
         }
         invoked = true;
     }
 
-    public static class DelayedMethod {
+    private void delay(DelayedEvent event) {
+        delayedEvents.add(event);
+    }
+
+    /**
+     * An event reported to the {@link StoryReporter}, delayed until invoked
+     * on the delegate
+     */
+    public static interface DelayedEvent {
+
+        void invoke(StoryReporter delegate);
+
+    }
+
+    /**
+     * @deprecated Events are now delayed as typed {@link DelayedEvent}s,
+     *             invoked with no reflection
+     */
+    @Deprecated
+    public static class DelayedMethod implements DelayedEvent {
         private Method method;
         private Object[] args;
 
@@ -448,6 +558,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
             this.args = args;
         }
 
+        @Override
         public void invoke(StoryReporter delegate) {
             try {
                 method.invoke(delegate, args);
@@ -1,11 +1,24 @@
 package org.jbehave.core.reporters;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jbehave.core.embedder.MatchingStepMonitor.StepMatch;
 import org.jbehave.core.embedder.PerformableTree.ExamplePerformableScenario;
@@ -32,14 +45,45 @@ import org.jbehave.core.steps.NullStepMonitor;
 import org.jbehave.core.steps.StepMonitor;
 
 import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.collections.CollectionConverter;
+import com.thoughtworks.xstream.converters.collections.MapConverter;
+import com.thoughtworks.xstream.io.ExtendedHierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.ExtendedHierarchicalStreamWriterHelper;
+import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.StreamException;
+import com.thoughtworks.xstream.io.xml.XppDriver;
+import com.thoughtworks.xstream.mapper.Mapper;
+import com.thoughtworks.xstream.mapper.MapperWrapper;
 import com.thoughtworks.xstream.io.json.JsonHierarchicalStreamDriver;
+import com.thoughtworks.xstream.io.json.JsonWriter;
 import org.jbehave.core.steps.Timing;
 
+/**
+ * <p>
+ * Serialises the cross-reference of the performed stories, in XML and JSON.
+ * </p>
+ * <p>
+ * If output after each story, each story is recorded as soon as it is
+ * performed, appended as a line of JSON to the <b>.jsonl</b> file, with its
+ * offset in the <b>.jsonl.idx</b> index, so that the run can be followed as it
+ * goes. The records are merged into the cross-reference of all the stories by
+ * {@link #merge(File)}, in the same XML and JSON as
+ * {@link #serialise(PerformableRoot, File)}.
+ * </p>
+ */
 public class CrossReference {
 
+	private static final JsonWriter.Format COMPACT_JSON = new JsonWriter.Format(new char[0], new char[0],
+			JsonWriter.Format.SPACE_AFTER_LABEL | JsonWriter.Format.COMPACT_EMPTY_ELEMENT);
+
 	private boolean doJson = true;
 	private boolean doXml = true;
 	private String name;
+	private ExamplesTableXStream xmlXStream;
+	private ExamplesTableXStream jsonXStream;
+	private boolean outputAfterEachStory;
+	private boolean recording;
 
 	public CrossReference() {
 		this("XREF");
@@ -63,46 +107,152 @@ public class CrossReference {
 
 	public synchronized void serialise(PerformableRoot root,
 			File outputDirectory) {
-		XRef xref = new XRef(root);
-		if (doXml) {
-			serialise(xref, "xml", outputDirectory);
+		XRefContent content = new PerformedContent(root.getStories());
+		try {
+			if (doXml) {
+				write(content, "xml", outputDirectory);
+			}
+			if (doJson) {
+				write(content, "json", outputDirectory);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(name, e);
 		}
-		if (doJson) {
-			serialise(xref, "json", outputDirectory);
+	}
+
+	/**
+	 * Records the performed story, appending it to the records of the
+	 * stories performed before it since the last merge.
+	 * 
+	 * @param story the PerformableStory
+	 * @param outputDirectory the output directory
+	 */
+	public synchronized void serialise(PerformableStory story, File outputDirectory) {
+		boolean append = recording;
+		recording = true;
+		File viewDirectory = viewDirectory(outputDirectory);
+		try {
+			File records = new File(viewDirectory, fileName("jsonl"));
+			long offset = append ? records.length() : 0;
+			Writer writer = new BufferedWriter(new FileWriter(records, append));
+			try {
+				xstream("json").marshal(story, new JsonWriter(writer, JsonWriter.DROP_ROOT_MODE, COMPACT_JSON));
+				writer.write('\n');
+			} finally {
+				writer.close();
+			}
+			writer = new FileWriter(new File(viewDirectory, fileName("jsonl.idx")), append);
+			try {
+				writer.write(offset + "\t" + story.getStory().getPath() + "\n");
+			} finally {
+				writer.close();
+			}
+			record(Collections.singletonList(story), partFile("stories", viewDirectory), append);
+			record(story.getScenarios(), partFile("scenarios", viewDirectory), append);
+		} catch (IOException e) {
+			throw new RuntimeException(name, e);
 		}
 	}
 
-	private void serialise(Object object, String format, File outputDirectory) {
+	/**
+	 * Merges the records of the stories performed since the last merge into
+	 * the cross-reference of all of them.
+	 * 
+	 * @param outputDirectory the output directory
+	 */
+	public synchronized void merge(File outputDirectory) {
+		boolean recorded = recording;
+		recording = false;
+		File viewDirectory = viewDirectory(outputDirectory);
+		XRefContent content = new RecordedContent(recorded, partFile("stories", viewDirectory),
+				partFile("scenarios", viewDirectory));
 		try {
-			serialise(object, xstream(format), writer(format, outputDirectory));
+			if (doXml) {
+				write(content, "xml", outputDirectory);
+			}
+			if (doJson) {
+				write(content, "json", outputDirectory);
+			}
 		} catch (IOException e) {
 			throw new RuntimeException(name, e);
 		}
 	}
 
-	private void serialise(Object object, XStream xstream, Writer writer)
-			throws IOException {
-		writer.write(xstream.toXML(object));
-		writer.flush();
-		writer.close();
+	/**
+	 * Appends the nodes the objects are marshalled to, whatever the format,
+	 * to the part they are merged from.
+	 */
+	private void record(List<?> objects, File part, boolean append) throws IOException {
+		RecordingWriter writer = new RecordingWriter(new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(part, append))));
+		try {
+			for (Object object : objects) {
+				xstream("xml").marshal(object, writer);
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
+	private File partFile(String part, File viewDirectory) {
+		return new File(viewDirectory, name.toLowerCase() + "-" + part + ".part");
+	}
+
+	private File viewDirectory(File outputDirectory) {
+		File viewDirectory = new File(outputDirectory, "view");
+		viewDirectory.mkdirs();
+		return viewDirectory;
+	}
+
+	/**
+	 * Writes the cross-reference through the XStream writer of the format, as
+	 * XStream would write the {@link XRef} of the stories, with the stories and
+	 * their scenarios written by the content one at a time, so that neither
+	 * the document nor the list of all the scenarios is held in memory.
+	 */
+	private void write(XRefContent content, String format, File outputDirectory) throws IOException {
+		Writer writer = writer(format, outputDirectory);
+		try {
+			ExamplesTableXStream xstream = xstream(format);
+			HierarchicalStreamWriter streamWriter = xstream.createWriter(writer);
+			Mapper mapper = xstream.getMapper();
+			ExtendedHierarchicalStreamWriterHelper.startNode(streamWriter, mapper.serializedClass(XRef.class),
+					XRef.class);
+			ExtendedHierarchicalStreamWriterHelper.startNode(streamWriter,
+					mapper.serializedMember(XRef.class, "stories"), ArrayList.class);
+			content.writeStories(xstream, streamWriter);
+			streamWriter.endNode();
+			ExtendedHierarchicalStreamWriterHelper.startNode(streamWriter,
+					mapper.serializedMember(XRef.class, "scenarios"), ArrayList.class);
+			content.writeScenarios(xstream, streamWriter);
+			streamWriter.endNode();
+			streamWriter.endNode();
+			streamWriter.flush();
+		} finally {
+			writer.close();
+		}
 	}
 
 	private Writer writer(String format, File outputDirectory)
 			throws IOException {
 		String name = fileName(format);
-		File outputDir = new File(outputDirectory, "view");
-		outputDir.mkdirs();
-		return new FileWriter(new File(outputDir, name));
+		return new BufferedWriter(new FileWriter(new File(viewDirectory(outputDirectory), name)));
 	}
 
-	private XStream xstream(String format) {
-		XStream xstream = (format.equals("json") ? new XStream(
-				new JsonHierarchicalStreamDriver()) : new XStream());
-		configure(xstream);
-		return xstream;
+	private ExamplesTableXStream xstream(String format) {
+		if (format.equals("json")) {
+			if (jsonXStream == null) {
+				jsonXStream = configure(new ExamplesTableXStream(new JsonHierarchicalStreamDriver()));
+			}
+			return jsonXStream;
+		}
+		if (xmlXStream == null) {
+			xmlXStream = configure(new ExamplesTableXStream(new XppDriver()));
+		}
+		return xmlXStream;
 	}
 
-	private void configure(XStream xstream) {
+	private ExamplesTableXStream configure(ExamplesTableXStream xstream) {
 		xstream.setMode(XStream.NO_REFERENCES);
 		xstream.alias("xref", XRef.class);
 		xstream.alias(name.toLowerCase(), PerformableRoot.class);
@@ -132,6 +282,57 @@ public class CrossReference {
 		xstream.omitField(ExamplesTable.class, "parameterConverters");
 		xstream.omitField(ExamplesTable.class, "tableTrasformers");
 		xstream.omitField(ExamplesTable.class, "defaults");
+		xstream.registerConverter(new CollectionConverter(xstream.getMapper()) {
+			@Override
+			public boolean canConvert(@SuppressWarnings("rawtypes") Class type) {
+				return isOfExamplesTable(type) && List.class.isAssignableFrom(type);
+			}
+		});
+		xstream.registerConverter(new MapConverter(xstream.getMapper()) {
+			@Override
+			public boolean canConvert(@SuppressWarnings("rawtypes") Class type) {
+				return isOfExamplesTable(type) && Map.class.isAssignableFrom(type);
+			}
+		});
+		return xstream;
+	}
+
+	private static boolean isOfExamplesTable(Class<?> type) {
+		return type != null && type.getEnclosingClass() == ExamplesTable.class;
+	}
+
+	/**
+	 * Serialises the rows of the examples tables, which are held by column,
+	 * as the lists of linked maps they are read as.
+	 */
+	private static class ExamplesTableXStream extends XStream {
+
+		private final HierarchicalStreamDriver driver;
+
+		ExamplesTableXStream(HierarchicalStreamDriver driver) {
+			super(driver);
+			this.driver = driver;
+		}
+
+		HierarchicalStreamWriter createWriter(Writer writer) {
+			return driver.createWriter(writer);
+		}
+
+		@Override
+		protected MapperWrapper wrapMapper(MapperWrapper next) {
+			return new MapperWrapper(next) {
+				@Override
+				public String serializedClass(@SuppressWarnings("rawtypes") Class type) {
+					if (isOfExamplesTable(type) && Map.class.isAssignableFrom(type)) {
+						return super.serializedClass(LinkedHashMap.class);
+					}
+					if (isOfExamplesTable(type) && List.class.isAssignableFrom(type)) {
+						return super.serializedClass(ArrayList.class);
+					}
+					return super.serializedClass(type);
+				}
+			};
+		}
 	}
 
 	private String fileName(String extension) {
@@ -164,13 +365,21 @@ public class CrossReference {
 	}
 
 	/**
-	 * @deprecated
+	 * Records each story as soon as it is performed, to be merged into the
+	 * cross-reference of all the stories by {@link #merge(File)}.
+	 * 
+	 * @param outputAfterEachStory the boolean flag
+	 * @return The CrossReference
 	 */
-	@Deprecated
-    public CrossReference withOutputAfterEachStory(boolean outputAfterEachStory) {
+	public CrossReference withOutputAfterEachStory(boolean outputAfterEachStory) {
+		this.outputAfterEachStory = outputAfterEachStory;
 		return this;
 	}
 
+	public boolean outputAfterEachStory() {
+		return outputAfterEachStory;
+	}
+
 	/**
 	 * @deprecated
 	 */
@@ -262,7 +471,15 @@ public class CrossReference {
 		private List<PerformableScenario> scenarios = new ArrayList<>();
 
 		public XRef(PerformableRoot root) {
-			stories = root.getStories();
+			this(root.getStories());
+		}
+
+		public XRef(PerformableStory story) {
+			this(new ArrayList<>(Collections.singletonList(story)));
+		}
+
+		private XRef(List<PerformableStory> stories) {
+			this.stories = stories;
 			for (PerformableStory story : stories) {
 				scenarios.addAll(story.getScenarios());
 			}
@@ -270,4 +487,230 @@ public class CrossReference {
 
 	}
 
+	/**
+	 * The stories and scenarios written within the cross-reference.
+	 */
+	private interface XRefContent {
+
+		void writeStories(XStream xstream, HierarchicalStreamWriter writer) throws IOException;
+
+		void writeScenarios(XStream xstream, HierarchicalStreamWriter writer) throws IOException;
+
+	}
+
+	/**
+	 * The performed stories and their scenarios, marshalled as written.
+	 */
+	private static class PerformedContent implements XRefContent {
+		private final List<PerformableStory> stories;
+
+		PerformedContent(List<PerformableStory> stories) {
+			this.stories = stories;
+		}
+
+		@Override
+		public void writeStories(XStream xstream, HierarchicalStreamWriter writer) {
+			for (PerformableStory story : stories) {
+				xstream.marshal(story, writer);
+			}
+		}
+
+		@Override
+		public void writeScenarios(XStream xstream, HierarchicalStreamWriter writer) {
+			for (PerformableStory story : stories) {
+				for (PerformableScenario scenario : story.getScenarios()) {
+					xstream.marshal(scenario, writer);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The stories and scenarios recorded after each story, replayed from
+	 * their parts.
+	 */
+	private static class RecordedContent implements XRefContent {
+		private final boolean recorded;
+		private final File stories;
+		private final File scenarios;
+
+		RecordedContent(boolean recorded, File stories, File scenarios) {
+			this.recorded = recorded;
+			this.stories = stories;
+			this.scenarios = scenarios;
+		}
+
+		@Override
+		public void writeStories(XStream xstream, HierarchicalStreamWriter writer) throws IOException {
+			if (recorded) {
+				RecordingWriter.replay(stories, writer);
+			}
+		}
+
+		@Override
+		public void writeScenarios(XStream xstream, HierarchicalStreamWriter writer) throws IOException {
+			if (recorded) {
+				RecordingWriter.replay(scenarios, writer);
+			}
+		}
+	}
+
+	/**
+	 * Records the nodes written by XStream, with the types they are written
+	 * for, so that they can be replayed to the writer of any format.
+	 */
+	private static class RecordingWriter implements ExtendedHierarchicalStreamWriter {
+		private static final int START_NODE = 1;
+		private static final int ATTRIBUTE = 2;
+		private static final int VALUE = 3;
+		private static final int END_NODE = 4;
+		private static final List<Class<?>> PRIMITIVES = Arrays.<Class<?>>asList(boolean.class, byte.class,
+				char.class, short.class, int.class, long.class, float.class, double.class);
+
+		private final DataOutputStream output;
+
+		RecordingWriter(DataOutputStream output) {
+			this.output = output;
+		}
+
+		@Override
+		public void startNode(String name, @SuppressWarnings("rawtypes") Class clazz) {
+			write(START_NODE, name, clazz != null ? clazz.getName() : "");
+		}
+
+		@Override
+		public void startNode(String name) {
+			startNode(name, null);
+		}
+
+		@Override
+		public void addAttribute(String name, String value) {
+			write(ATTRIBUTE, name, value);
+		}
+
+		@Override
+		public void setValue(String text) {
+			write(VALUE, text, null);
+		}
+
+		@Override
+		public void endNode() {
+			write(END_NODE, null, null);
+		}
+
+		private void write(int event, String first, String second) {
+			try {
+				output.writeByte(event);
+				if (first != null) {
+					writeString(first);
+				}
+				if (second != null) {
+					writeString(second);
+				}
+			} catch (IOException e) {
+				throw new StreamException(e);
+			}
+		}
+
+		private void writeString(String value) throws IOException {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			output.writeInt(bytes.length);
+			output.write(bytes);
+		}
+
+		@Override
+		public void flush() {
+			try {
+				output.flush();
+			} catch (IOException e) {
+				throw new StreamException(e);
+			}
+		}
+
+		@Override
+		public void close() {
+			try {
+				output.close();
+			} catch (IOException e) {
+				throw new StreamException(e);
+			}
+		}
+
+		@Override
+		public HierarchicalStreamWriter underlyingWriter() {
+			return this;
+		}
+
+		static void replay(File recorded, HierarchicalStreamWriter writer) throws IOException {
+			if (!recorded.isFile()) {
+				return;
+			}
+			Map<String, Class<?>> types = new HashMap<>();
+			DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(recorded)));
+			try {
+				int event;
+				while ((event = input.read()) != -1) {
+					switch (event) {
+					case START_NODE:
+						String name = readString(input);
+						String type = readString(input);
+						if (type.isEmpty()) {
+							writer.startNode(name);
+						} else {
+							ExtendedHierarchicalStreamWriterHelper.startNode(writer, name, typeOf(type, types));
+						}
+						break;
+					case ATTRIBUTE:
+						writer.addAttribute(readString(input), readString(input));
+						break;
+					case VALUE:
+						writer.setValue(readString(input));
+						break;
+					case END_NODE:
+						writer.endNode();
+						break;
+					default:
+						throw new IOException("Unexpected event " + event + " recorded in " + recorded);
+					}
+				}
+			} finally {
+				input.close();
+			}
+		}
+
+		private static String readString(DataInputStream input) throws IOException {
+			byte[] bytes = new byte[input.readInt()];
+			input.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		private static Class<?> typeOf(String name, Map<String, Class<?>> types) {
+			Class<?> type = types.get(name);
+			if (type == null) {
+				type = loadType(name);
+				types.put(name, type);
+			}
+			return type;
+		}
+
+		private static Class<?> loadType(String name) {
+			for (ClassLoader classLoader : Arrays.asList(CrossReference.class.getClassLoader(),
+					Thread.currentThread().getContextClassLoader())) {
+				try {
+					return Class.forName(name, false, classLoader);
+				} catch (ClassNotFoundException e) {
+					// try next class loader
+				}
+			}
+			for (Class<?> primitive : PRIMITIVES) {
+				if (primitive.getName().equals(name)) {
+					return primitive;
+				}
+			}
+			// a type no longer loadable, e.g. of a failure, is written as an object
+			return Object.class;
+		}
+
+	}
+
 }
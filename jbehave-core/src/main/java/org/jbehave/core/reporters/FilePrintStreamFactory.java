@@ -1,8 +1,10 @@
 package org.jbehave.core.reporters;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -36,7 +38,7 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
         try {
             outputFile = outputFile();
             outputFile.getParentFile().mkdirs();
-            return new FilePrintStream(outputFile, false);
+            return new FilePrintStream(outputFile, false, configuration.getBufferSize());
         } catch (Exception e) {
             throw new PrintStreamCreationFailed(outputFile, e);
         }
@@ -133,17 +135,35 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
 
     }
 
+    /**
+     * Print stream to a file, which is buffered if the buffer size is
+     * positive, so that the output is only written to the file when the buffer
+     * is full or the stream is flushed or closed.
+     */
     public static class FilePrintStream extends PrintStream {
 
         private final File outputFile;
         private final boolean append;
 
         public FilePrintStream(File outputFile, boolean append) throws FileNotFoundException {
-            super(new FileOutputStream(outputFile, append));
+            this(outputFile, append, 0);
+        }
+
+        public FilePrintStream(File outputFile, boolean append, int bufferSize) throws FileNotFoundException {
+            super(fileOutputStream(outputFile, append, bufferSize));
             this.outputFile = outputFile;
             this.append = append;
         }
 
+        private static OutputStream fileOutputStream(File outputFile, boolean append, int bufferSize)
+                throws FileNotFoundException {
+            OutputStream output = new FileOutputStream(outputFile, append);
+            if (bufferSize > 0) {
+                return new BufferedOutputStream(output, bufferSize);
+            }
+            return output;
+        }
+
         @Override
         public String toString() {
             return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append(outputFile).append(append)
@@ -154,8 +174,10 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
 
     /**
      * Configuration class for file print streams. Allows specification the
-     * relative directory (relative to code location) and file extension.
-     * Provides as defaults {@link #RELATIVE_DIRECTORY} and {@link #EXTENSION}.
+     * relative directory (relative to code location), file extension and
+     * buffer size, with a non-positive size for unbuffered streams. Provides
+     * as defaults {@link #RELATIVE_DIRECTORY}, {@link #EXTENSION} and
+     * unbuffered streams.
      */
     public static class FileConfiguration {
         public static final String RELATIVE_DIRECTORY = "jbehave";
@@ -164,6 +186,7 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
         private final String relativeDirectory;
         private final String extension;
         private final FilePathResolver pathResolver;
+        private final int bufferSize;
 
         public FileConfiguration() {
             this(EXTENSION);
@@ -174,9 +197,15 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
         }
 
         public FileConfiguration(String relativeDirectory, String extension, FilePathResolver pathResolver) {
+            this(relativeDirectory, extension, pathResolver, 0);
+        }
+
+        public FileConfiguration(String relativeDirectory, String extension, FilePathResolver pathResolver,
+                int bufferSize) {
             this.relativeDirectory = relativeDirectory;
             this.extension = extension;
             this.pathResolver = pathResolver;
+            this.bufferSize = bufferSize;
         }
 
         public String getRelativeDirectory() {
@@ -191,6 +220,10 @@ public class FilePrintStreamFactory implements PrintStreamFactory {
             return pathResolver;
         }
 
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
         @Override
         public String toString() {
             return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
@@ -93,7 +93,8 @@ public abstract class Format {
         public StoryReporter createStoryReporter(FilePrintStreamFactory factory,
                 StoryReporterBuilder storyReporterBuilder) {
             factory.useConfiguration(storyReporterBuilder.fileConfiguration("html"));
-            return new HtmlTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords());
+            return new HtmlTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords(),
+                    storyReporterBuilder.templateProcessor());
         }
     };
 
@@ -102,7 +103,8 @@ public abstract class Format {
         public StoryReporter createStoryReporter(FilePrintStreamFactory factory,
                 StoryReporterBuilder storyReporterBuilder) {
             factory.useConfiguration(storyReporterBuilder.fileConfiguration("xml"));
-            return new XmlTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords());
+            return new XmlTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords(),
+                    storyReporterBuilder.templateProcessor());
         }
     };
 
@@ -111,7 +113,8 @@ public abstract class Format {
         public StoryReporter createStoryReporter(FilePrintStreamFactory factory,
                                                  StoryReporterBuilder storyReporterBuilder) {
             factory.useConfiguration(storyReporterBuilder.fileConfiguration("json"));
-            return new JsonTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords());
+            return new JsonTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords(),
+                    storyReporterBuilder.templateProcessor());
         }
     };
 
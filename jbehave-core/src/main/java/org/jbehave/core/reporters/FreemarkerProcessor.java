@@ -6,8 +6,14 @@ import java.util.Map;
 import freemarker.template.Configuration;
 import freemarker.template.ObjectWrapper;
 
+/**
+ * Processes the templates with Freemarker, using a {@link Configuration}
+ * created once and shared by all the templates processed, so that they are
+ * only loaded and parsed once.
+ */
 public class FreemarkerProcessor implements TemplateProcessor {
     private Class<?> templateLoadingFrom;
+    private volatile Configuration configuration;
         
     public FreemarkerProcessor() {
         this(FreemarkerProcessor.class);
@@ -19,7 +25,7 @@ public class FreemarkerProcessor implements TemplateProcessor {
 
     @Override
     public void process(String resource, Map<String, Object> dataModel, Writer writer) {
-        Configuration configuration = configuration();
+        Configuration configuration = sharedConfiguration();
         try {
             configuration.getTemplate(resource).process(dataModel, writer);
         } catch (Exception e) {
@@ -27,6 +33,17 @@ public class FreemarkerProcessor implements TemplateProcessor {
         }
     }
 
+    private Configuration sharedConfiguration() {
+        if (configuration == null) {
+            synchronized (this) {
+                if (configuration == null) {
+                    configuration = configuration();
+                }
+            }
+        }
+        return configuration;
+    }
+
     public Configuration configuration() {
         Configuration configuration = new Configuration();
         configuration.setClassForTemplateLoading(templateLoadingFrom, "/");
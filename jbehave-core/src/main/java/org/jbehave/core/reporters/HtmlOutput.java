@@ -21,6 +21,8 @@ import static org.jbehave.core.reporters.PrintStreamOutput.Format.HTML;
  */
 public class HtmlOutput extends PrintStreamOutput {
 
+    private static final Properties DEFAULT_PATTERNS = defaultHtmlPatterns();
+
     public HtmlOutput(PrintStream output) {
         this(output, new Properties());
     }
@@ -44,7 +46,7 @@ public class HtmlOutput extends PrintStreamOutput {
 
     public HtmlOutput(PrintStream output, Properties outputPatterns,
             Keywords keywords, boolean reportFailureTrace, boolean compressFailureTrace) {
-        super(HTML, output, defaultHtmlPatterns(), outputPatterns, keywords, reportFailureTrace, compressFailureTrace);
+        super(HTML, output, DEFAULT_PATTERNS, outputPatterns, keywords, reportFailureTrace, compressFailureTrace);
     }
 
     private static Properties defaultHtmlPatterns() {
@@ -13,7 +13,11 @@ import org.jbehave.core.configuration.Keywords;
 public class HtmlTemplateOutput extends TemplateableOutput {
 
     public HtmlTemplateOutput(File file, Keywords keywords) {
-        super(file, keywords, new FreemarkerProcessor(), "ftl/jbehave-html-output.ftl");
+        this(file, keywords, new FreemarkerProcessor());
+    }
+
+    public HtmlTemplateOutput(File file, Keywords keywords, TemplateProcessor processor) {
+        this(file, keywords, processor, "ftl/jbehave-html-output.ftl");
     }
 
     public HtmlTemplateOutput(File file, Keywords keywords, TemplateProcessor processor, String templatePath) {
@@ -28,6 +28,8 @@ import org.jbehave.core.configuration.Keywords;
  */
 public class JsonOutput extends PrintStreamOutput {
 
+    private static final Properties DEFAULT_PATTERNS = defaultXmlPatterns();
+
     private static final char JSON_DOCUMENT_START = 0;
     private static final char JSON_OBJECT_START = '{';
     private static final char JSON_ARRAY_START = '[';
@@ -53,7 +55,7 @@ public class JsonOutput extends PrintStreamOutput {
     }
 
     public JsonOutput(PrintStream output, Properties outputPatterns, Keywords keywords) {
-        super(JSON, output, defaultXmlPatterns(), outputPatterns, keywords);
+        super(JSON, output, DEFAULT_PATTERNS, outputPatterns, keywords);
     }
 
     @Override
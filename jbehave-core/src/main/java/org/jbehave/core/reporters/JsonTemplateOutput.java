@@ -13,7 +13,11 @@ import java.io.File;
 public class JsonTemplateOutput extends TemplateableOutput {
 
     public JsonTemplateOutput(File file, Keywords keywords) {
-        super(file, keywords, new FreemarkerProcessor(), "ftl/jbehave-json-output.ftl");
+        this(file, keywords, new FreemarkerProcessor());
+    }
+
+    public JsonTemplateOutput(File file, Keywords keywords, TemplateProcessor processor) {
+        this(file, keywords, processor, "ftl/jbehave-json-output.ftl");
     }
 
     public JsonTemplateOutput(File file, Keywords keywords, TemplateProcessor processor, String templatePath) {
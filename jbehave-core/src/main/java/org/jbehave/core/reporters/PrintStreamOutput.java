@@ -5,16 +5,14 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.text.MessageFormat;
 import java.text.SimpleDateFormat;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.Transformer;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -89,6 +87,7 @@ import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_START;
 public abstract class PrintStreamOutput extends NullStoryReporter {
 
     private static final String EMPTY = "";
+    private static final int MAX_REUSED_OUTPUT_LENGTH = 8192;
     public static final String NL = "\n";
 
     public enum Format {
@@ -124,22 +123,27 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
 
     private final Format format;
     private final PrintStream output;
-    private final Properties outputPatterns;
+    private volatile Properties outputPatterns;
+    private boolean sharedPatterns;
     private final Keywords keywords;
+    private final Map<String, String> escapedPatterns = new ConcurrentHashMap<>();
     private ThreadLocal<Boolean> reportFailureTrace = new ThreadLocal<>();
     private ThreadLocal<Boolean> compressFailureTrace = new ThreadLocal<>();
     private ThreadLocal<Throwable> cause = new ThreadLocal<>();
+    private ThreadLocal<StringBuilder> formattedOutput = new ThreadLocal<>();
 
     protected PrintStreamOutput(Format format, PrintStream output, Properties defaultPatterns,
             Properties outputPatterns, Keywords keywords) {
         this(format, output, mergePatterns(defaultPatterns, outputPatterns), keywords, false,
                 false);
+        this.sharedPatterns = outputPatterns.isEmpty();
     }
 
     protected PrintStreamOutput(Format format, PrintStream output, Properties defaultPatterns,
             Properties outputPatterns, Keywords keywords, boolean reportFailureTrace, boolean compressFailureTrace) {
         this(format, output, mergePatterns(defaultPatterns, outputPatterns), keywords, reportFailureTrace,
                 compressFailureTrace);
+        this.sharedPatterns = outputPatterns.isEmpty();
     }
 
     protected PrintStreamOutput(Format format, PrintStream output, Properties outputPatterns, Keywords keywords,
@@ -153,6 +157,10 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
     }
 
     private static Properties mergePatterns(Properties defaultPatterns, Properties outputPatterns) {
+        if (outputPatterns.isEmpty()) {
+            // shared by all the outputs until a pattern is overwritten
+            return defaultPatterns;
+        }
         Properties patterns = new Properties();
         patterns.putAll(defaultPatterns);
         // override any default pattern
@@ -355,6 +363,8 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
         // which is used for ConsoleOutput
         if (!givenOrRestartingStory && output != System.out) {
             output.close();
+        } else {
+            output.flush();
         }
     }
 
@@ -451,7 +461,10 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
     }
 
     /**
-     * Formats event output by key, usually equal to the method name.
+     * Formats event output by key, usually equal to the method name. The
+     * patterns are parsed once and formatted as by {@link MessageFormat}, with
+     * the args escaped by {@link #escape(Format, Object...)}. The output is
+     * appended to a builder reused by the formatting thread.
      * 
      * @param key the event key
      * @param defaultPattern the default pattern to return if a custom pattern
@@ -460,10 +473,20 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
      * @return A formatted event output
      */
     protected String format(String key, String defaultPattern, Object... args) {
-        String escape = escape(defaultPattern);
-        String s = lookupPattern(key, escape);
-        Object[] objects = escapeAll(args);
-        return MessageFormat.format(s, objects);
+        String pattern = lookupPattern(key, escape(defaultPattern));
+        Object[] escapedArgs = args != null ? escape(format, args) : null;
+        StringBuilder formatted = formattedOutput.get();
+        if (formatted == null) {
+            formatted = new StringBuilder();
+            formattedOutput.set(formatted);
+        }
+        formatted.setLength(0);
+        String output = OutputPattern.of(pattern).appendTo(formatted, escapedArgs).toString();
+        if (formatted.length() > MAX_REUSED_OUTPUT_LENGTH) {
+            // not kept to be reused, as rarely needed so long
+            formattedOutput.remove();
+        }
+        return output;
     }
 
     protected String formatTable(ExamplesTable table) {
@@ -491,11 +514,12 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
     }
 
     private String escape(String defaultPattern) {
-        return (String) escapeAll(defaultPattern)[0];
-    }
-
-    private Object[] escapeAll(Object... args) {
-        return escape(format, args);
+        String escaped = escapedPatterns.get(defaultPattern);
+        if (escaped == null) {
+            escaped = (String) escape(format, defaultPattern)[0];
+            escapedPatterns.put(defaultPattern, escaped);
+        }
+        return escaped;
     }
 
     /**
@@ -506,16 +530,11 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
      * @return The cloned and escaped array of args
      */
     protected Object[] escape(final Format format, Object... args) {
-        // Transformer that escapes HTML,XML,JSON strings
-        Transformer<Object, Object> escapingTransformer = new Transformer<Object, Object>() {
-            @Override
-            public Object transform(Object object) {
-                return format.escapeValue(object);
-            }
-        };
-        List<Object> list = Arrays.asList(ArrayUtils.clone(args));
-        CollectionUtils.transform(list, escapingTransformer);
-        return list.toArray();
+        Object[] escaped = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            escaped[i] = format.escapeValue(args[i]);
+        }
+        return escaped;
     }
 
     /**
@@ -559,7 +578,13 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
         return this;
     }
 
-    protected void overwritePattern(String key, String pattern) {
+    protected synchronized void overwritePattern(String key, String pattern) {
+        if (sharedPatterns) {
+            Properties patterns = new Properties();
+            patterns.putAll(outputPatterns);
+            outputPatterns = patterns;
+            sharedPatterns = false;
+        }
         outputPatterns.put(key, pattern);
     }
 
@@ -596,4 +621,124 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
     public String toString() {
         return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append(format).append(output).toString();
     }
+
+    /**
+     * Pattern parsed into its literal text and argument indexes, which formats
+     * the args as {@link MessageFormat} does. Patterns with format types or
+     * styles, or which {@link MessageFormat} would not parse, are left to
+     * {@link MessageFormat}.
+     */
+    static final class OutputPattern {
+
+        private static final int MAX_CACHED_PATTERNS = 1000;
+        private static final Map<String, OutputPattern> PATTERNS = new ConcurrentHashMap<>();
+
+        private final String pattern;
+        private final String[] literals;
+        private final int[] arguments;
+
+        private OutputPattern(String pattern, String[] literals, int[] arguments) {
+            this.pattern = pattern;
+            this.literals = literals;
+            this.arguments = arguments;
+        }
+
+        static OutputPattern of(String pattern) {
+            OutputPattern outputPattern = PATTERNS.get(pattern);
+            if (outputPattern == null) {
+                outputPattern = parse(pattern);
+                if (PATTERNS.size() < MAX_CACHED_PATTERNS) {
+                    PATTERNS.put(pattern, outputPattern);
+                }
+            }
+            return outputPattern;
+        }
+
+        private static OutputPattern parse(String pattern) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> arguments = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            boolean inQuote = false;
+            int i = 0;
+            while (i < pattern.length()) {
+                char ch = pattern.charAt(i);
+                if (ch == '\'') {
+                    if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                        literal.append(ch);
+                        i++;
+                    } else {
+                        inQuote = !inQuote;
+                    }
+                } else if (ch == '{' && !inQuote) {
+                    int end = pattern.indexOf('}', i + 1);
+                    Integer argument = end > i + 1 ? argumentIndex(pattern.substring(i + 1, end)) : null;
+                    if (argument == null) {
+                        return new OutputPattern(pattern, null, null);
+                    }
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    arguments.add(argument);
+                    i = end;
+                } else {
+                    literal.append(ch);
+                }
+                i++;
+            }
+            literals.add(literal.toString());
+            int[] indexes = new int[arguments.size()];
+            for (int a = 0; a < indexes.length; a++) {
+                indexes[a] = arguments.get(a);
+            }
+            return new OutputPattern(pattern, literals.toArray(new String[literals.size()]), indexes);
+        }
+
+        private static Integer argumentIndex(String index) {
+            for (int i = 0; i < index.length(); i++) {
+                char ch = index.charAt(i);
+                if (ch < '0' || ch > '9') {
+                    return null;
+                }
+            }
+            try {
+                return Integer.parseInt(index);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Appends the pattern formatted with the args, already escaped, to the
+         * builder
+         * 
+         * @param formatted the StringBuilder to append to
+         * @param args the escaped args
+         * @return The StringBuilder
+         */
+        StringBuilder appendTo(StringBuilder formatted, Object... args) {
+            if (arguments == null) {
+                return formatted.append(MessageFormat.format(pattern, args));
+            }
+            for (int a = 0; a < arguments.length; a++) {
+                formatted.append(literals[a]);
+                int index = arguments[a];
+                if (args == null || index >= args.length) {
+                    formatted.append('{').append(index).append('}');
+                } else {
+                    appendArgument(formatted, args[index]);
+                }
+            }
+            return formatted.append(literals[arguments.length]);
+        }
+
+        private static void appendArgument(StringBuilder formatted, Object arg) {
+            if (arg instanceof String) {
+                formatted.append((String) arg);
+            } else if (arg instanceof Number || arg instanceof Date) {
+                // formatted according to the default locale
+                formatted.append(new MessageFormat("{0}").format(new Object[] { arg }));
+            } else {
+                formatted.append(String.valueOf(arg));
+            }
+        }
+    }
 }
@@ -8,6 +8,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
@@ -153,9 +159,13 @@ public class StoryReporterBuilder {
     protected SGRCodes codes;
     protected CrossReference crossReference;
     protected SurefireReporter surefireReporter;
+    protected TemplateProcessor templateProcessor;
     protected boolean multiThreading;
+    protected int reportWriterThreads;
+    protected int reportBufferSize = 8192;
     protected Configuration configuration;
     private FileConfiguration defaultFileConfiguration = new FileConfiguration();
+    private ThreadPoolExecutor reportWriters;
 
     public StoryReporterBuilder() {
     }
@@ -230,6 +240,14 @@ public class StoryReporterBuilder {
         return multiThreading;
     }
 
+    public int reportWriterThreads() {
+        return reportWriterThreads;
+    }
+
+    public int reportBufferSize() {
+        return reportBufferSize;
+    }
+
     public boolean reportFailureTrace() {
         return reportFailureTrace;
     }
@@ -292,6 +310,24 @@ public class StoryReporterBuilder {
         return this;
     }
 
+    /**
+     * Returns the processor of the templates of the template-based formats,
+     * shared by the reporters built for all the stories.
+     * 
+     * @return The TemplateProcessor, by default a {@link FreemarkerProcessor}
+     */
+    public synchronized TemplateProcessor templateProcessor() {
+        if (templateProcessor == null) {
+            templateProcessor = new FreemarkerProcessor();
+        }
+        return templateProcessor;
+    }
+
+    public StoryReporterBuilder withTemplateProcessor(TemplateProcessor templateProcessor) {
+        this.templateProcessor = templateProcessor;
+        return this;
+    }
+
     public StoryReporterBuilder withDefaultFormats() {
         return withFormats(Format.STATS);
     }
@@ -349,21 +385,78 @@ public class StoryReporterBuilder {
         return this;
     }
 
+    /**
+     * Writes the reports asynchronously, via {@link AsyncStoryReporter}s, in
+     * the given number of writer threads shared by all the reporters built.
+     * The reports are written in the threads performing the stories if the
+     * number of writer threads is not positive, as by default. When multi
+     * threading, the events are then no longer delayed until the end of each
+     * story, so each report is written while its story is performed.
+     * 
+     * @param reportWriterThreads the number of writer threads
+     * @return The StoryReporterBuilder
+     */
+    public StoryReporterBuilder withReportWriterThreads(int reportWriterThreads) {
+        this.reportWriterThreads = reportWriterThreads;
+        return this;
+    }
+
+    /**
+     * Buffers the output to the report files, with the given buffer size in
+     * bytes, or not at all if not positive. The reports are written when the
+     * buffer is full and at the end of each story. By default, the output is
+     * buffered in 8192 bytes.
+     * 
+     * @param reportBufferSize the buffer size
+     * @return The StoryReporterBuilder
+     */
+    public StoryReporterBuilder withReportBufferSize(int reportBufferSize) {
+        this.reportBufferSize = reportBufferSize;
+        return this;
+    }
+
     public StoryReporterBuilder withViewResources(Properties resources) {
         this.viewResources = resources;
         return this;
     }
 
     public StoryReporter build(String storyPath) {
-        Map<org.jbehave.core.reporters.Format, StoryReporter> delegates = new HashMap<>();
-        for (org.jbehave.core.reporters.Format format : formats) {
-            delegates.put(format, reporterFor(storyPath, format));
+        List<StoryReporter> delegates = new ArrayList<>(formats.size());
+        for (int i = 0; i < formats.size(); i++) {
+            org.jbehave.core.reporters.Format format = formats.get(i);
+            if (formats.indexOf(format) < i) {
+                // a format added more than once reports only once
+                continue;
+            }
+            StoryReporter reporter = reporterFor(storyPath, format);
+            if (reportWriterThreads() > 0) {
+                reporter = new AsyncStoryReporter(reporter, reportWriters());
+            }
+            delegates.add(reporter);
         }
 
-        DelegatingStoryReporter delegate = new DelegatingStoryReporter(
-                delegates.values());
+        DelegatingStoryReporter delegate = new DelegatingStoryReporter(delegates);
+        // the events are not delayed if written asynchronously, so that they are written while the steps are performed
         return new ConcurrentStoryReporter(new NullStoryReporter(), delegate,
-                multiThreading());
+                multiThreading() && reportWriterThreads() <= 0);
+    }
+
+    private synchronized Executor reportWriters() {
+        if (reportWriters == null) {
+            reportWriters = new ThreadPoolExecutor(reportWriterThreads(), reportWriterThreads(), 1, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            Thread thread = new Thread(runnable, "jbehave-report-writer-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            reportWriters.allowCoreThreadTimeOut(true);
+        }
+        return reportWriters;
     }
 
     public Map<String, StoryReporter> build(List<String> storyPaths) {
@@ -392,7 +485,7 @@ public class StoryReporterBuilder {
 
     public FileConfiguration fileConfiguration(String extension) {
         return new FileConfiguration(relativeDirectory(), extension,
-                pathResolver());
+                pathResolver(), reportBufferSize());
     }
 
     /**
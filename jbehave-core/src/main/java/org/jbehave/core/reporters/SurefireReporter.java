@@ -13,17 +13,40 @@ import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
+/**
+ * <p>
+ * Generates the surefire XML report of the performed stories, either one for
+ * all the stories or, if reporting by story, one for each story, generated in
+ * parallel.
+ * </p>
+ * <p>
+ * The reports are streamed to their files as they are written, and
+ * optionally validated against the surefire XSD, whose schema is only
+ * compiled once.
+ * </p>
+ */
 public class SurefireReporter {
 
-    private static final String SUREFIRE_FTL = "ftl/surefire-xml-report.ftl";
     private static final String SUREFIRE_XSD = "xsd/surefire-test-report.xsd";
     private static final String XML = ".xml";
     private static final String DOT = ".";
@@ -35,19 +58,24 @@ public class SurefireReporter {
     private final boolean includeProperties;
     private final String reportName;
     private final boolean reportByStory;
+    private final boolean validateReport;
+    private final int threads;
 
-    private TemplateProcessor processor = new FreemarkerProcessor();
+    private static volatile Schema schema;
 
     public static class Options {
         public static final String DEFAULT_REPORT_NAME = "jbehave-surefire";
         public static final TestCaseNamingStrategy DEFAULT_NAMING_STRATEGY = new SimpleNamingStrategy();
         public static final boolean DEFAULT_INCLUDE_PROPERTIES = true;
         public static final boolean DEFAULT_REPORT_BY_STORY = false;
+        public static final boolean DEFAULT_VALIDATE_REPORT = true;
 
         private String reportName;
         private TestCaseNamingStrategy namingStrategy;
         private boolean includeProperties;
         private boolean reportByStory;
+        private boolean validateReport = DEFAULT_VALIDATE_REPORT;
+        private int threads = Runtime.getRuntime().availableProcessors();
 
         public Options() {
             this(DEFAULT_REPORT_NAME, DEFAULT_NAMING_STRATEGY, DEFAULT_REPORT_BY_STORY, DEFAULT_INCLUDE_PROPERTIES);
@@ -80,6 +108,16 @@ public class SurefireReporter {
             return this;
         }
 
+        public Options doValidateReport(boolean validateReport) {
+            this.validateReport = validateReport;
+            return this;
+        }
+
+        public Options useThreads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
     }
 
     public SurefireReporter(Class<?> embeddableClass) {
@@ -92,33 +130,72 @@ public class SurefireReporter {
         this.includeProperties = options.includeProperties;
         this.reportName = options.reportName;
         this.reportByStory = options.reportByStory;
+        this.validateReport = options.validateReport;
+        this.threads = options.threads;
     }
 
-    public synchronized void generate(PerformableRoot root,
+    public void generate(PerformableRoot root,
                                       File outputDirectory) {
         List<PerformableStory> stories = root.getStories();
         if ( reportByStory ){
-            for ( PerformableStory story : stories ){
-                String name = reportName(story.getStory().getPath());
-                File file = outputFile(outputDirectory, name);
-                generateReport(asList(story), file);
-            }
+            generateReportsByStory(stories, outputDirectory);
         } else {
             File file = outputFile(outputDirectory, reportName);
             generateReport(stories, file);
         }
     }
 
+    private void generateReportsByStory(List<PerformableStory> stories, final File outputDirectory) {
+        if (stories.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, stories.size())));
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (final PerformableStory story : stories) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        String name = reportName(story.getStory().getPath());
+                        File file = outputFile(outputDirectory, name);
+                        generateReport(asList(story), file);
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted generating surefire reports", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Failed to generate surefire report", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private String reportName(String path) {
         return reportName + HYPHEN + StringUtils.replaceAll(StringUtils.substringBefore(path, DOT), SLASH, DOT);
     }
 
     private void generateReport(List<PerformableStory> stories, File file) {
         try {
-            Map<String, Object> dataModel = new HashMap<>();
-            dataModel.put("testsuite", new TestSuite(embeddableClass, namingStrategy, stories, includeProperties));
-            processor.process(SUREFIRE_FTL, dataModel, new FileWriter(file));
-            validateOutput(file, SUREFIRE_XSD);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+                    StandardCharsets.UTF_8));
+            try {
+                new TestSuiteWriter(writer).write(stories);
+            } finally {
+                writer.close();
+            }
+            if (validateReport) {
+                validateOutput(file);
+            }
         } catch (IOException | SAXException e) {
             throw new RuntimeException("Failed to generate surefire report", e);
         }
@@ -133,13 +210,91 @@ public class SurefireReporter {
         return new File(outputDir, name);
     }
 
-    private void validateOutput(File file, String surefireXsd) throws SAXException, IOException {
-        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = schemaFactory.newSchema(new StreamSource(this.getClass().getClassLoader().getResourceAsStream(surefireXsd)));
-        Validator validator = schema.newValidator();
+    private void validateOutput(File file) throws SAXException, IOException {
+        Validator validator = schema().newValidator();
         validator.validate(new StreamSource(file));
     }
 
+    private Schema schema() throws SAXException {
+        if (schema == null) {
+            synchronized (SurefireReporter.class) {
+                if (schema == null) {
+                    SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+                    schema = schemaFactory.newSchema(new StreamSource(
+                            SurefireReporter.class.getClassLoader().getResourceAsStream(SUREFIRE_XSD)));
+                }
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Writes the test suite of the stories, counting the scenarios before
+     * writing out the test case of each one in turn.
+     */
+    private class TestSuiteWriter {
+
+        private final Writer writer;
+        private final DecimalFormat secondsFormat = new DecimalFormat("0.###",
+                DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+
+        private TestSuiteWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        private void write(List<PerformableStory> stories) throws IOException {
+            TestCounts counts = new TestCounts();
+            long time = 0;
+            for (PerformableStory story : stories) {
+                for (PerformableScenario scenario : story.getScenarios()) {
+                    counts.add(scenario.getStatus());
+                    time += scenario.getTiming().getDurationInMillis();
+                }
+            }
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            writer.write("<testsuite xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n");
+            writer.write("          xsi:noNamespaceSchemaLocation=\"https://maven.apache.org/surefire/maven-surefire-plugin/xsd/surefire-test-report.xsd\"\n");
+            writer.write("          name=\"" + attribute(embeddableClass.getName()) + "\" time=\"" + seconds(time) + "\"\n");
+            writer.write("          tests=\"" + counts.getTests() + "\" errors=\"" + counts.getErrors() + "\" skipped=\""
+                    + counts.getSkipped() + "\" failures=\"" + counts.getFailures() + "\">\n");
+            writer.write("<properties>\n");
+            if (includeProperties) {
+                Properties properties = System.getProperties();
+                for (Object name : properties.keySet()) {
+                    writer.write("<property name=\"" + xml(String.valueOf(name)) + "\" value=\""
+                            + xml(String.valueOf(properties.get(name))) + "\"/>\n");
+                }
+            }
+            writer.write("</properties>\n");
+            for (PerformableStory story : stories) {
+                for (PerformableScenario scenario : story.getScenarios()) {
+                    String name = namingStrategy.resolveName(story.getStory(), scenario.getScenario());
+                    writer.write("<testcase name=\"" + attribute(name) + "\" classname=\"" + attribute(embeddableClass.getName())
+                            + "\" time=\"" + seconds(scenario.getTiming().getDurationInMillis()) + "\">");
+                    if (scenario.getStatus() == Status.FAILED) {
+                        TestFailure failure = new TestFailure(scenario.getFailure());
+                        writer.write("<failure message=\"" + StringUtils.defaultString(failure.getMessage())
+                                + "\" type=\"" + failure.getType() + "\">" + failure.getStackTrace() + "</failure>");
+                    }
+                    writer.write("</testcase>\n");
+                }
+            }
+            writer.write("</testsuite>");
+        }
+
+        private String seconds(long millis) {
+            return millis != 0 ? secondsFormat.format(BigDecimal.valueOf(millis, 3)) : String.valueOf(millis);
+        }
+
+        private String xml(String value) {
+            return EscapeMode.XML.escapeString(value);
+        }
+
+        private String attribute(String value) {
+            return value.replace("&", "&amp;").replace("<", "&lt;").replace("\"", "&quot;");
+        }
+    }
+
     public static class TestSuite {
 
         private final Class<?> embeddableClass;
@@ -160,24 +315,7 @@ public class SurefireReporter {
             TestCounts counts = new TestCounts();
             for (PerformableStory story : stories) {
                 for (PerformableScenario scenario : story.getScenarios()) {
-                    Status status = scenario.getStatus();
-                    if (status == null) {
-                        counts.addSkipped();
-                        continue;
-                    }
-                    switch (status) {
-                        case FAILED:
-                            counts.addFailure();
-                            break;
-                        case PENDING:
-                        case NOT_ALLOWED:
-                        case NOT_PERFORMED:
-                            counts.addSkipped();
-                            break;
-                        case SUCCESSFUL:
-                            counts.addSuccessful();
-                            break;
-                    }
+                    counts.add(scenario.getStatus());
                 }
             }
             return counts;
@@ -408,6 +546,26 @@ public class SurefireReporter {
             return failures;
         }
 
+        public void add(Status status) {
+            if (status == null) {
+                addSkipped();
+                return;
+            }
+            switch (status) {
+                case FAILED:
+                    addFailure();
+                    break;
+                case PENDING:
+                case NOT_ALLOWED:
+                case NOT_PERFORMED:
+                    addSkipped();
+                    break;
+                case SUCCESSFUL:
+                    addSuccessful();
+                    break;
+            }
+        }
+
         public void addFailure() {
             failures++;
             tests++;
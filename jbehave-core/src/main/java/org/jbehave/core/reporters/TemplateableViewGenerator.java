@@ -2,6 +2,7 @@ package org.jbehave.core.reporters;
 
 import static java.util.Arrays.asList;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileReader;
@@ -9,6 +10,7 @@ import java.io.FileWriter;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -22,6 +24,11 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.builder.CompareToBuilder;
@@ -33,6 +40,17 @@ import org.jbehave.core.model.StoryLanes;
 import org.jbehave.core.model.StoryMaps;
 import org.jbehave.core.reporters.TemplateableViewGenerator.Reports.ViewType;
 
+import freemarker.core.Environment;
+import freemarker.template.TemplateDirectiveBody;
+import freemarker.template.TemplateDirectiveModel;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateScalarModel;
+import freemarker.template.utility.DeepUnwrap;
+
 /**
  * <p>
  * {@link ViewGenerator}, which uses the configured {@link TemplateProcessor} to
@@ -54,9 +72,22 @@ import org.jbehave.core.reporters.TemplateableViewGenerator.Reports.ViewType;
  * &quot;decorateNonHtml&quot; = &quot;true&quot;
  * &quot;defaultFormats&quot; = &quot;stats&quot;
  * &quot;viewDirectory&quot; = &quot;view&quot;
+ * &quot;decorationThreads&quot; = the number of available processors
+ * &quot;incrementalReports&quot; = &quot;true&quot;
  * </pre>
  * 
  * </p>
+ * <p>
+ * The reports are decorated in parallel, by as many threads as configured,
+ * each report body being streamed from its file rather than read into memory,
+ * via the {@link ReportBody} of the data model.
+ * </p>
+ * <p>
+ * If incremental, the size and modification time of the report files, and
+ * the stats of the reports, are kept in a manifest in the view directory, so
+ * that reports whose files are unchanged since they were last decorated are
+ * not decorated again, and their stats not read again.
+ * </p>
  * 
  * @author Mauro Talevi
  */
@@ -80,6 +111,8 @@ public class TemplateableViewGenerator implements ViewGenerator {
         properties.setProperty("defaultFormats", "stats");
         properties.setProperty("reportsViewType", Reports.ViewType.LIST.name());        
         properties.setProperty("viewDirectory", "view");
+        properties.setProperty("decorationThreads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        properties.setProperty("incrementalReports", "true");
         return properties;
     }
 
@@ -112,7 +145,11 @@ public class TemplateableViewGenerator implements ViewGenerator {
         String outputName = templateResource("viewDirectory") + "/reports.html";
         String reportsTemplate = templateResource("reports");
         List<String> mergedFormats = mergeFormatsWithDefaults(formats);
-        reports = createReports(readReportFiles(outputDirectory, outputName, mergedFormats));
+        File manifest = null;
+        if (Boolean.valueOf(templateResource("incrementalReports"))) {
+            manifest = new File(outputDirectory, templateResource("viewDirectory") + "/reports.manifest");
+        }
+        reports = createReports(readReportFiles(outputDirectory, outputName, mergedFormats), manifest);
         reports.viewAs(ViewType.valueOf(viewProperties.getProperty("reportsViewType", Reports.ViewType.LIST.name())));
         Map<String, Object> dataModel = newDataModel();
         addDateAndEncoding(dataModel);
@@ -198,39 +235,107 @@ public class TemplateableViewGenerator implements ViewGenerator {
     }
 
     Reports createReports(Map<String, List<File>> reportFiles) {
+        return createReports(reportFiles, null);
+    }
+
+    Reports createReports(Map<String, List<File>> reportFiles, File manifestFile) {
+        ExecutorService executor = null;
         try {
+            ReportsManifest manifest = new ReportsManifest(viewSignature());
+            ReportsManifest previous = null;
+            if (manifestFile != null) {
+                previous = ReportsManifest.load(manifestFile, manifest.viewSignature);
+            }
+            int threads = Math.max(1, Math.min(Integer.parseInt(templateResource("decorationThreads")),
+                    reportFiles.size()));
+            executor = Executors.newFixedThreadPool(threads);
+            List<Future<Report>> futures = new ArrayList<>();
+            for (String name : reportFiles.keySet()) {
+                futures.add(executor.submit(new ReportCreation(name, reportFiles.get(name), previous)));
+            }
+            List<Report> reports = new ArrayList<>();
+            for (Future<Report> future : futures) {
+                Report report = future.get();
+                manifest.add(report, reportFiles.get(report.getPath()));
+                reports.add(report);
+            }
+            if (manifestFile != null) {
+                manifest.store(manifestFile);
+            }
+            return new Reports(reports, nameResolver);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw new ReportCreationFailed(reportFiles, cause instanceof Exception ? (Exception) cause : e);
+        } catch (Exception e) {
+            throw new ReportCreationFailed(reportFiles, e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private String viewSignature() {
+        return templateResource("decorated") + "|" + templateResource("nonDecorated") + "|"
+                + templateResource("viewDirectory") + "|" + templateResource("decorateNonHtml");
+    }
+
+    /**
+     * Decorates the files of a report, parsing its stats once, unless they
+     * are unchanged since the previous manifest.
+     */
+    private class ReportCreation implements Callable<Report> {
+
+        private final String name;
+        private final List<File> files;
+        private final ReportsManifest previous;
+
+        private ReportCreation(String name, List<File> files, ReportsManifest previous) {
+            this.name = name;
+            this.files = files;
+            this.previous = previous;
+        }
+
+        @Override
+        public Report call() {
             String decoratedTemplate = templateResource("decorated");
             String nonDecoratedTemplate = templateResource("nonDecorated");
             String viewDirectory = templateResource("viewDirectory");
             boolean decorateNonHtml = Boolean.valueOf(templateResource("decorateNonHtml"));
-            List<Report> reports = new ArrayList<>();
-            for (String name : reportFiles.keySet()) {
-                Map<String, File> filesByFormat = new HashMap<>();
-                for (File file : reportFiles.get(name)) {
-                    String fileName = file.getName();
-                    String format = FilenameUtils.getExtension(fileName);
-                    Map<String, Object> dataModel = newDataModel();
-                    dataModel.put("name", name);
-                    dataModel.put("body", IOUtils.toString(new FileReader(file), true));
-                    dataModel.put("format", format);
-                    File outputDirectory = file.getParentFile();
-                    String outputName = viewDirectory + "/" + fileName;
-                    String template = decoratedTemplate;
-                    if (!format.equals("html")) {
-                        if (decorateNonHtml) {
-                            outputName = outputName + ".html";
-                        } else {
-                            template = nonDecoratedTemplate;
-                        }
+            Map<String, File> filesByFormat = new HashMap<>();
+            boolean unchanged = previous != null;
+            for (File file : files) {
+                String fileName = file.getName();
+                String format = FilenameUtils.getExtension(fileName);
+                Map<String, Object> dataModel = newDataModel();
+                dataModel.put("name", name);
+                dataModel.put("body", new ReportBody(file));
+                dataModel.put("format", format);
+                File outputDirectory = file.getParentFile();
+                String outputName = viewDirectory + "/" + fileName;
+                String template = decoratedTemplate;
+                if (!format.equals("html")) {
+                    if (decorateNonHtml) {
+                        outputName = outputName + ".html";
+                    } else {
+                        template = nonDecoratedTemplate;
                     }
-                    File written = write(outputDirectory, outputName, template, dataModel);
+                }
+                File written = new File(outputDirectory, outputName);
+                if (previous != null && previous.isUnchanged(file, written)) {
                     filesByFormat.put(format, written);
+                    continue;
                 }
-                reports.add(new Report(name, filesByFormat));
+                unchanged = false;
+                filesByFormat.put(format, write(outputDirectory, outputName, template, dataModel));
             }
-            return new Reports(reports, nameResolver);
-        } catch (Exception e) {
-            throw new ReportCreationFailed(reportFiles, e);
+            Report report = new Report(name, filesByFormat);
+            Properties stats = unchanged ? previous.stats(name) : null;
+            if (stats != null) {
+                report.cacheProperties("stats", stats);
+            }
+            report.getStats();
+            return report;
         }
     }
 
@@ -271,9 +376,12 @@ public class TemplateableViewGenerator implements ViewGenerator {
         try {
             File file = new File(outputDirectory, outputName);
             file.getParentFile().mkdirs();
-            Writer writer = new FileWriter(file);
-            processor.process(resource, dataModel, writer);
-            writer.close();
+            Writer writer = new BufferedWriter(new FileWriter(file));
+            try {
+                processor.process(resource, dataModel, writer);
+            } finally {
+                writer.close();
+            }
             return file;
         } catch (Exception e) {
             throw new ViewGenerationFailedForTemplate(resource, e);
@@ -377,6 +485,7 @@ public class TemplateableViewGenerator implements ViewGenerator {
 
         private final String path;
         private final Map<String, File> filesByFormat;
+        private final Map<String, Properties> propertiesByFormat = new HashMap<>();
         private Map<String, Integer> stats;
         private String name;
 
@@ -408,13 +517,27 @@ public class TemplateableViewGenerator implements ViewGenerator {
 
         public Properties asProperties(String format) {
             Properties p = new Properties();
-            File stats = filesByFormat.get(format);
-            try {
-                InputStream inputStream = new FileInputStream(stats);
-                p.load(inputStream);
-                inputStream.close();
-            } catch (Exception e) {
-                // return empty map
+            p.putAll(loadedProperties(format));
+            return p;
+        }
+
+        synchronized void cacheProperties(String format, Properties properties) {
+            propertiesByFormat.put(format, properties);
+        }
+
+        private synchronized Properties loadedProperties(String format) {
+            Properties p = propertiesByFormat.get(format);
+            if (p == null) {
+                p = new Properties();
+                File stats = filesByFormat.get(format);
+                try {
+                    InputStream inputStream = new FileInputStream(stats);
+                    p.load(inputStream);
+                    inputStream.close();
+                } catch (Exception e) {
+                    // return empty map
+                }
+                propertiesByFormat.put(format, p);
             }
             return p;
         }
@@ -450,6 +573,210 @@ public class TemplateableViewGenerator implements ViewGenerator {
         }
     }
 
+    /**
+     * The manifest of the decorated reports: the size and modification time of
+     * each report file, and the numeric stats of each report, as of their
+     * decoration with the views of the same signature.
+     */
+    static class ReportsManifest {
+
+        private static final String VIEW = "view";
+        private static final String FILE = "file.";
+        private static final String STATS = "stats.";
+
+        private final String viewSignature;
+        private final Properties files = new Properties();
+        private final Map<String, Properties> statsByReport = new HashMap<>();
+
+        ReportsManifest(String viewSignature) {
+            this.viewSignature = viewSignature;
+        }
+
+        static ReportsManifest load(File file, String viewSignature) {
+            if (!file.exists()) {
+                return null;
+            }
+            Properties properties = new Properties();
+            try {
+                InputStream inputStream = new FileInputStream(file);
+                try {
+                    properties.load(inputStream);
+                } finally {
+                    inputStream.close();
+                }
+            } catch (IOException e) {
+                // decorate all reports again
+                return null;
+            }
+            if (!viewSignature.equals(properties.getProperty(VIEW))) {
+                return null;
+            }
+            ReportsManifest manifest = new ReportsManifest(viewSignature);
+            for (String key : properties.stringPropertyNames()) {
+                String value = properties.getProperty(key);
+                if (key.startsWith(FILE)) {
+                    manifest.files.setProperty(key.substring(FILE.length()), value);
+                } else if (key.startsWith(STATS)) {
+                    int separator = key.lastIndexOf('.');
+                    manifest.statsOf(key.substring(STATS.length(), separator)).setProperty(
+                            key.substring(separator + 1), value);
+                }
+            }
+            return manifest;
+        }
+
+        boolean isUnchanged(File file, File written) {
+            return written.exists() && signature(file).equals(files.getProperty(file.getName()));
+        }
+
+        Properties stats(String name) {
+            return statsByReport.get(name);
+        }
+
+        void add(Report report, List<File> reportFiles) {
+            for (File file : reportFiles) {
+                files.setProperty(file.getName(), signature(file));
+            }
+            Properties stats = report.asProperties("stats");
+            for (String key : stats.stringPropertyNames()) {
+                String value = stats.getProperty(key).trim();
+                if (key.matches("\\w+") && value.matches("-?\\d+")) {
+                    statsOf(report.getPath()).setProperty(key, value);
+                }
+            }
+        }
+
+        void store(File file) throws IOException {
+            Properties properties = new Properties();
+            properties.setProperty(VIEW, viewSignature);
+            for (String name : files.stringPropertyNames()) {
+                properties.setProperty(FILE + name, files.getProperty(name));
+            }
+            for (Map.Entry<String, Properties> entry : statsByReport.entrySet()) {
+                Properties stats = entry.getValue();
+                for (String key : stats.stringPropertyNames()) {
+                    properties.setProperty(STATS + entry.getKey() + "." + key, stats.getProperty(key));
+                }
+            }
+            file.getParentFile().mkdirs();
+            Writer writer = new BufferedWriter(new FileWriter(file));
+            try {
+                properties.store(writer, null);
+            } finally {
+                writer.close();
+            }
+        }
+
+        private Properties statsOf(String name) {
+            Properties stats = statsByReport.get(name);
+            if (stats == null) {
+                stats = new Properties();
+                statsByReport.put(name, stats);
+            }
+            return stats;
+        }
+
+        private static String signature(File file) {
+            return file.length() + ":" + file.lastModified();
+        }
+    }
+
+    /**
+     * The body of a report, streamed from its file: written out by the
+     * <code>&lt;@body/&gt;</code> directive and searched by
+     * <code>body.contains(...)</code> without being read into memory. As a
+     * string, e.g. <code>${body}</code>, it is read from the file.
+     */
+    public static class ReportBody implements TemplateDirectiveModel, TemplateScalarModel, TemplateHashModel {
+
+        private final File file;
+
+        public ReportBody(File file) {
+            this.file = file;
+        }
+
+        public void writeTo(Writer writer) throws IOException {
+            Reader reader = new FileReader(file);
+            try {
+                org.apache.commons.io.IOUtils.copy(reader, writer);
+            } finally {
+                reader.close();
+            }
+        }
+
+        public boolean contains(String text) throws IOException {
+            if (text.isEmpty()) {
+                return true;
+            }
+            Reader reader = new FileReader(file);
+            try {
+                char[] buffer = new char[Math.max(8192, text.length() * 2)];
+                int length = 0;
+                int read;
+                while ((read = reader.read(buffer, length, buffer.length - length)) != -1) {
+                    length += read;
+                    if (new String(buffer, 0, length).contains(text)) {
+                        return true;
+                    }
+                    int kept = Math.min(length, text.length() - 1);
+                    System.arraycopy(buffer, length - kept, buffer, 0, kept);
+                    length = kept;
+                }
+                return false;
+            } finally {
+                reader.close();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public void execute(Environment env, Map params, TemplateModel[] loopVars, TemplateDirectiveBody body)
+                throws TemplateException, IOException {
+            writeTo(env.getOut());
+        }
+
+        @Override
+        public String getAsString() throws TemplateModelException {
+            try {
+                return IOUtils.toString(new FileReader(file), true);
+            } catch (IOException e) {
+                throw new TemplateModelException(e);
+            }
+        }
+
+        @Override
+        public TemplateModel get(String key) throws TemplateModelException {
+            if (key.equals("contains")) {
+                return new TemplateMethodModelEx() {
+                    @Override
+                    @SuppressWarnings("rawtypes")
+                    public Object exec(List arguments) throws TemplateModelException {
+                        try {
+                            return contains(String.valueOf(DeepUnwrap.unwrap((TemplateModel) arguments.get(0))));
+                        } catch (IOException e) {
+                            throw new TemplateModelException(e);
+                        }
+                    }
+                };
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            try {
+                return getAsString();
+            } catch (TemplateModelException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     public static class TimeFormatter {
 
         public String formatMillis(long millis) {
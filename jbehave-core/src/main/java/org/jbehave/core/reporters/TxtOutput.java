@@ -19,6 +19,8 @@ import static org.jbehave.core.reporters.PrintStreamOutput.Format.TXT;
  */
 public class TxtOutput extends PrintStreamOutput {
 
+    private static final Properties DEFAULT_PATTERNS = defaultPatterns();
+
     public TxtOutput(PrintStream output) {
         this(output, new Properties());
     }
@@ -42,7 +44,7 @@ public class TxtOutput extends PrintStreamOutput {
 
     public TxtOutput(PrintStream output, Properties outputPatterns,
             Keywords keywords, boolean reportFailureTrace, boolean compressFailureTrace) {
-        super(TXT, output, defaultPatterns(), outputPatterns, keywords, reportFailureTrace, compressFailureTrace);
+        super(TXT, output, DEFAULT_PATTERNS, outputPatterns, keywords, reportFailureTrace, compressFailureTrace);
     }
 
     private static Properties defaultPatterns() {
@@ -20,6 +20,8 @@ import static org.jbehave.core.reporters.PrintStreamOutput.Format.XML;
  */
 public class XmlOutput extends PrintStreamOutput {
 
+    private static final Properties DEFAULT_PATTERNS = defaultXmlPatterns();
+
     public XmlOutput(PrintStream output) {
         this(output, new Properties());
     }
@@ -43,7 +45,7 @@ public class XmlOutput extends PrintStreamOutput {
 
     public XmlOutput(PrintStream output, Properties outputPatterns,
             Keywords keywords, boolean reportFailureTrace, boolean compressFailureTrace) {
-        super(XML, output, defaultXmlPatterns(), outputPatterns, keywords, reportFailureTrace, compressFailureTrace);
+        super(XML, output, DEFAULT_PATTERNS, outputPatterns, keywords, reportFailureTrace, compressFailureTrace);
     }
 
     private static Properties defaultXmlPatterns() {
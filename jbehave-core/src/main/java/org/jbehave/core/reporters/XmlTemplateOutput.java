@@ -13,7 +13,11 @@ import org.jbehave.core.configuration.Keywords;
 public class XmlTemplateOutput extends TemplateableOutput {
 
     public XmlTemplateOutput(File file, Keywords keywords) {
-        super(file, keywords, new FreemarkerProcessor(), "ftl/jbehave-xml-output.ftl");
+        this(file, keywords, new FreemarkerProcessor());
+    }
+
+    public XmlTemplateOutput(File file, Keywords keywords, TemplateProcessor processor) {
+        this(file, keywords, processor, "ftl/jbehave-xml-output.ftl");
     }
 
     public XmlTemplateOutput(File file, Keywords keywords, TemplateProcessor processor, String templatePath) {
@@ -1,20 +1,75 @@
 package org.jbehave.core.steps;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
 
 import org.jbehave.core.configuration.Configuration;
 
 /**
+ * <p>
+ * Abstract implementation of {@link CandidateSteps} which collects the step
+ * candidates once and then caches them, so that they are reused across all the
+ * stories and scenarios matched against them.
+ * </p>
+ * <p>
+ * Implementations whose candidates can change over time, e.g. those provided
+ * by dynamic steps factories, can discard the cached candidates via
+ * {@link #resetCandidates()}. The cached candidates are also collected again
+ * when the configured dry run or step monitor change, as these are fixed on the
+ * candidates when created and the candidates are not otherwise mutated.
+ * </p>
+ * <p>
+ * Implementations overriding {@link #listCandidates()} themselves, rather
+ * than {@link #collectCandidates()}, list their candidates as before, without
+ * caching.
+ * </p>
+ * 
  * @author Valery Yatsynovich
  */
 public abstract class AbstractCandidateSteps implements CandidateSteps {
     private final Configuration configuration;
+    private volatile CachedCandidates candidates;
 
     public AbstractCandidateSteps(Configuration configuration) {
         this.configuration = configuration;
     }
 
+    @Override
+    public List<StepCandidate> listCandidates() {
+        boolean dryRun = configuration.storyControls().dryRun();
+        StepMonitor stepMonitor = configuration.stepMonitor();
+        CachedCandidates cached = candidates;
+        if (cached == null || !cached.createdWith(dryRun, stepMonitor)) {
+            synchronized (this) {
+                cached = candidates;
+                if (cached == null || !cached.createdWith(dryRun, stepMonitor)) {
+                    cached = new CachedCandidates(Collections.unmodifiableList(collectCandidates()), dryRun,
+                            stepMonitor);
+                    candidates = cached;
+                }
+            }
+        }
+        return cached.list;
+    }
+
+    /**
+     * Discards the cached step candidates, which will be collected again when
+     * next listed.
+     */
+    public void resetCandidates() {
+        candidates = null;
+    }
+
+    /**
+     * Collects the step candidates that can be matched, by default none
+     * 
+     * @return The list of step candidates
+     */
+    protected List<StepCandidate> collectCandidates() {
+        return Collections.emptyList();
+    }
+
     @Override
     public Configuration configuration() {
         return configuration;
@@ -39,6 +94,22 @@ public abstract class AbstractCandidateSteps implements CandidateSteps {
         return candidate;
     }
 
+    private static class CachedCandidates {
+        private final List<StepCandidate> list;
+        private final boolean dryRun;
+        private final StepMonitor stepMonitor;
+
+        private CachedCandidates(List<StepCandidate> list, boolean dryRun, StepMonitor stepMonitor) {
+            this.list = list;
+            this.dryRun = dryRun;
+            this.stepMonitor = stepMonitor;
+        }
+
+        private boolean createdWith(boolean dryRun, StepMonitor stepMonitor) {
+            return this.dryRun == dryRun && this.stepMonitor == stepMonitor;
+        }
+    }
+
     @SuppressWarnings("serial")
     public static class DuplicateCandidateFound extends RuntimeException {
 
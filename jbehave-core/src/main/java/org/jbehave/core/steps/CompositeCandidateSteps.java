@@ -24,7 +24,7 @@ public class CompositeCandidateSteps extends AbstractCandidateSteps {
     }
 
     @Override
-    public List<StepCandidate> listCandidates() {
+    protected List<StepCandidate> collectCandidates() {
         CompositeParser parser = configuration().compositeParser();
         ResourceLoader resourceLoader = configuration().storyLoader();
         List<StepCandidate> candidates = new ArrayList<>();
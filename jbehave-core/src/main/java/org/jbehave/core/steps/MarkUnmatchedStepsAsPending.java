@@ -85,7 +85,7 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
 
     @Override
     public List<Step> collectLifecycleSteps(List<CandidateSteps> candidateSteps, Lifecycle lifecycle, Meta storyAndScenarioMeta, Stage stage, Scope scope) {
-        List<StepCandidate> allCandidates = stepFinder.collectCandidates(candidateSteps);
+        StepCandidateIndex allCandidates = stepFinder.indexCandidates(candidateSteps);
         List<Step> steps = new ArrayList<>();
         Map<String, String> namedParameters = new HashMap<>();
         if (stage == Stage.BEFORE) {
@@ -110,7 +110,7 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
     public List<Step> collectScenarioSteps(List<CandidateSteps> candidateSteps, Scenario scenario,
             Map<String, String> parameters, StepMonitor stepMonitor) {
         List<Step> steps = new ArrayList<>();
-        addMatchedSteps(scenario.getSteps(), steps, parameters, stepFinder.collectCandidates(candidateSteps), null,
+        addMatchedSteps(scenario.getSteps(), steps, parameters, stepFinder.indexCandidates(candidateSteps), null,
                 stepMonitor);
         return steps;
     }
@@ -140,16 +140,14 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
     }
 
     private void addMatchedSteps(List<String> stepsAsString, List<Step> steps, Map<String, String> namedParameters,
-            List<StepCandidate> allCandidates, Outcome outcome, StepMonitor stepMonitor) {
+            StepCandidateIndex allCandidates, Outcome outcome, StepMonitor stepMonitor) {
         String previousNonAndStep = null;
         for (String stepAsString : stepsAsString) {
             // pending is default step, overridden below
             Step step = StepCreator.createPendingStep(stepAsString, previousNonAndStep);
             List<Step> composedSteps = new ArrayList<>();
-            List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString,
-                    new ArrayList<>(allCandidates));
+            List<StepCandidate> prioritisedCandidates = allCandidates.prioritise(stepAsString, previousNonAndStep);
             for (StepCandidate candidate : prioritisedCandidates) {
-                candidate.useStepMonitor(stepMonitor);
                 if (candidate.ignore(stepAsString)) {
                     // ignorable steps are added so they can be reported
                     step = StepCreator.createIgnorableStep(stepAsString);
@@ -160,18 +158,20 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
                     step = StepCreator.createComment(stepAsString);
                     break;
                 }
-                if (candidate.matches(stepAsString, previousNonAndStep)) {
+                if (candidate.matches(stepAsString, previousNonAndStep, stepMonitor)) {
                     // step matches candidate
                     if (candidate.isPending()) {
                         ((PendingStep) step).annotatedOn(candidate.getMethod());
                     } else {
                         if ( outcome != null ){
-                            step = candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, outcome);
+                            step = candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, outcome,
+                                    stepMonitor);
                         } else {
-                            step = candidate.createMatchedStep(stepAsString, namedParameters);
+                            step = candidate.createMatchedStep(stepAsString, namedParameters, stepMonitor);
                         }
                         if ( candidate.isComposite() ){
-                            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters, prioritisedCandidates);
+                            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters,
+                                    allCandidates.prioritise(stepAsString), stepMonitor);
                         }
                     }
                     if (!(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString))) {
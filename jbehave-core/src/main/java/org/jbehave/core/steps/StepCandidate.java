@@ -78,6 +78,14 @@ public class StepCandidate {
         return stepType;
     }
 
+    Keywords keywords() {
+        return keywords;
+    }
+
+    StepMatcher stepMatcher() {
+        return stepMatcher;
+    }
+
     public String getStartingWord() {
         return keywords.startingWordFor(stepType);
     }
@@ -145,6 +153,20 @@ public class StepCandidate {
     }
 
     public boolean matches(String step, String previousNonAndStep) {
+        return matches(step, previousNonAndStep, stepMonitor);
+    }
+
+    /**
+     * Matches the step, reporting to the step monitor given rather than to the
+     * one used by the candidate, as the candidate may be shared by the
+     * scenarios matched concurrently.
+     * 
+     * @param step the textual step
+     * @param previousNonAndStep the previous non-And step, if any
+     * @param stepMonitor the StepMonitor reporting the match
+     * @return A boolean, <code>true</code> if the step matches
+     */
+    public boolean matches(String step, String previousNonAndStep, StepMonitor stepMonitor) {
         try {
             boolean matchesType = true;
             if (keywords.isAndStep(step)) {
@@ -167,23 +189,38 @@ public class StepCandidate {
     }
 
     public Step createMatchedStep(String stepAsString, Map<String, String> namedParameters) {
+        return createMatchedStep(stepAsString, namedParameters, stepMonitor);
+    }
+
+    public Step createMatchedStep(String stepAsString, Map<String, String> namedParameters,
+            StepMonitor stepMonitor) {
         return stepCreator.createParametrisedStep(method, stepAsString, stripStartingWord(stepAsString),
-                namedParameters);
+                namedParameters, stepMonitor);
     }
 
     public Step createMatchedStepUponOutcome(String stepAsString, Map<String, String> namedParameters, Outcome outcome) {
+        return createMatchedStepUponOutcome(stepAsString, namedParameters, outcome, stepMonitor);
+    }
+
+    public Step createMatchedStepUponOutcome(String stepAsString, Map<String, String> namedParameters,
+            Outcome outcome, StepMonitor stepMonitor) {
         return stepCreator.createParametrisedStepUponOutcome(method, stepAsString, stripStartingWord(stepAsString),
-                namedParameters, outcome);
+                namedParameters, outcome, stepMonitor);
     }
 
     public void addComposedSteps(List<Step> steps, String stepAsString, Map<String, String> namedParameters,
             List<StepCandidate> allCandidates) {
+        addComposedSteps(steps, stepAsString, namedParameters, allCandidates, stepMonitor);
+    }
+
+    public void addComposedSteps(List<Step> steps, String stepAsString, Map<String, String> namedParameters,
+            List<StepCandidate> allCandidates, StepMonitor stepMonitor) {
         Map<String, String> matchedParameters = stepCreator.matchedParameters(method,
-                keywords.stepWithoutStartingWord(stepAsString), namedParameters);
+                keywords.stepWithoutStartingWord(stepAsString), namedParameters, stepMonitor);
         matchedParameters.putAll(namedParameters);
         String previousNonAndStep = null;
         for (String composedStep : composedSteps) {
-            addComposedStep(steps, composedStep, previousNonAndStep, matchedParameters, allCandidates);
+            addComposedStep(steps, composedStep, previousNonAndStep, matchedParameters, allCandidates, stepMonitor);
             if (!(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString))) {
                 // only update previous step if not AND or IGNORABLE step
                 previousNonAndStep = stepAsString;
@@ -192,13 +229,14 @@ public class StepCandidate {
     }
 
     private void addComposedStep(List<Step> steps, String composedStep, String previousNonAndStep,
-            Map<String, String> matchedParameters, List<StepCandidate> allCandidates) {
-        StepCandidate candidate = findComposedCandidate(composedStep, previousNonAndStep, allCandidates);
+            Map<String, String> matchedParameters, List<StepCandidate> allCandidates, StepMonitor stepMonitor) {
+        StepCandidate candidate = findComposedCandidate(composedStep, previousNonAndStep, allCandidates,
+                stepMonitor);
         if (candidate != null) {
-            steps.add(candidate.createMatchedStep(composedStep, matchedParameters));
+            steps.add(candidate.createMatchedStep(composedStep, matchedParameters, stepMonitor));
             if (candidate.isComposite()) {
                 // candidate is itself composite: recursively add composed steps
-                candidate.addComposedSteps(steps, composedStep, matchedParameters, allCandidates);
+                candidate.addComposedSteps(steps, composedStep, matchedParameters, allCandidates, stepMonitor);
             }
         } else {
             steps.add(StepCreator.createPendingStep(composedStep, previousNonAndStep));
@@ -206,7 +244,7 @@ public class StepCandidate {
     }
 
     private StepCandidate findComposedCandidate(String composedStep, String previousNonAndStep,
-            List<StepCandidate> allCandidates) {
+            List<StepCandidate> allCandidates, StepMonitor stepMonitor) {
         StepType stepType;
         if (keywords.isAndStep(composedStep)) {
             if (previousNonAndStep != null) {
@@ -222,7 +260,7 @@ public class StepCandidate {
         }
         for (StepCandidate candidate : allCandidates) {
             if (stepType == candidate.getStepType() && (StringUtils.endsWith(composedStep,
-                    candidate.getPatternAsString()) || candidate.matches(composedStep, previousNonAndStep))) {
+                    candidate.getPatternAsString()) || candidate.matches(composedStep, previousNonAndStep, stepMonitor))) {
                 return candidate;
             }
         }
@@ -0,0 +1,227 @@
+package org.jbehave.core.steps;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatcher;
+
+/**
+ * <p>
+ * An index of {@link StepCandidate}s, built once from the candidates collected
+ * by the {@link StepFinder}, which narrows down the candidates a textual step
+ * needs to be matched against.
+ * </p>
+ * <p>
+ * Candidates are bucketed by {@link StepType} and by the leading literal token
+ * of their pattern, as provided by the {@link RegexStepMatcher}. A textual step
+ * is then only matched against the candidates of the types its starting word
+ * allows and whose leading token is the same as the step's one, plus those
+ * candidates whose pattern does not start with a literal token. The narrowed
+ * candidates are prioritised in the same order as the whole list would be, so
+ * the first matching candidate is always the same one a linear scan would find.
+ * </p>
+ * <p>
+ * If the {@link StepFinder.PrioritisingStrategy} is not known to order a subset
+ * of candidates consistently with the whole list, if any candidate does not
+ * provide its keywords and step type, or if the step is an ignorable step or a
+ * comment, all candidates are returned prioritised.
+ * </p>
+ */
+public class StepCandidateIndex {
+
+    private static final String WHITESPACE = " \t\n\u000B\f\r";
+
+    private final StepFinder stepFinder;
+    private final List<StepCandidate> candidates;
+    private final Map<Keywords, Bucket> buckets = new LinkedHashMap<>();
+    private final boolean indexed;
+
+    public StepCandidateIndex(StepFinder stepFinder, List<StepCandidate> candidates) {
+        this.stepFinder = stepFinder;
+        this.candidates = candidates;
+        this.indexed = stepFinder.prioritisesSubsetsConsistently() && indexable(candidates);
+        if (indexed) {
+            for (int ordinal = 0; ordinal < candidates.size(); ordinal++) {
+                StepCandidate candidate = candidates.get(ordinal);
+                Bucket bucket = buckets.get(candidate.keywords());
+                if (bucket == null) {
+                    bucket = new Bucket(candidate);
+                    buckets.put(candidate.keywords(), bucket);
+                }
+                bucket.add(ordinal, candidate);
+            }
+        }
+    }
+
+    /**
+     * Returns all the candidates indexed
+     *
+     * @return The List of StepCandidate in the order they were collected
+     */
+    public List<StepCandidate> candidates() {
+        return candidates;
+    }
+
+    /**
+     * Returns all the candidates prioritised for a given textual step
+     *
+     * @param stepAsString the textual step
+     * @return The List of StepCandidate prioritised by the StepFinder
+     */
+    public List<StepCandidate> prioritise(String stepAsString) {
+        return stepFinder.prioritise(stepAsString, new ArrayList<>(candidates));
+    }
+
+    /**
+     * Returns the prioritised candidates that can match a given textual step
+     *
+     * @param stepAsString the textual step
+     * @param previousNonAndStep the previous non-AND step, may be
+     *            <code>null</code>
+     * @return The List of StepCandidate that can match the step, prioritised by
+     *         the StepFinder
+     */
+    public List<StepCandidate> prioritise(String stepAsString, String previousNonAndStep) {
+        if (!indexed) {
+            return prioritise(stepAsString);
+        }
+        List<Integer> ordinals = new ArrayList<>();
+        for (Bucket bucket : buckets.values()) {
+            if (bucket.isIgnorableOrComment(stepAsString)) {
+                return prioritise(stepAsString);
+            }
+            bucket.collectOrdinals(stepAsString, previousNonAndStep, ordinals);
+        }
+        Collections.sort(ordinals);
+        List<StepCandidate> narrowed = new ArrayList<>(ordinals.size());
+        for (Integer ordinal : ordinals) {
+            narrowed.add(candidates.get(ordinal));
+        }
+        return stepFinder.prioritise(stepAsString, narrowed);
+    }
+
+    private static boolean indexable(List<StepCandidate> candidates) {
+        for (StepCandidate candidate : candidates) {
+            if (candidate.keywords() == null || candidate.getStepType() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String leadingToken(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (WHITESPACE.indexOf(text.charAt(i)) >= 0) {
+                return text.substring(0, i);
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Candidates sharing the same {@link Keywords}, bucketed by step type and
+     * leading token.
+     */
+    private static class Bucket {
+
+        private final StepCandidate representative;
+        private final Keywords keywords;
+        private final Map<StepType, Map<String, List<Integer>>> byToken = new EnumMap<>(StepType.class);
+        private final Map<StepType, List<Integer>> untokenised = new EnumMap<>(StepType.class);
+        private final List<StepType> types = new ArrayList<>();
+
+        Bucket(StepCandidate representative) {
+            this.representative = representative;
+            this.keywords = representative.keywords();
+        }
+
+        void add(int ordinal, StepCandidate candidate) {
+            StepType stepType = candidate.getStepType();
+            if (!types.contains(stepType)) {
+                types.add(stepType);
+            }
+            String token = leadingTokenOf(candidate.stepMatcher());
+            if (token != null) {
+                Map<String, List<Integer>> tokens = byToken.get(stepType);
+                if (tokens == null) {
+                    tokens = new HashMap<>();
+                    byToken.put(stepType, tokens);
+                }
+                ordinalsOf(tokens, token).add(ordinal);
+            } else {
+                List<Integer> ordinals = untokenised.get(stepType);
+                if (ordinals == null) {
+                    ordinals = new ArrayList<>();
+                    untokenised.put(stepType, ordinals);
+                }
+                ordinals.add(ordinal);
+            }
+        }
+
+        boolean isIgnorableOrComment(String stepAsString) {
+            return representative.ignore(stepAsString) || representative.comment(stepAsString);
+        }
+
+        void collectOrdinals(String stepAsString, String previousNonAndStep, List<Integer> ordinals) {
+            if (keywords.isAndStep(stepAsString)) {
+                if (previousNonAndStep == null) {
+                    // cannot handle AND step with no previous step
+                    return;
+                }
+                try {
+                    collectOrdinals(stepAsString, keywords.stepTypeFor(previousNonAndStep), ordinals);
+                } catch (StartingWordNotFound e) {
+                    // no candidate can match
+                }
+            } else {
+                for (StepType stepType : types) {
+                    collectOrdinals(stepAsString, stepType, ordinals);
+                }
+            }
+        }
+
+        private void collectOrdinals(String stepAsString, StepType stepType, List<Integer> ordinals) {
+            String stepWithoutStartingWord;
+            try {
+                stepWithoutStartingWord = keywords.stepWithoutStartingWord(stepAsString, stepType);
+            } catch (StartingWordNotFound e) {
+                return;
+            }
+            Map<String, List<Integer>> tokens = byToken.get(stepType);
+            if (tokens != null) {
+                List<Integer> tokenOrdinals = tokens.get(leadingToken(stepWithoutStartingWord));
+                if (tokenOrdinals != null) {
+                    ordinals.addAll(tokenOrdinals);
+                }
+            }
+            List<Integer> untokenisedOrdinals = untokenised.get(stepType);
+            if (untokenisedOrdinals != null) {
+                ordinals.addAll(untokenisedOrdinals);
+            }
+        }
+
+        private static String leadingTokenOf(StepMatcher stepMatcher) {
+            if (stepMatcher instanceof RegexStepMatcher) {
+                return ((RegexStepMatcher) stepMatcher).leadingToken();
+            }
+            return null;
+        }
+
+        private static List<Integer> ordinalsOf(Map<String, List<Integer>> tokens, String token) {
+            List<Integer> ordinals = tokens.get(token);
+            if (ordinals == null) {
+                ordinals = new ArrayList<>();
+                tokens.put(token, ordinals);
+            }
+            return ordinals;
+        }
+    }
+}
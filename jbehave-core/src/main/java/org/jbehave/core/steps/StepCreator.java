@@ -27,6 +27,8 @@ import org.jbehave.core.failures.RestartingScenarioFailure;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.model.Meta;
+import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatch;
 import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.ParameterConverters.ParameterConverter;
@@ -108,17 +110,23 @@ public class StepCreator {
 
     public Map<String, String> matchedParameters(final Method method, final String stepWithoutStartingWord,
             final Map<String, String> namedParameters) {
+        return matchedParameters(method, stepWithoutStartingWord, namedParameters, stepMonitor);
+    }
+
+    public Map<String, String> matchedParameters(final Method method, final String stepWithoutStartingWord,
+            final Map<String, String> namedParameters, StepMonitor stepMonitor) {
         Map<String, String> matchedParameters = new HashMap<>();
-        if (stepMatcher.find(stepWithoutStartingWord)) {
+        StepMatch stepMatch = match(stepWithoutStartingWord);
+        if (stepMatch.found()) {
             // we've found a match, populate map
             ParameterName[] parameterNames = parameterNames(method);
             Type[] types = parameterTypes(method, parameterNames);
 
-            String[] values = parameterValuesForStep(namedParameters, types, parameterNames);
+            String[] values = parameterValuesForStep(stepMatch, namedParameters, types, parameterNames, stepMonitor);
             for (int i = 0; i < parameterNames.length; i++) {
                 String name = parameterNames[i].name;
                 if (name == null) {
-                    name = stepMatcher.parameterNames()[i];
+                    name = stepMatch.parameterNames()[i];
                 }
                 matchedParameters.put(name, values[i]);
             }
@@ -266,12 +274,30 @@ public class StepCreator {
 
     public Step createParametrisedStep(final Method method, final String stepAsString,
             final String stepWithoutStartingWord, final Map<String, String> namedParameters) {
-        return new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters);
+        return createParametrisedStep(method, stepAsString, stepWithoutStartingWord, namedParameters, stepMonitor);
+    }
+
+    /**
+     * Creates the parametrised step, reporting to the step monitor given
+     * rather than to the one used by the creator, which may be shared.
+     */
+    public Step createParametrisedStep(final Method method, final String stepAsString,
+            final String stepWithoutStartingWord, final Map<String, String> namedParameters,
+            StepMonitor stepMonitor) {
+        return new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters, stepMonitor);
     }
 
     public Step createParametrisedStepUponOutcome(final Method method, final String stepAsString,
             final String stepWithoutStartingWord, final Map<String, String> namedParameters, Outcome outcome) {
-        Step parametrisedStep = createParametrisedStep(method, stepAsString, stepWithoutStartingWord, namedParameters);
+        return createParametrisedStepUponOutcome(method, stepAsString, stepWithoutStartingWord, namedParameters,
+                outcome, stepMonitor);
+    }
+
+    public Step createParametrisedStepUponOutcome(final Method method, final String stepAsString,
+            final String stepWithoutStartingWord, final Map<String, String> namedParameters, Outcome outcome,
+            StepMonitor stepMonitor) {
+        Step parametrisedStep = createParametrisedStep(method, stepAsString, stepWithoutStartingWord, namedParameters,
+                stepMonitor);
         return wrapStepUponOutcome(outcome, parametrisedStep);
     }
 
@@ -404,10 +430,11 @@ public class StepCreator {
         return result;
     }
 
-    private String[] parameterValuesForStep(Map<String, String> namedParameters, Type[] types, ParameterName[] names) {
+    private String[] parameterValuesForStep(StepMatch stepMatch, Map<String, String> namedParameters, Type[] types,
+            ParameterName[] names, StepMonitor stepMonitor) {
         final String[] parameters = new String[types.length];
         for (int position = 0; position < types.length; position++) {
-            parameters[position] = parameterForPosition(position, names, namedParameters);
+            parameters[position] = parameterForPosition(stepMatch, position, names, namedParameters, stepMonitor);
         }
         return parameters;
     }
@@ -424,7 +451,8 @@ public class StepCreator {
         return parameters;
     }
 
-    private String parameterForPosition(int position, ParameterName[] names, Map<String, String> namedParameters) {
+    private String parameterForPosition(StepMatch stepMatch, int position, ParameterName[] names,
+            Map<String, String> namedParameters, StepMonitor stepMonitor) {
         int namePosition = parameterPosition(names, position);
         String parameter = null;
 
@@ -435,18 +463,18 @@ public class StepCreator {
 
             List<String> delimitedNames = Collections.emptyList();
 
-            if (isGroupName(name)) {
-                parameter = matchedParameter(name);
+            if (isGroupName(stepMatch, name)) {
+                parameter = matchedParameter(stepMatch, name);
                 delimitedNames = delimitedNameFor(parameter);
 
                 if (delimitedNames.isEmpty()) {
-                    monitorUsingNameForParameter(name, position, annotated);
+                    monitorUsingNameForParameter(name, position, annotated, stepMonitor);
                 }
             }
 
             if (!delimitedNames.isEmpty()) {
                 for(String delimitedName : delimitedNames) {
-                    monitorUsingTableNameForParameter(delimitedName, position, annotated);
+                    monitorUsingTableNameForParameter(delimitedName, position, annotated, stepMonitor);
                     parameter = parameterControls.replaceAllDelimitedNames(parameter, delimitedName,
                             namedParameter(namedParameters, delimitedName));
                 }
@@ -454,7 +482,7 @@ public class StepCreator {
             else if (isTableName(namedParameters, name)) {
                 parameter = namedParameter(namedParameters, name);
                 if (parameter != null) {
-                    monitorUsingTableNameForParameter(name, position, annotated); 
+                    monitorUsingTableNameForParameter(name, position, annotated, stepMonitor);
                 }
             }
             
@@ -469,7 +497,7 @@ public class StepCreator {
             // This allow parameters to be in different order.
             position = position - numberOfPreviousFromContext(names, position);
             stepMonitor.usingNaturalOrderForParameter(position);
-            parameter = matchedParameter(position);
+            parameter = matchedParameter(stepMatch, position);
             List<String> delimitedNames = delimitedNameFor(parameter);
 
             for(String delimitedName : delimitedNames) {
@@ -497,7 +525,8 @@ public class StepCreator {
         return number;
     }
 
-    private void monitorUsingTableNameForParameter(String name, int position, boolean usingAnnotationNames) {
+    private void monitorUsingTableNameForParameter(String name, int position, boolean usingAnnotationNames,
+            StepMonitor stepMonitor) {
         if (usingAnnotationNames) {
             stepMonitor.usingTableAnnotatedNameForParameter(name, position);
         } else {
@@ -505,7 +534,8 @@ public class StepCreator {
         }
     }
 
-    private void monitorUsingNameForParameter(String name, int position, boolean usingAnnotationNames) {
+    private void monitorUsingNameForParameter(String name, int position, boolean usingAnnotationNames,
+            StepMonitor stepMonitor) {
         if (usingAnnotationNames) {
             stepMonitor.usingAnnotatedNameForParameter(name, position);
         } else {
@@ -524,22 +554,40 @@ public class StepCreator {
         return delimitedNames;
     }
 
-    String matchedParameter(String name) {
-        String[] parameterNames = stepMatcher.parameterNames();
+    private StepMatch match(String stepWithoutStartingWord) {
+        if (stepMatcher instanceof RegexStepMatcher) {
+            return ((RegexStepMatcher) stepMatcher).match(stepWithoutStartingWord);
+        }
+        // other matchers only provide the parameters found by their last invocation
+        synchronized (stepMatcher) {
+            String[] parameterNames = stepMatcher.parameterNames();
+            if (!stepMatcher.find(stepWithoutStartingWord)) {
+                return StepMatch.notFound(parameterNames);
+            }
+            String[] parameters = new String[parameterNames.length];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = stepMatcher.parameter(i + 1);
+            }
+            return new StepMatch(parameterNames, parameters);
+        }
+    }
+
+    String matchedParameter(StepMatch stepMatch, String name) {
+        String[] parameterNames = stepMatch.parameterNames();
         for (int i = 0; i < parameterNames.length; i++) {
             String parameterName = parameterNames[i];
             if (name.equals(parameterName)) {
-                return matchedParameter(i);
+                return matchedParameter(stepMatch, i);
             }
         }
         throw new ParameterNotFound(name, parameterNames);
     }
 
-    private String matchedParameter(int position) {
-        String[] parameterNames = stepMatcher.parameterNames();
+    private String matchedParameter(StepMatch stepMatch, int position) {
+        String[] parameterNames = stepMatch.parameterNames();
         int matchedPosition = position + 1;
         if (matchedPosition <= parameterNames.length) {
-            return stepMatcher.parameter(matchedPosition);
+            return stepMatch.parameter(matchedPosition);
         }
         throw new ParameterNotFound(position, parameterNames);
     }
@@ -558,8 +606,8 @@ public class StepCreator {
         return -1;
     }
 
-    private boolean isGroupName(String name) {
-        String[] groupNames = stepMatcher.parameterNames();
+    private boolean isGroupName(StepMatch stepMatch, String name) {
+        String[] groupNames = stepMatch.parameterNames();
         for (String groupName : groupNames) {
             if (name.equals(groupName)) {
                 return true;
@@ -760,19 +808,32 @@ public class StepCreator {
     }
 
     public class ParametrisedStep extends AbstractStep {
-        private Object[] convertedParameters;
-        private String parametrisedStep;
+        // only the parametrised step is kept, as the step may be shared by stories performed concurrently
+        private volatile String parametrisedStep;
         private final String stepAsString;
         private final Method method;
         private final String stepWithoutStartingWord;
         private final Map<String, String> namedParameters;
+        private final StepMonitor stepMonitor;
+        private StepMatch stepMatch;
 
         public ParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
                 Map<String, String> namedParameters) {
+            this(stepAsString, method, stepWithoutStartingWord, namedParameters, StepCreator.this.stepMonitor);
+        }
+
+        public ParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
+                Map<String, String> namedParameters, StepMonitor stepMonitor) {
+            // the step monitor is held by the step, as the creator may be shared
+            this.stepMonitor = stepMonitor;
             this.stepAsString = stepAsString;
             this.method = method;
             this.stepWithoutStartingWord = stepWithoutStartingWord;
             this.namedParameters = namedParameters;
+            if (stepMatcher != null) {
+                // the step is matched once, when created, and the match reused whenever parametrised
+                this.stepMatch = match(stepWithoutStartingWord);
+            }
         }
 
         public void describeTo(StoryReporter storyReporter) {
@@ -783,7 +844,7 @@ public class StepCreator {
         public StepResult perform(UUIDExceptionWrapper storyFailureIfItHappened) {
             Timer timer = new Timer().start();
             try {
-                parametriseStep();
+                Object[] convertedParameters = parametriseStep();
                 stepMonitor.performing(parametrisedStep, dryRun);
                 stepMonitor.beforePerforming(parametrisedStep, dryRun, method);
                 if (!dryRun && method != null) {
@@ -836,17 +897,24 @@ public class StepCreator {
             return parametrisedStep;
         }
         
-        private void parametriseStep() {
-            stepMatcher.find(stepWithoutStartingWord);
+        private Object[] parametriseStep() {
             ParameterName[] names = parameterNames(method);
             Type[] types = parameterTypes(method, names);
-            String[] parameterValues = parameterValuesForStep(namedParameters, types, names);
-            convertedParameters = convertParameterValues(parameterValues, types, names);
-            addNamedParametersToExamplesTables();
+            String[] parameterValues = parameterValuesForStep(stepMatch(), namedParameters, types, names, stepMonitor);
+            Object[] convertedParameters = convertParameterValues(parameterValues, types, names);
+            addNamedParametersToExamplesTables(convertedParameters);
             parametrisedStep = parametrisedStep(stepAsString, namedParameters, types, parameterValues);
+            return convertedParameters;
+        }
+
+        private StepMatch stepMatch() {
+            if (stepMatch == null) {
+                stepMatch = match(stepWithoutStartingWord);
+            }
+            return stepMatch;
         }
 
-        private void addNamedParametersToExamplesTables() {
+        private void addNamedParametersToExamplesTables(Object[] convertedParameters) {
             for (Object object : convertedParameters) {
                 if (object instanceof ExamplesTable) {
                     ((ExamplesTable) object).withNamedParameters(namedParameters);
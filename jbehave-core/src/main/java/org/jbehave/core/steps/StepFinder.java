@@ -3,8 +3,12 @@ package org.jbehave.core.steps;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -26,6 +30,7 @@ import org.apache.commons.lang3.StringUtils;
 public class StepFinder {
 
     private PrioritisingStrategy prioritisingStrategy;
+    private volatile IndexedCandidates indexedCandidates;
 
     /**
      * Creates a StepFinder with a {@link ByPriorityField} strategy
@@ -105,9 +110,41 @@ public class StepFinder {
      * @return A List of {@link StepCandidate}
      */
     public List<StepCandidate> collectCandidates(List<CandidateSteps> candidateSteps) {
-        List<StepCandidate> collected = new ArrayList<>();
+        return collect(listCandidates(candidateSteps));
+    }
+
+    /**
+     * Collects the step candidates from {@link CandidateSteps} instances into
+     * a {@link StepCandidateIndex}, which narrows down the candidates a
+     * textual step is matched against. The index is reused for as long as the
+     * {@link CandidateSteps} keep listing the same candidates.
+     * 
+     * @param candidateSteps
+     *            the list {@link CandidateSteps} instances
+     * @return A {@link StepCandidateIndex} of the collected candidates
+     */
+    public StepCandidateIndex indexCandidates(List<CandidateSteps> candidateSteps) {
+        List<List<StepCandidate>> listed = listCandidates(candidateSteps);
+        IndexedCandidates indexed = indexedCandidates;
+        if (indexed == null || !indexed.isListedAs(listed)) {
+            indexed = new IndexedCandidates(listed, new StepCandidateIndex(this, collect(listed)));
+            indexedCandidates = indexed;
+        }
+        return indexed.index;
+    }
+
+    private List<List<StepCandidate>> listCandidates(List<CandidateSteps> candidateSteps) {
+        List<List<StepCandidate>> listed = new ArrayList<>();
         for (CandidateSteps steps : candidateSteps) {
-            collected.addAll(steps.listCandidates());
+            listed.add(steps.listCandidates());
+        }
+        return listed;
+    }
+
+    private List<StepCandidate> collect(List<List<StepCandidate>> listed) {
+        List<StepCandidate> collected = new ArrayList<>();
+        for (List<StepCandidate> candidates : listed) {
+            collected.addAll(candidates);
         }
         return collected;
     }
@@ -126,6 +163,39 @@ public class StepFinder {
         return prioritisingStrategy.prioritise(stepAsText, candidates);
     }
 
+    /**
+     * Returns <code>true</code> if the {@link PrioritisingStrategy} orders any
+     * subset of candidates as it would order them within the whole list, which
+     * is the case for the stable sorting strategies provided.
+     */
+    boolean prioritisesSubsetsConsistently() {
+        Class<?> strategyType = prioritisingStrategy.getClass();
+        return strategyType == ByPriorityField.class || strategyType == ByLevenshteinDistance.class;
+    }
+
+    private static class IndexedCandidates {
+
+        private final List<List<StepCandidate>> listed;
+        private final StepCandidateIndex index;
+
+        IndexedCandidates(List<List<StepCandidate>> listed, StepCandidateIndex index) {
+            this.listed = listed;
+            this.index = index;
+        }
+
+        boolean isListedAs(List<List<StepCandidate>> candidates) {
+            if (listed.size() != candidates.size()) {
+                return false;
+            }
+            for (int i = 0; i < listed.size(); i++) {
+                if (listed.get(i) != candidates.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     /**
      * Defines the priorising strategy of step candidates
      */
@@ -156,87 +226,135 @@ public class StepFinder {
     }
 
     /**
+     * <p>
      * Strategy to priorise candidate steps by <a
      * href="http://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein Distance</a>
+     * </p>
+     * <p>
+     * The scoring pattern of each candidate is only computed once, and each
+     * candidate is scored once per textual step, before the candidates are
+     * sorted by their scores. The scores of the most recently prioritised
+     * distinct steps are cached, as the same steps are usually found in many
+     * scenarios.
+     * </p>
      */
     public static class ByLevenshteinDistance implements PrioritisingStrategy {
 
-        private LevenshteinDistance ld = new LevenshteinDistance();
+        private static final Pattern PARAMETER_BETWEEN_SPACES = Pattern.compile("\\s\\$\\w+\\s");
+        private static final Pattern PARAMETER = Pattern.compile("\\$\\w+");
+        private static final int MAX_CACHED_STEPS = 1000;
+
+        private final LevenshteinDistance ld = new LevenshteinDistance();
+        private final Map<String, String> scoringPatterns = new ConcurrentHashMap<>();
+        @SuppressWarnings("serial")
+        private final Map<String, Map<String, Integer>> distancesByStep = new LinkedHashMap<String, Map<String, Integer>>(
+                16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Integer>> eldest) {
+                return size() > MAX_CACHED_STEPS;
+            }
+        };
 
         @Override
-        public List<StepCandidate> prioritise(final String stepAsText, List<StepCandidate> candidates) {
-            Collections.sort(candidates, new Comparator<StepCandidate>() {
-                @Override
-                public int compare(StepCandidate o1, StepCandidate o2) {
-                    String scoringPattern1 = scoringPattern(o1);
-                    String scoringPattern2 = scoringPattern(o2);
-                    String stepWithoutStartingWord = trimStartingWord(stepAsText);
-                    Integer score1 = 0 - ld.calculate(scoringPattern1, stepWithoutStartingWord);
-                    Integer score2 = 0 - ld.calculate(scoringPattern2, stepWithoutStartingWord);
-                    int result = score2.compareTo(score1);
-                    // default to strategy by priority if no score result
-                    return result != 0 ? result : o2.getPriority().compareTo(o1.getPriority());
+        public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
+            String stepWithoutStartingWord = trimStartingWord(stepAsText);
+            Map<String, Integer> distances = distancesOf(stepWithoutStartingWord);
+            List<ScoredCandidate> scored = new ArrayList<>(candidates.size());
+            for (StepCandidate candidate : candidates) {
+                String scoringPattern = scoringPattern(candidate);
+                Integer distance = distances.get(scoringPattern);
+                if (distance == null) {
+                    distance = ld.calculate(scoringPattern, stepWithoutStartingWord);
+                    distances.put(scoringPattern, distance);
                 }
+                scored.add(new ScoredCandidate(candidate, distance));
+            }
+            // a stable sort, so candidates with the same score keep their order
+            Collections.sort(scored);
+            for (int i = 0; i < scored.size(); i++) {
+                candidates.set(i, scored.get(i).candidate);
+            }
+            return candidates;
+        }
 
-                private String scoringPattern(StepCandidate candidate) {
-                    return candidate.getPatternAsString().replaceAll("\\s\\$\\w+\\s", " ").replaceAll("\\$\\w+", "");
+        private Map<String, Integer> distancesOf(String stepWithoutStartingWord) {
+            synchronized (distancesByStep) {
+                Map<String, Integer> distances = distancesByStep.get(stepWithoutStartingWord);
+                if (distances == null) {
+                    distances = new ConcurrentHashMap<>();
+                    distancesByStep.put(stepWithoutStartingWord, distances);
                 }
+                return distances;
+            }
+        }
 
-                private String trimStartingWord(String stepAsString) {
-                    return StringUtils.substringAfter(stepAsString, " ");
-                }
+        private String scoringPattern(StepCandidate candidate) {
+            String pattern = candidate.getPatternAsString();
+            String scoringPattern = scoringPatterns.get(pattern);
+            if (scoringPattern == null) {
+                scoringPattern = PARAMETER_BETWEEN_SPACES.matcher(pattern).replaceAll(" ");
+                scoringPattern = PARAMETER.matcher(scoringPattern).replaceAll("");
+                scoringPatterns.put(pattern, scoringPattern);
+            }
+            return scoringPattern;
+        }
 
-            });
-            return candidates;
+        private String trimStartingWord(String stepAsString) {
+            return StringUtils.substringAfter(stepAsString, " ");
         }
 
-        private class LevenshteinDistance {
+        private static class ScoredCandidate implements Comparable<ScoredCandidate> {
+
+            private final StepCandidate candidate;
+            private final int distance;
 
+            ScoredCandidate(StepCandidate candidate, int distance) {
+                this.candidate = candidate;
+                this.distance = distance;
+            }
+
+            @Override
+            public int compareTo(ScoredCandidate other) {
+                int result = Integer.compare(distance, other.distance);
+                // default to strategy by priority if no score result
+                return result != 0 ? result : other.candidate.getPriority().compareTo(candidate.getPriority());
+            }
+        }
+
+        private static class LevenshteinDistance {
+
+            /**
+             * Calculates the distance keeping only the previous and current
+             * rows of the matrix, sized by the shorter of the two strings
+             */
             public int calculate(String s, String t) {
-                int d[][]; // matrix
-                int n; // length of s
-                int m; // length of t
-                int i; // iterates through s
-                int j; // iterates through t
-                char s_i; // ith character of s
-                char t_j; // jth character of t
-                int cost; // cost
-
-                // Step 1
-                n = s.length();
-                m = t.length();
-                if (n == 0) {
-                    return m;
+                if (s.length() < t.length()) {
+                    String swap = s;
+                    s = t;
+                    t = swap;
                 }
+                int n = s.length();
+                int m = t.length();
                 if (m == 0) {
                     return n;
                 }
-                d = new int[n + 1][m + 1];
-                // Step 2
-                for (i = 0; i <= n; i++) {
-                    d[i][0] = i;
-                }
-                for (j = 0; j <= m; j++) {
-                    d[0][j] = j;
+                int[] previous = new int[m + 1];
+                int[] current = new int[m + 1];
+                for (int j = 0; j <= m; j++) {
+                    previous[j] = j;
                 }
-                // Step 3
-                for (i = 1; i <= n; i++) {
-                    s_i = s.charAt(i - 1);
-                    // Step 4
-                    for (j = 1; j <= m; j++) {
-                        t_j = t.charAt(j - 1);
-                        // Step 5
-                        if (s_i == t_j) {
-                            cost = 0;
-                        } else {
-                            cost = 1;
-                        }
-                        // Step 6
-                        d[i][j] = minimum(d[i - 1][j] + 1, d[i][j - 1] + 1, d[i - 1][j - 1] + cost);
+                for (int i = 1; i <= n; i++) {
+                    char s_i = s.charAt(i - 1);
+                    current[0] = i;
+                    for (int j = 1; j <= m; j++) {
+                        int cost = s_i == t.charAt(j - 1) ? 0 : 1;
+                        current[j] = minimum(previous[j] + 1, current[j - 1] + 1, previous[j - 1] + cost);
                     }
+                    int[] swap = previous;
+                    previous = current;
+                    current = swap;
                 }
-                // Step 7
-                return d[n][m];
+                return previous[m];
             }
 
             private int minimum(int a, int b, int c) {
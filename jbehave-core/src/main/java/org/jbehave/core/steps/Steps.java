@@ -160,7 +160,7 @@ public class Steps extends AbstractCandidateSteps {
     }
 
     @Override
-    public List<StepCandidate> listCandidates() {
+    protected List<StepCandidate> collectCandidates() {
         List<StepCandidate> candidates = new ArrayList<>();
         for (Method method : allMethods()) {
             if (method.isAnnotationPresent(Given.class)) {
@@ -111,6 +111,58 @@ public class StepsContext {
         keysStored.set(new HashSet<String>());
     }
 
+    /**
+     * Removes all the objects stored by the current thread, e.g. once it has
+     * performed steps on behalf of another thread
+     */
+    public void clear() {
+        exampleObjects.remove();
+        scenarioObjects.remove();
+        storyObjects.remove();
+        keysStored.remove();
+    }
+
+    /**
+     * Takes a snapshot of the story and scenario objects stored by the current
+     * thread, so that they can be restored by any thread performing steps on
+     * behalf of the current one
+     *
+     * @return The Snapshot of the objects
+     */
+    public Snapshot snapshot() {
+        Set<String> keys = new HashSet<>(getKeys());
+        keys.removeAll(getExampleObjects().keySet());
+        return new Snapshot(getStoryObjects(), getScenarioObjects(), keys);
+    }
+
+    /**
+     * Restores the story and scenario objects of a snapshot for the current
+     * thread, resetting the example objects. The objects stored afterwards are
+     * not visible to the thread that took the snapshot.
+     *
+     * @param snapshot the Snapshot to restore
+     */
+    public void restore(Snapshot snapshot) {
+        storyObjects.set(new HashMap<>(snapshot.storyObjects));
+        scenarioObjects.set(new HashMap<>(snapshot.scenarioObjects));
+        keysStored.set(new HashSet<>(snapshot.keys));
+        exampleObjects.set(new HashMap<String, Object>());
+    }
+
+    public static class Snapshot {
+
+        private final Map<String, Object> storyObjects;
+        private final Map<String, Object> scenarioObjects;
+        private final Set<String> keys;
+
+        private Snapshot(Map<String, Object> storyObjects, Map<String, Object> scenarioObjects, Set<String> keys) {
+            this.storyObjects = new HashMap<>(storyObjects);
+            this.scenarioObjects = new HashMap<>(scenarioObjects);
+            this.keys = keys;
+        }
+
+    }
+
     @SuppressWarnings("serial")
 	public static class ObjectNotStoredException extends RuntimeException {
 
@@ -8,11 +8,11 @@
 </head>
 <body>
 <#if format == "html">
-${body}
+<@body/><#nt>
 <#else>
 <#assign brushFormat = format> <#if format == "stats"><#assign brushFormat = "plain"> </#if>
 <script type="syntaxhighlighter" class="brush: ${brushFormat}"><#if format != "txt" || !body.contains("</script>")><![CDATA[
-${body}
+<@body/><#nt>
 ]]><#else>
 ${body?html}
 </#if></script>
@@ -1,2 +1,2 @@
 <#ftl strip_whitespace=true>
-${body}
\ No newline at end of file
+<@body/><#nt>
\ No newline at end of file
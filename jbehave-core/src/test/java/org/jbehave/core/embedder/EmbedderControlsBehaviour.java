@@ -31,6 +31,8 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeoutInSecs(), equalTo(defaultControls.storyTimeoutInSecs()));
         assertThat(embedderControls.storyTimeoutInSecsByPath(), equalTo(defaultControls.storyTimeoutInSecsByPath()));
         assertThat(embedderControls.failOnStoryTimeout(), is(defaultControls.failOnStoryTimeout()));
+        assertThat(embedderControls.buildStoriesLazily(), is(defaultControls.buildStoriesLazily()));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(defaultControls.scheduleLongestStoriesFirst()));
         assertThat(embedderControls.threads(), equalTo(defaultControls.threads()));
 
         System.setProperty(PropertyBasedEmbedderControls.BATCH, "true");
@@ -43,6 +45,8 @@ public class EmbedderControlsBehaviour {
         System.setProperty(PropertyBasedEmbedderControls.STORY_TIMEOUT_IN_SECS, "500");
         System.setProperty(PropertyBasedEmbedderControls.STORY_TIMEOUT_IN_SECS_BY_PATH, "**/shorts/*.story:3,**/longs/*.story:20");
         System.setProperty(PropertyBasedEmbedderControls.FAIL_ON_STORY_TIMEOUT, "true");
+        System.setProperty(PropertyBasedEmbedderControls.BUILD_STORIES_LAZILY, "true");
+        System.setProperty(PropertyBasedEmbedderControls.SCHEDULE_LONGEST_STORIES_FIRST, "true");
         System.setProperty(PropertyBasedEmbedderControls.THREADS, "5");
 
         assertThat(embedderControls.batch(), is(true));
@@ -55,6 +59,8 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeoutInSecs(), equalTo(500L));
         assertThat(embedderControls.storyTimeoutInSecsByPath(), equalTo("**/shorts/*.story:3,**/longs/*.story:20"));
         assertThat(embedderControls.failOnStoryTimeout(), is(true));
+        assertThat(embedderControls.buildStoriesLazily(), is(true));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(true));
         assertThat(embedderControls.threads(), equalTo(5));
     }
     
@@ -73,6 +79,8 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeouts(), equalTo(delegate.storyTimeouts()));
         assertThat(embedderControls.storyTimeoutInSecs(), equalTo(delegate.storyTimeoutInSecs()));
         assertThat(embedderControls.storyTimeoutInSecsByPath(), equalTo(delegate.storyTimeoutInSecsByPath()));
+        assertThat(embedderControls.buildStoriesLazily(), equalTo(delegate.buildStoriesLazily()));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), equalTo(delegate.scheduleLongestStoriesFirst()));
         assertThat(embedderControls.threads(), equalTo(delegate.threads()));
         assertThatNotAllowed(embedderControls, "doBatch", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doGenerateViewAfterStories", boolean.class, true);
@@ -84,6 +92,8 @@ public class EmbedderControlsBehaviour {
         assertThatNotAllowed(embedderControls, "useStoryTimeoutInSecs", long.class, 1);
         assertThatNotAllowed(embedderControls, "useStoryTimeoutInSecsByPath", String.class, "**/*/BddTest1.story");
         assertThatNotAllowed(embedderControls, "doFailOnStoryTimeout", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "doBuildStoriesLazily", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "doScheduleLongestStoriesFirst", boolean.class, true);
         assertThatNotAllowed(embedderControls, "useThreads", int.class, 1);
     }
 
@@ -2,29 +2,64 @@ package org.jbehave.core.embedder;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_END;
+import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_START;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.annotations.Given;
 import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.annotations.Then;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.PerformableTree.PerformableScenario;
 import org.jbehave.core.embedder.PerformableTree.RunContext;
+import org.jbehave.core.embedder.PerformableTree.Status;
 import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.failures.UUIDExceptionWrapper;
+import org.jbehave.core.io.LoadFromURL;
 import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.model.ExamplesTableFactory;
 import org.jbehave.core.model.GivenStories;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.model.TableTransformers;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.reporters.StoryReporterBuilder;
 import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.InstanceStepsFactory;
 import org.jbehave.core.steps.StepCollector;
 import org.junit.Test;
 import org.mockito.InOrder;
@@ -73,6 +108,290 @@ public class PerformableTreeBehaviour {
         verifyNoMoreInteractions(stepCollector);
     }
 
+    @Test
+    public void shouldAddAndRemoveStoriesOneAtATime() {
+        Story story = new Story(STORY_PATH, Collections.singletonList(new Scenario("scenario title", Meta.EMPTY)));
+        Configuration configuration = new MostUsefulConfiguration();
+        List<CandidateSteps> candidateSteps = Collections.emptyList();
+        EmbedderMonitor embedderMonitor = mock(EmbedderMonitor.class);
+        BatchFailures failures = mock(BatchFailures.class);
+
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, candidateSteps,
+                embedderMonitor, new MetaFilter(), failures);
+        performableTree.addBeforeAndAfterStoriesSteps(runContext);
+        assertThat(performableTree.getRoot().getStories().size(), equalTo(0));
+
+        performableTree.addStory(runContext, story);
+        assertThat(performableTree.getRoot().getStories().size(), equalTo(1));
+        assertThat(performableTree.getRoot().getStories().get(0).getScenarios().size(), equalTo(1));
+        performableTree.perform(runContext, story);
+        assertThat(performableTree.getRoot().getStories().get(0).getStatus(), equalTo(Status.SUCCESSFUL));
+
+        performableTree.removeStory(story);
+        assertThat(performableTree.getRoot().getStories().size(), equalTo(0));
+    }
+
+    @Test
+    public void shouldLoadGivenStoryOnceWhenReferencedByManyStories() {
+        String givenStoryPath = "given/path";
+        Story story = new Story(STORY_PATH, null, null, null, new GivenStories(givenStoryPath),
+                Collections.singletonList(new Scenario("scenario title", Meta.EMPTY)));
+        Story anotherStory = new Story("another/path", null, null, null, new GivenStories(givenStoryPath),
+                Collections.singletonList(new Scenario("another scenario title", Meta.EMPTY)));
+
+        Configuration configuration = new MostUsefulConfiguration();
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        configuration.useStoryLoader(storyLoader);
+        when(storyLoader.loadStoryAsText(givenStoryPath)).thenReturn("Scenario: given scenario title");
+        List<CandidateSteps> candidateSteps = Collections.emptyList();
+        EmbedderMonitor embedderMonitor = mock(EmbedderMonitor.class);
+        BatchFailures failures = mock(BatchFailures.class);
+
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, candidateSteps,
+                embedderMonitor, new MetaFilter(), failures);
+        performableTree.addStories(runContext, Arrays.asList(story, anotherStory));
+        performableTree.perform(runContext, story);
+        performableTree.perform(runContext, anotherStory);
+
+        verify(storyLoader, times(1)).loadStoryAsText(givenStoryPath);
+        assertThat(performableTree.getRoot().getStories().size(), equalTo(2));
+        assertThat(performableTree.getRoot().getStories().get(0).getStatus(), equalTo(Status.SUCCESSFUL));
+        assertThat(performableTree.getRoot().getStories().get(1).getStatus(), equalTo(Status.SUCCESSFUL));
+        assertThat(runContext.failureOccurred(), is(false));
+    }
+
+    @Test
+    public void shouldPerformExamplesInParallelAndReportThemInOrder() {
+        String storyAsText = "Scenario: parallel examples\nGiven row <value>\nExamples:\n|value|\n|1|\n|2|\n|3|\n|4|";
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryControls(new StoryControls().useExamplesThreads(2))
+                .useStoryReporterBuilder(new StoryReporterBuilder().withReporters(storyReporter));
+        Story story = configuration.storyParser().parseStory(storyAsText, STORY_PATH);
+        ParallelSteps steps = new ParallelSteps();
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, steps).createCandidateSteps();
+        BatchFailures failures = mock(BatchFailures.class);
+
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, candidateSteps,
+                mock(EmbedderMonitor.class), new MetaFilter(), failures);
+        performableTree.addStories(runContext, Collections.singletonList(story));
+        performableTree.perform(runContext, story);
+
+        assertThat(runContext.failureOccurred(), is(false));
+        assertThat(steps.rows.size(), equalTo(4));
+        assertThat(steps.metInParallel, is(true));
+        InOrder ordered = inOrder(storyReporter);
+        for (int i = 0; i < 4; i++) {
+            Map<String, String> row = Collections.singletonMap("value", String.valueOf(i + 1));
+            ordered.verify(storyReporter).example(row, i);
+            ordered.verify(storyReporter).successful(
+                    "Given row " + PARAMETER_VALUE_START + (i + 1) + PARAMETER_VALUE_END);
+        }
+        ordered.verify(storyReporter).afterExamples();
+    }
+
+    @Test
+    public void shouldShutDownExamplesExecutorCreatedForTheRunWhenItEnds() throws InterruptedException {
+        ParallelSteps steps = new ParallelSteps();
+        RunContext runContext = performParallelExamples(steps, null);
+
+        assertThat(steps.metInParallel, is(true));
+        Thread examplesThread = null;
+        for (Thread thread : steps.threads) {
+            if (thread.getName().startsWith("jbehave-examples-")) {
+                examplesThread = thread;
+            }
+        }
+        assertThat(examplesThread, notNullValue());
+        runContext.shutdownExamplesExecutor();
+        examplesThread.join(5000);
+        assertThat(examplesThread.isAlive(), is(false));
+    }
+
+    @Test
+    public void shouldPerformExamplesInParallelWithTheExecutorGivenToTheRun() {
+        ExecutorService executorService = Executors.newFixedThreadPool(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "given-examples");
+            }
+        });
+        try {
+            ParallelSteps steps = new ParallelSteps();
+            RunContext runContext = performParallelExamples(steps, executorService);
+            runContext.shutdownExamplesExecutor();
+
+            assertThat(steps.metInParallel, is(true));
+            List<String> threadNames = new ArrayList<>();
+            for (Thread thread : steps.threads) {
+                threadNames.add(thread.getName());
+            }
+            assertThat(threadNames.contains("given-examples"), is(true));
+            assertThat(executorService.isShutdown(), is(false));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private RunContext performParallelExamples(ParallelSteps steps, ExecutorService examplesExecutor) {
+        String storyAsText = "Scenario: parallel examples\nGiven row <value>\nExamples:\n|value|\n|1|\n|2|";
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryControls(new StoryControls().useExamplesThreads(2))
+                .useStoryReporterBuilder(new StoryReporterBuilder().withReporters(mock(StoryReporter.class)));
+        Story story = configuration.storyParser().parseStory(storyAsText, STORY_PATH);
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, steps).createCandidateSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, candidateSteps,
+                mock(EmbedderMonitor.class), new MetaFilter(), mock(BatchFailures.class));
+        if (examplesExecutor != null) {
+            runContext.useExamplesExecutor(examplesExecutor);
+        }
+        performableTree.addStories(runContext, Collections.singletonList(story));
+        performableTree.perform(runContext, story);
+        assertThat(runContext.failureOccurred(), is(false));
+        return runContext;
+    }
+
+    @Test
+    public void shouldPerformStreamedExamplesAsTheirRowsAreRead() throws IOException {
+        File file = File.createTempFile("streamed", ".table");
+        file.deleteOnExit();
+        FileUtils.writeStringToFile(file, "|value|\n|1|\n|2|\n|3|", "UTF-8");
+        String storyAsText = "Scenario: streamed examples\nGiven streamed row <value>\nExamples:\n"
+                + file.toURI().toURL();
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        ExamplesTableFactory examplesTableFactory = new ExamplesTableFactory(new LoadFromURL(),
+                new TableTransformers());
+        examplesTableFactory.useStreamedResources(true);
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryParser(new RegexStoryParser(examplesTableFactory))
+                .useStoryReporterBuilder(new StoryReporterBuilder().withReporters(storyReporter));
+        Story story = configuration.storyParser().parseStory(storyAsText, STORY_PATH);
+        StreamedSteps steps = new StreamedSteps();
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, steps).createCandidateSteps();
+
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, candidateSteps,
+                mock(EmbedderMonitor.class), new MetaFilter(), mock(BatchFailures.class));
+        performableTree.addStories(runContext, Collections.singletonList(story));
+        PerformableScenario performableScenario = performableTree.getRoot().getStories().get(0).getScenarios().get(0);
+        assertThat(performableScenario.hasExamples(), is(true));
+        assertThat(performableScenario.getExamples(), nullValue());
+        performableTree.perform(runContext, story);
+
+        assertThat(steps.rows, equalTo(Arrays.asList("1", "2", "3")));
+        assertThat(performableScenario.getFailure(), notNullValue());
+        InOrder ordered = inOrder(storyReporter);
+        for (int i = 0; i < 3; i++) {
+            Map<String, String> row = Collections.singletonMap("value", String.valueOf(i + 1));
+            ordered.verify(storyReporter).example(row, i);
+        }
+        ordered.verify(storyReporter).afterExamples();
+    }
+
+    @Test
+    public void shouldCloseStreamedExamplesWhenStoryIsCancelled() throws IOException {
+        File file = File.createTempFile("streamed", ".table");
+        file.deleteOnExit();
+        FileUtils.writeStringToFile(file, "|value|\n|1|\n|2|\n|3|", "UTF-8");
+        String storyAsText = "Scenario: cancelled examples\nGiven streamed row <value>\nThen the row is read\n"
+                + "Examples:\n" + file.toURI().toURL();
+        final List<Reader> openReaders = new ArrayList<>();
+        LoadFromURL resourceLoader = new LoadFromURL() {
+            @Override
+            public Reader openResource(String resourcePath) {
+                Reader reader = new FilterReader(super.openResource(resourcePath)) {
+                    @Override
+                    public void close() throws IOException {
+                        openReaders.remove(this);
+                        super.close();
+                    }
+                };
+                openReaders.add(reader);
+                return reader;
+            }
+        };
+        ExamplesTableFactory examplesTableFactory = new ExamplesTableFactory(resourceLoader, new TableTransformers());
+        examplesTableFactory.useStreamedResources(true);
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryParser(new RegexStoryParser(examplesTableFactory))
+                .useStoryReporterBuilder(new StoryReporterBuilder().withReporters(mock(StoryReporter.class)));
+        Story story = configuration.storyParser().parseStory(storyAsText, STORY_PATH);
+        CancellingSteps steps = new CancellingSteps();
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, steps).createCandidateSteps();
+
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, candidateSteps,
+                mock(EmbedderMonitor.class), new MetaFilter(), mock(BatchFailures.class));
+        steps.cancel(runContext, story);
+        performableTree.addStories(runContext, Collections.singletonList(story));
+        try {
+            performableTree.perform(runContext, story);
+            throw new AssertionError("cancelled story should be interrupted");
+        } catch (UUIDExceptionWrapper e) {
+            assertThat(e.getCause(), instanceOf(InterruptedException.class));
+        }
+
+        assertThat(steps.rows, equalTo(Collections.singletonList("1")));
+        assertThat(openReaders.size(), equalTo(0));
+    }
+
+    public static class CancellingSteps {
+
+        private final List<String> rows = new ArrayList<>();
+        private RunContext context;
+        private Story story;
+
+        void cancel(RunContext context, Story story) {
+            this.context = context;
+            this.story = story;
+        }
+
+        @Given("streamed row $value")
+        public void row(String value) {
+            rows.add(value);
+            context.cancelStory(story, new StoryDuration(1));
+        }
+
+        @Then("the row is read")
+        public void rowRead() {
+        }
+    }
+
+    public static class StreamedSteps {
+
+        private final List<String> rows = new ArrayList<>();
+
+        @Given("streamed row $value")
+        public void row(String value) {
+            rows.add(value);
+            if (value.equals("2")) {
+                throw new IllegalStateException("failed row " + value);
+            }
+        }
+    }
+
+    public static class ParallelSteps {
+
+        private final List<String> rows = Collections.synchronizedList(new ArrayList<String>());
+        private final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        private final CountDownLatch latch = new CountDownLatch(2);
+        private volatile boolean metInParallel;
+
+        @Given("row $value")
+        public void row(String value) throws InterruptedException {
+            rows.add(value);
+            threads.add(Thread.currentThread());
+            latch.countDown();
+            if (latch.await(5, TimeUnit.SECONDS)) {
+                metInParallel = true;
+            }
+        }
+    }
+
     @Test
     public void shouldNotSkipStoryWhenGivenStoryIsFailed() {
         RunContext context = performStoryRun(false, GIVEN_SCENARIO_FAIL);
@@ -1,21 +1,54 @@
 package org.jbehave.core.embedder;
 
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 
 import java.io.File;
+import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.codehaus.plexus.util.FileUtils;
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.ToContext.RetentionLevel;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.embedder.StoryManager.RunningStory;
+import org.jbehave.core.embedder.StoryManager.StoryOutcome;
+import org.jbehave.core.embedder.executors.VirtualThreadExecutors;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.io.StoryResourceNotFound;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.CrossReference;
 import org.jbehave.core.steps.InjectableStepsFactory;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.jbehave.core.steps.context.StepsContext;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 public class StoryManagerBehaviour {
 
@@ -38,4 +71,393 @@ public class StoryManagerBehaviour {
 		assertThat(outputDirectory.exists(), is(true));
 	}
 
+	@Test
+	public void shouldOrderStoriesLongestFirstByPreviousDurations() throws IOException {
+		Configuration configuration = new MostUsefulConfiguration();
+		configuration.storyReporterBuilder().withRelativeDirectory("durations");
+		File outputDirectory = configuration.storyReporterBuilder().outputDirectory();
+		outputDirectory.mkdirs();
+		FileUtils.fileWrite(new File(outputDirectory, "storyDurations.props"), "short=10\nlong=1000\nmedium=100\n");
+		StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor, executorService, performableTree);
+		List<Story> stories = asList(new Story("short"), new Story("new"), new Story("medium"), new Story("long"));
+		List<String> paths = new ArrayList<>();
+		for (Story story : manager.longestFirst(stories)) {
+			paths.add(story.getPath());
+		}
+		assertThat(paths, equalTo(asList("new", "long", "medium", "short")));
+	}
+
+	@Test
+	public void shouldKeepStoryStateIsolatedWhenRunningEachStoryInAThreadOfItsOwn() {
+		Configuration configuration = new MostUsefulConfiguration();
+		configuration.storyReporterBuilder().withMultiThreading(true);
+		embedderControls.useThreads(4);
+		ExecutorService executorService = new VirtualThreadExecutors().create(embedderControls);
+		try {
+			StoryManager manager = new StoryManager(configuration,
+					new InstanceStepsFactory(configuration, new StoryStateSteps(configuration.stepsContext())),
+					embedderControls, embedderMonitor, executorService, performableTree);
+			List<Story> stories = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				stories.add(manager.storyOfText("Scenario: scenario " + i + "\nGiven the story value is value" + i
+						+ "\nThen the story value is value" + i, "story" + i));
+			}
+			BatchFailures failures = new BatchFailures();
+			manager.runStories(stories, new MetaFilter(), failures);
+			assertThat(failures.size(), is(0));
+			assertThat(manager.outcomes().size(), is(8));
+			for (StoryOutcome outcome : manager.outcomes()) {
+				assertThat(outcome.isDone(), is(true));
+				assertThat(outcome.isFailed(), is(false));
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	public static class StoryStateSteps {
+
+		private final StepsContext stepsContext;
+
+		public StoryStateSteps(StepsContext stepsContext) {
+			this.stepsContext = stepsContext;
+		}
+
+		@Given("the story value is $value")
+		public void storeValue(String value) throws InterruptedException {
+			stepsContext.put("value", value, RetentionLevel.STORY);
+			Thread.sleep(20);
+		}
+
+		@Then("the story value is $value")
+		public void checkValue(String value) {
+			assertThat((String) stepsContext.get("value"), equalTo(value));
+		}
+	}
+
+	@Test
+	public void shouldBuildStoriesLazilyAndReleaseThemOncePerformed() {
+		Configuration configuration = new MostUsefulConfiguration();
+		embedderControls.doBuildStoriesLazily(true);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor,
+					executorService, performableTree);
+			List<Story> stories = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				stories.add(manager.storyOfText("Scenario: scenario " + i, "story" + i));
+			}
+			BatchFailures failures = new BatchFailures();
+			manager.runStories(stories, new MetaFilter(), failures);
+			assertThat(failures.size(), is(0));
+			assertThat(manager.outcomes().size(), is(3));
+			for (StoryOutcome outcome : manager.outcomes()) {
+				assertThat(outcome.isDone(), is(true));
+				assertThat(outcome.isFailed(), is(false));
+			}
+			assertThat(manager.performableRoot().getStories().size(), is(0));
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void shouldBuildStoriesLazilyOnlyAsThreadsFreeUp() {
+		Configuration configuration = new MostUsefulConfiguration();
+		embedderControls.doBuildStoriesLazily(true).useThreads(2);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			BuiltStoriesSteps steps = new BuiltStoriesSteps(performableTree);
+			StoryManager manager = new StoryManager(configuration, new InstanceStepsFactory(configuration, steps),
+					embedderControls, embedderMonitor, executorService, performableTree);
+			List<Story> stories = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				stories.add(manager.storyOfText("Scenario: scenario " + i + "\nGiven the built stories are counted",
+						"story" + i));
+			}
+			BatchFailures failures = new BatchFailures();
+			manager.runStories(stories, new MetaFilter(), failures);
+			assertThat(failures.size(), is(0));
+			assertThat(steps.counted.get(), is(8));
+			assertThat(steps.mostBuilt.get() <= 2, is(true));
+			assertThat(manager.performableRoot().getStories().size(), is(0));
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	public static class BuiltStoriesSteps {
+
+		private final PerformableTree performableTree;
+		private final AtomicInteger counted = new AtomicInteger();
+		private final AtomicInteger mostBuilt = new AtomicInteger();
+
+		public BuiltStoriesSteps(PerformableTree performableTree) {
+			this.performableTree = performableTree;
+		}
+
+		@Given("the built stories are counted")
+		public void countBuiltStories() throws InterruptedException {
+			Thread.sleep(20);
+			int built = performableTree.getRoot().getStories().size();
+			synchronized (mostBuilt) {
+				mostBuilt.set(Math.max(mostBuilt.get(), built));
+			}
+			counted.incrementAndGet();
+		}
+	}
+
+	@Test
+	public void shouldCrossReferenceStoriesNotAllowedAfterEachStoryAsIfOutputTogether() throws IOException {
+		CrossReference crossReference = new CrossReference().withOutputAfterEachStory(true);
+		Configuration configuration = new MostUsefulConfiguration();
+		configuration.storyReporterBuilder().withRelativeDirectory("xref-filtered").withCrossReference(crossReference);
+		File outputDirectory = configuration.storyReporterBuilder().outputDirectory();
+		StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor,
+				inlineExecutorService(), performableTree);
+		List<Story> stories = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			String meta = i % 2 == 1 ? "Meta: @skip\n" : "";
+			stories.add(manager.storyOfText(meta + "Scenario: scenario " + i, "story" + i));
+		}
+
+		manager.runStories(stories, new MetaFilter("-skip", embedderMonitor), new BatchFailures());
+		crossReference.merge(outputDirectory);
+		File togetherDirectory = new File(outputDirectory, "together");
+		new CrossReference().serialise(manager.performableRoot(), togetherDirectory);
+
+		assertThat(manager.performableRoot().getStories().size(), is(4));
+		for (String name : asList("xref.xml", "xref.json")) {
+			assertThat(FileUtils.fileRead(new File(outputDirectory, "view/" + name)),
+					equalTo(FileUtils.fileRead(new File(togetherDirectory, "view/" + name))));
+		}
+	}
+
+	@Test
+	public void shouldCrossReferenceStoriesNotAllowedWhenBuiltLazilyAndReleased() throws IOException {
+		CrossReference crossReference = new CrossReference().withOutputAfterEachStory(true);
+		Configuration configuration = new MostUsefulConfiguration();
+		configuration.storyReporterBuilder().withRelativeDirectory("xref-filtered-lazily")
+				.withCrossReference(crossReference);
+		File outputDirectory = configuration.storyReporterBuilder().outputDirectory();
+		embedderControls.doBuildStoriesLazily(true);
+		StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor,
+				inlineExecutorService(), performableTree);
+		List<Story> stories = asList(manager.storyOfText("Scenario: allowed", "allowed"),
+				manager.storyOfText("Meta: @skip\nScenario: not allowed", "notAllowed"));
+
+		manager.runStories(stories, new MetaFilter("-skip", embedderMonitor), new BatchFailures());
+		crossReference.merge(outputDirectory);
+
+		assertThat(manager.performableRoot().getStories().size(), is(0));
+		String xml = FileUtils.fileRead(new File(outputDirectory, "view/xref.xml"));
+		assertThat(xml.contains("<path>allowed</path>"), is(true));
+		assertThat(xml.contains("<path>notAllowed</path>"), is(true));
+		assertThat(FileUtils.fileRead(new File(outputDirectory, "view/xref.json")).contains("\"notAllowed\""),
+				is(true));
+	}
+
+	private ExecutorService inlineExecutorService() {
+		ExecutorService executorService = mock(ExecutorService.class);
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(executorService).execute(any(Runnable.class));
+		return executorService;
+	}
+
+	@Test
+	public void shouldCollectStoriesAsSoonAsTheyCompleteWithoutPolling() {
+		Configuration configuration = new MostUsefulConfiguration();
+		TimedSteps steps = new TimedSteps();
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			long mostWaitedInMillis = 0;
+			for (int i = 0; i < 10; i++) {
+				StoryManager manager = new StoryManager(configuration, new InstanceStepsFactory(configuration, steps),
+						embedderControls, embedderMonitor, executorService, performableTree);
+				Story story = manager.storyOfText("Scenario: scenario\nGiven the story takes 20 millis", "story" + i);
+				manager.runStories(asList(story), new MetaFilter(), new BatchFailures());
+				long waitedInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - steps.completedAtNanos);
+				mostWaitedInMillis = Math.max(mostWaitedInMillis, waitedInMillis);
+			}
+			// polling every 100ms would be found waiting longer in some runs
+			assertThat("waited " + mostWaitedInMillis + "ms", mostWaitedInMillis < 80, is(true));
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void shouldCancelStoryAtItsDeadline() {
+		Configuration configuration = new MostUsefulConfiguration();
+		embedderControls.useStoryTimeouts("1");
+		final List<String> timedOut = Collections.synchronizedList(new ArrayList<String>());
+		EmbedderMonitor embedderMonitor = new NullEmbedderMonitor() {
+			@Override
+			public void storyTimeout(Story story, StoryDuration storyDuration) {
+				timedOut.add(story.getPath());
+			}
+		};
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			StoryManager manager = new StoryManager(configuration,
+					new InstanceStepsFactory(configuration, new TimedSteps()), embedderControls, embedderMonitor,
+					executorService, performableTree);
+			Story story = manager.storyOfText("Scenario: scenario\nGiven the story takes 10000 millis", "long");
+			BatchFailures failures = new BatchFailures();
+			long start = System.currentTimeMillis();
+			manager.runStories(asList(story), new MetaFilter(), failures);
+			long elapsed = System.currentTimeMillis() - start;
+			// the story times out once its duration exceeds 1s, i.e. at 2s
+			assertThat("elapsed " + elapsed + "ms", elapsed >= 2000 && elapsed < 5000, is(true));
+			assertThat(timedOut, equalTo(asList("long")));
+			assertThat(failures.containsKey("long"), is(true));
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void shouldCancelTimeoutCheckScheduledEarlierWhenRescheduled() {
+		Configuration configuration = new MostUsefulConfiguration();
+		embedderControls.useStoryTimeouts("1");
+		final RecordingScheduler scheduler = new RecordingScheduler();
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			StoryManager manager = new StoryManager(configuration,
+					new InstanceStepsFactory(configuration, new TimedSteps()), embedderControls, embedderMonitor,
+					executorService, performableTree) {
+				@Override
+				protected ScheduledExecutorService newTimeoutScheduler() {
+					return scheduler;
+				}
+			};
+			Story story = manager.storyOfText("Scenario: scenario\nGiven the story takes 200 millis", "short");
+			BatchFailures failures = new BatchFailures();
+			manager.runStories(asList(story), new MetaFilter(), failures);
+			assertThat(failures.size(), is(0));
+			assertThat(scheduler.checks.size(), is(2));
+			assertThat(scheduler.checks.get(0).isCancelled(), is(true));
+			assertThat(scheduler.checks.get(1).isCancelled(), is(true));
+		} finally {
+			executorService.shutdownNow();
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void shouldWriteStoryDurationsOfAllStoriesRun() throws IOException {
+		Configuration configuration = new MostUsefulConfiguration();
+		configuration.storyReporterBuilder().withRelativeDirectory("durations-written");
+		File outputDirectory = configuration.storyReporterBuilder().outputDirectory();
+		StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor,
+				inlineExecutorService(), performableTree);
+		List<Story> stories = asList(manager.storyOfText("Scenario: first", "first"),
+				manager.storyOfText("Scenario: second", "second"));
+
+		manager.runStories(stories, new MetaFilter(), new BatchFailures());
+
+		Properties storyDurations = new Properties();
+		try (Reader reader = new FileReader(new File(outputDirectory, "storyDurations.props"))) {
+			storyDurations.load(reader);
+		}
+		Properties expected = new Properties();
+		expected.setProperty("first", "0");
+		expected.setProperty("second", "0");
+		expected.setProperty("total", "0");
+		expected.setProperty("threads", "1");
+		expected.setProperty("threadAverage", "0");
+		assertThat(storyDurations, equalTo(expected));
+	}
+
+	public static class TimedSteps {
+
+		private volatile long completedAtNanos;
+
+		@Given("the story takes $millis millis")
+		public void takeMillis(long millis) throws InterruptedException {
+			Thread.sleep(millis);
+			completedAtNanos = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Notifies the first check when scheduled, i.e. before the story is due
+	 * to time out, while keeping it scheduled, so that it is rescheduled.
+	 */
+	private static class RecordingScheduler extends ScheduledThreadPoolExecutor {
+
+		private final List<ScheduledFuture<?>> checks = Collections.synchronizedList(
+				new ArrayList<ScheduledFuture<?>>());
+
+		RecordingScheduler() {
+			super(1);
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+			ScheduledFuture<?> check = super.schedule(command, delay, unit);
+			if (checks.isEmpty()) {
+				command.run();
+			}
+			checks.add(check);
+			return check;
+		}
+	}
+
+	@Test
+	public void shouldLoadAndParseStoriesConcurrentlyInTheOrderOfTheirPaths() {
+		final CountDownLatch allLoading = new CountDownLatch(4);
+		final Set<String> loadingThreads = Collections.synchronizedSet(new HashSet<String>());
+		Configuration configuration = new MostUsefulConfiguration().useStoryLoader(new StoryLoader() {
+			@Override
+			public String loadStoryAsText(String storyPath) {
+				loadingThreads.add(Thread.currentThread().getName());
+				allLoading.countDown();
+				try {
+					// each story is only loaded once all are loading
+					allLoading.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				if (storyPath.equals("missing")) {
+					throw new StoryResourceNotFound(storyPath, (ClassLoader) null);
+				}
+				return "Scenario: scenario of " + storyPath;
+			}
+
+			@Override
+			public String loadResourceAsText(String resourcePath) {
+				return loadStoryAsText(resourcePath);
+			}
+		});
+		embedderControls.useThreads(4);
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor,
+					executorService, performableTree);
+			List<String> paths = asList("d", "c", "b", "a");
+			List<String> titles = new ArrayList<>();
+			for (Story story : manager.storiesOfPaths(paths)) {
+				titles.add(story.getPath() + ":" + story.getScenarios().get(0).getTitle());
+			}
+			assertThat(titles, equalTo(asList("d:scenario of d", "c:scenario of c", "b:scenario of b",
+					"a:scenario of a")));
+			assertThat(loadingThreads.size(), is(4));
+
+			try {
+				manager.storiesOfPaths(asList("a", "missing", "b", "c"));
+				throw new AssertionError("Missing story should not be loaded");
+			} catch (StoryResourceNotFound e) {
+				assertThat(e.getMessage().contains("missing"), is(true));
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
 }
@@ -1,6 +1,12 @@
 package org.jbehave.core.embedder.executors;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jbehave.core.embedder.EmbedderControls;
 import org.junit.Test;
@@ -8,6 +14,8 @@ import org.junit.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assume.assumeFalse;
 
 public class ExecutorsBehaviour {
 
@@ -16,6 +24,75 @@ public class ExecutorsBehaviour {
         assertThat(new FixedThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
         assertThat(new DirectExecutorService().create(new EmbedderControls()), instanceOf(ExecutorService.class));
         assertThat(new SameThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
+        assertThat(new WorkStealingExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
+        assertThat(new VirtualThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
+    }
+
+    @Test
+    public void shouldLimitStoriesRunAtOnceByThreadsWhenRunningEachInAThreadOfItsOwn() throws InterruptedException {
+        ExecutorService executorService = new VirtualThreadExecutors().create(new EmbedderControls().useThreads(2));
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(6);
+        try {
+            for (int i = 0; i < 6; i++) {
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        int now = running.incrementAndGet();
+                        synchronized (maxRunning) {
+                            maxRunning.set(Math.max(maxRunning.get(), now));
+                        }
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            running.decrementAndGet();
+                            done.countDown();
+                        }
+                    }
+                });
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(maxRunning.get(), is(2));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotCreateMoreThreadsThanStoriesRunAtOnceWhenRunningEachInAThreadOfItsOwn()
+            throws InterruptedException {
+        ExecutorService executorService = new VirtualThreadExecutors().create(new EmbedderControls().useThreads(2));
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        final CountDownLatch done = new CountDownLatch(6);
+        try {
+            for (int i = 0; i < 6; i++) {
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        threads.add(Thread.currentThread());
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+            for (Thread thread : threads) {
+                assumeFalse("virtual threads wait for the stories run at once", isVirtual(thread));
+            }
+            assertThat(threads.size() <= 2, is(true));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (Exception e) {
+            return false;
+        }
     }
   
 }
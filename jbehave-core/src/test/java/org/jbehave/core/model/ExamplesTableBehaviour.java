@@ -1,11 +1,13 @@
 package org.jbehave.core.model;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.annotations.AsParameters;
 import org.jbehave.core.annotations.Parameter;
 import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.io.LoadFromURL;
 import org.jbehave.core.model.ExamplesTable.RowNotFound;
 import org.jbehave.core.model.TableTransformers.TableTransformer;
 import org.jbehave.core.steps.ConvertedParameters.ValueNotFound;
@@ -20,8 +22,13 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.MethodDescriptor;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilterReader;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.Reader;
 import java.lang.reflect.Method;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -519,6 +526,130 @@ public class ExamplesTableBehaviour {
         assertThat(updatedTable.asString(), equalTo("|one|two|three|\n|11|12|13|\n|21|22|23|\n"));
     }
 
+    @Test
+    public void shouldReadAndWriteRowValuesInPlace() {
+        // Given
+        ExamplesTableFactory factory = createFactory();
+
+        // When
+        String tableAsString = "|one|two|\n|11|12|\n|21|";
+        ExamplesTable table = factory.createExamplesTable(tableAsString);
+        Map<String, String> row = table.getRow(0);
+        row.put("two", "22");
+        row.put("three", null);
+        row.remove("one");
+        Map<String, String> otherRow = table.getRow(1);
+        for (Map.Entry<String, String> entry : otherRow.entrySet()) {
+            entry.setValue(entry.getValue() + "!");
+        }
+
+        // Then
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("two", "22");
+        expected.put("three", null);
+        assertThat(row, equalTo(expected));
+        assertThat(row.containsKey("three"), is(true));
+        assertThat(table.getRow(0).get("one"), equalTo(""));
+        assertThat(new ArrayList<>(table.getRow(1).keySet()), equalTo(asList("one", "two")));
+        assertThat(table.getRow(1).get("one"), equalTo("21!"));
+        assertThat(table.getRow(1).get("two"), equalTo("!"));
+        assertThat(table.getRow(1).get("three"), nullValue());
+        assertThat(table.getRows().toString(), equalTo("[{one=, two=22, three=null}, {one=21!, two=!}]"));
+    }
+
+    @Test
+    public void shouldStreamRowsOfTableFromResource() throws IOException {
+        // Given
+        StringBuilder tableAsString = new StringBuilder("{trim=false}\n|one|two|\n|-- A comment --|\n");
+        for (int i = 0; i < 100; i++) {
+            tableAsString.append("|").append(i).append("1|").append(i).append("2|\n");
+        }
+        File file = File.createTempFile("streamed", ".table");
+        file.deleteOnExit();
+        FileUtils.writeStringToFile(file, tableAsString.toString(), "UTF-8");
+        LoadFromURL resourceLoader = new LoadFromURL();
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader, new TableTransformers());
+        factory.useStreamedResources(true);
+
+        // When
+        String path = file.toURI().toURL().toString();
+        ExamplesTable streamed = factory.createExamplesTable(path);
+        ExamplesTable loaded = new ExamplesTableFactory(resourceLoader, new TableTransformers())
+                .createExamplesTable(path);
+
+        // Then
+        assertThat(streamed.isStreamed(), is(true));
+        assertThat(loaded.isStreamed(), is(false));
+        assertThat(streamed.getHeaders(), equalTo(loaded.getHeaders()));
+        assertThat(streamed.getProperties(), equalTo(loaded.getProperties()));
+        assertThat(streamed.getRowCount(), equalTo(100));
+        assertThat(streamed.getRow(10), equalTo(loaded.getRow(10)));
+        assertThat(streamed.getRow(10), equalTo(loaded.getRow(10)));
+        assertThat(streamed.getRow(99), equalTo(loaded.getRow(99)));
+        assertThat(streamed.getRow(0), equalTo(loaded.getRow(0)));
+        assertThat(streamed.getRows(), equalTo(loaded.getRows()));
+        assertThat(streamed.asString(), equalTo(loaded.asString()));
+        try {
+            streamed.withRowValues(0, new HashMap<String, String>());
+            throw new AssertionError("streamed rows should be read-only");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        // and a transformed table is loaded as a whole
+        FileUtils.writeStringToFile(file, "{transformer=FROM_LANDSCAPE}\n" + landscapeTableAsString, "UTF-8");
+        ExamplesTable transformed = factory.createExamplesTable(path);
+        assertThat(transformed.isStreamed(), is(false));
+        ensureColumnOrderIsPreserved(transformed);
+    }
+
+    @Test
+    public void shouldCloseStreamedRowsNotAllRead() throws IOException {
+        // Given
+        File file = File.createTempFile("streamed", ".table");
+        file.deleteOnExit();
+        FileUtils.writeStringToFile(file, "|one|two|\n|11|12|\n|21|22|\n|31|32|", "UTF-8");
+        final List<Reader> openReaders = new ArrayList<>();
+        LoadFromURL resourceLoader = new LoadFromURL() {
+            @Override
+            public Reader openResource(String resourcePath) {
+                Reader reader = new FilterReader(super.openResource(resourcePath)) {
+                    @Override
+                    public void close() throws IOException {
+                        openReaders.remove(this);
+                        super.close();
+                    }
+                };
+                openReaders.add(reader);
+                return reader;
+            }
+        };
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader, new TableTransformers());
+        factory.useStreamedResources(true);
+        ExamplesTable streamed = factory.createExamplesTable(file.toURI().toURL().toString());
+
+        // When
+        Iterator<Map<String, String>> rows = streamed.getRows().iterator();
+        assertThat(rows.next().get("one"), equalTo("11"));
+        assertThat(openReaders.size(), equalTo(1));
+        ((Closeable) rows).close();
+
+        // Then
+        assertThat(openReaders.size(), equalTo(0));
+        assertThat(rows.hasNext(), is(false));
+
+        // When
+        assertThat(streamed.getRow(1).get("one"), equalTo("21"));
+        assertThat(openReaders.size(), equalTo(1));
+        streamed.closeRows();
+
+        // Then
+        assertThat(openReaders.size(), equalTo(0));
+        assertThat(streamed.getRow(1).get("two"), equalTo("22"));
+        streamed.closeRows();
+        assertThat(openReaders.size(), equalTo(0));
+    }
+
     @Test
     public void shouldAllowOutputToPrintStream() {
         // Given
@@ -0,0 +1,137 @@
+package org.jbehave.core.parsers;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.RegexStoryParser.StoryElements;
+import org.junit.Test;
+
+public class CachingStoryParserBehaviour {
+
+    private static final String NL = "\n";
+
+    private final String storyAsText = "A story" + NL
+            + "Meta: @theme parsing" + NL
+            + "Narrative:" + NL
+            + "In order to run faster" + NL
+            + "As a tester" + NL
+            + "I want to parse only once" + NL
+            + "Lifecycle:" + NL
+            + "Before:" + NL
+            + "Given a setup" + NL
+            + "Scenario: A scenario" + NL
+            + "Meta: @author Mauro" + NL
+            + "Given a step with a <one>" + NL
+            + "Then another step" + NL
+            + "Examples:" + NL
+            + "|one|two|" + NL
+            + "|11|12|" + NL
+            + "|21|22|";
+
+    @Test
+    public void shouldParseStoryOnlyOnceForSamePathAndText() {
+        final List<String> parsed = new ArrayList<>();
+        RegexStoryParser delegate = new RegexStoryParser() {
+            @Override
+            StoryElements storyElementsOf(String storyAsText) {
+                parsed.add(storyAsText);
+                return super.storyElementsOf(storyAsText);
+            }
+        };
+        StoryParser parser = new CachingStoryParser(delegate);
+
+        Story story = parser.parseStory(storyAsText, "path/to/story");
+        Story again = parser.parseStory(storyAsText, "path/to/story");
+        assertThat(parsed, equalTo(asList(storyAsText)));
+        assertThat(again.getScenarios().get(0).getSteps(), equalTo(story.getScenarios().get(0).getSteps()));
+    }
+
+    @Test
+    public void shouldNotShareStoriesBetweenCallers() {
+        StoryParser parser = new CachingStoryParser(new RegexStoryParser());
+        Story story = parser.parseStory(storyAsText, "path/to/story");
+        Scenario scenario = story.getScenarios().get(0);
+        scenario.getExamplesTable().getRow(0).put("one", "changed");
+
+        Story again = parser.parseStory(storyAsText, "path/to/story");
+        assertThat(again, not(sameInstance(story)));
+        Scenario scenarioAgain = again.getScenarios().get(0);
+        assertThat(scenarioAgain.getSteps(), equalTo(asList("Given a step with a <one>", "Then another step")));
+        assertThat(scenarioAgain.getExamplesTable().getRow(0).get("one"), equalTo("11"));
+    }
+
+    @Test
+    public void shouldParseStoryAgainIfKeywordsChangedForSameLocale() throws IOException {
+        File cacheDirectory = new File("target/story-cache-keywords");
+        FileUtils.deleteDirectory(cacheDirectory);
+        String storyWithSynonyms = "Scenario: A scenario" + NL + "Given a step" + NL + "Giveth another step";
+        Story story = new CachingStoryParser(new RegexStoryParser(), cacheDirectory).parseStory(storyWithSynonyms,
+                "path/to/story");
+        assertThat(story.getScenarios().get(0).getSteps().size(), equalTo(1));
+
+        Keywords synonyms = new LocalizedKeywords(new Locale("en"), "i18n/synonyms", "i18n/keywords");
+        Story storyParsedWithSynonyms = new CachingStoryParser(new RegexStoryParser(synonyms), cacheDirectory)
+                .parseStory(storyWithSynonyms, "path/to/story");
+        assertThat(storyParsedWithSynonyms.getScenarios().get(0).getSteps(),
+                equalTo(asList("Given a step", "Giveth another step")));
+        assertThat(cacheDirectory.list().length, equalTo(2));
+    }
+
+    @Test
+    public void shouldParseStoryAgainIfPathOrTextChanged() {
+        StoryParser parser = new CachingStoryParser(new RegexStoryParser());
+        Story story = parser.parseStory(storyAsText, "path/to/story");
+
+        assertThat(parser.parseStory(storyAsText, "path/to/another_story"), not(sameInstance(story)));
+        Story changed = parser.parseStory(storyAsText.replace("another step", "a changed step"), "path/to/story");
+        assertThat(changed, not(sameInstance(story)));
+        assertThat(changed.getScenarios().get(0).getSteps().get(1), equalTo("Then a changed step"));
+    }
+
+    @Test
+    public void shouldCreateStoryFromCacheDirectoryAsIfParsed() throws IOException {
+        File cacheDirectory = new File("target/story-cache");
+        FileUtils.deleteDirectory(cacheDirectory);
+        Story parsed = new RegexStoryParser().parseStory(storyAsText, "path/to/story");
+        new CachingStoryParser(new RegexStoryParser(), cacheDirectory).parseStory(storyAsText, "path/to/story");
+        assertThat(cacheDirectory.list().length, equalTo(1));
+
+        // a new parser, as in the next run, does not need to parse the story
+        Story cached = new CachingStoryParser(new RegexStoryParser(), cacheDirectory).parseStory(storyAsText,
+                "path/to/story");
+        assertThat(cached.getPath(), equalTo(parsed.getPath()));
+        assertThat(cached.getName(), equalTo(parsed.getName()));
+        assertThat(cached.getDescription().asString(), equalTo(parsed.getDescription().asString()));
+        assertThat(cached.getMeta().getPropertyNames(), equalTo(parsed.getMeta().getPropertyNames()));
+        assertThat(cached.getNarrative().toString(), equalTo(parsed.getNarrative().toString()));
+        assertThat(cached.getLifecycle().getBeforeSteps(), equalTo(parsed.getLifecycle().getBeforeSteps()));
+        assertThat(cached.getScenarios().size(), equalTo(1));
+        Scenario scenario = cached.getScenarios().get(0);
+        Scenario parsedScenario = parsed.getScenarios().get(0);
+        assertThat(scenario.getTitle(), equalTo(parsedScenario.getTitle()));
+        assertThat(scenario.getMeta().getProperty("author"), equalTo("Mauro"));
+        assertThat(scenario.getSteps(), equalTo(parsedScenario.getSteps()));
+        assertThat(scenario.getExamplesTable().getRows(), equalTo(parsedScenario.getExamplesTable().getRows()));
+
+        // a corrupted entry is parsed again
+        FileUtils.writeStringToFile(cacheDirectory.listFiles()[0], "corrupted", "UTF-8");
+        Story reparsed = new CachingStoryParser(new RegexStoryParser(), cacheDirectory).parseStory(storyAsText,
+                "path/to/story");
+        assertThat(reparsed.getScenarios().get(0).getSteps(), equalTo(parsedScenario.getSteps()));
+    }
+
+}
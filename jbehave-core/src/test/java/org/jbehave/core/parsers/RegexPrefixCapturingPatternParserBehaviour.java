@@ -25,6 +25,21 @@ public class RegexPrefixCapturingPatternParserBehaviour {
         assertThatPatternMatchesStep(parser, "$thousands x 10^3", "2 x 10^3", true, "thousands");
     }
 
+    @Test
+    public void shouldProvideLeadingTokenOfPatterns() {
+        assertThat(leadingToken("a house with $numberOfDoors doors"), equalTo("a"));
+        assertThat(leadingToken("my house"), equalTo("my"));
+        assertThat(leadingToken("house"), equalTo("house"));
+        assertThat(leadingToken("(house) on $street"), equalTo("(house)"));
+        assertThat(leadingToken("$number houses"), equalTo(null));
+        assertThat(leadingToken("house$number"), equalTo(null));
+        assertThat(leadingToken("a house|a flat"), equalTo(null));
+    }
+
+    private String leadingToken(String pattern) {
+        return ((RegexStepMatcher) parser.parseStep(StepType.GIVEN, pattern)).leadingToken();
+    }
+
     @Test
     public void shouldMatchStepWithPatternsUsingUnderscoresInParameterNames() {
         assertThatPatternMatchesStep(parser, "a house with $number_of_1st_floor_doors doors and $facing_to windows",
@@ -72,11 +87,11 @@ public class RegexPrefixCapturingPatternParserBehaviour {
 
     @Test
     public void shouldEscapeRegexPunctuationUsedInPatterns() {
-        StepMatcher matcherWithAllTheRegexPunctuation = parser
+        RegexStepMatcher matcherWithAllTheRegexPunctuation = (RegexStepMatcher) parser
                 .parseStep(StepType.GIVEN, "$regexp should not be confused by []{}?^.*()+\\");
-        assertThat(matcherWithAllTheRegexPunctuation.matches("[]{}?^.*()+\\ should not be confused by []{}?^.*()+\\"),
-                is(true));
-        assertThat(matcherWithAllTheRegexPunctuation.parameter(1), equalTo("[]{}?^.*()+\\"));
+        String step = "[]{}?^.*()+\\ should not be confused by []{}?^.*()+\\";
+        assertThat(matcherWithAllTheRegexPunctuation.matches(step), is(true));
+        assertThat(matcherWithAllTheRegexPunctuation.match(step).parameter(1), equalTo("[]{}?^.*()+\\"));
     }
     
     @Test
@@ -96,19 +111,64 @@ public class RegexPrefixCapturingPatternParserBehaviour {
 
     @Test
     public void shouldNotCareSoMuchAboutWhitespace() {
-        StepMatcher stepMatcher = parser.parseStep(StepType.GIVEN, "The grid looks like $grid");
+        RegexStepMatcher stepMatcher = (RegexStepMatcher) parser.parseStep(StepType.GIVEN,
+                "The grid looks like $grid");
 
         // Given an argument on a new line
-        assertThat(stepMatcher.matches("The grid looks like\n" + "..\n" + "..\n"), is(true));
-        assertThat(stepMatcher.parameter(1), equalTo("..\n" + "..\n"));
+        String step = "The grid looks like\n" + "..\n" + "..\n";
+        assertThat(stepMatcher.matches(step), is(true));
+        assertThat(stepMatcher.match(step).parameter(1), equalTo("..\n" + "..\n"));
 
         // Given an argument on a new line with extra spaces
-        assertThat(stepMatcher.matches("The grid looks like \n" + "..\n" + "..\n"), is(true));
-        assertThat(stepMatcher.parameter(1), equalTo("..\n" + "..\n"));
+        step = "The grid looks like \n" + "..\n" + "..\n";
+        assertThat(stepMatcher.matches(step), is(true));
+        assertThat(stepMatcher.match(step).parameter(1), equalTo("..\n" + "..\n"));
 
         // Given an argument with extra spaces
-        assertThat(stepMatcher.matches("The grid looks like  ."), is(true));
-        assertThat(stepMatcher.parameter(1), equalTo("."));
+        step = "The grid looks like  .";
+        assertThat(stepMatcher.matches(step), is(true));
+        assertThat(stepMatcher.match(step).parameter(1), equalTo("."));
+    }
+
+    @Test
+    public void shouldProvideImmutableMatchOfStep() {
+        RegexStepMatcher stepMatcher = (RegexStepMatcher) parser.parseStep(StepType.GIVEN,
+                "a house with $numberOfDoors doors");
+
+        StepMatch threeDoors = stepMatcher.match("a house with 3 doors");
+        StepMatch fourDoors = stepMatcher.match("a house with 4 doors");
+        StepMatch noDoors = stepMatcher.match("a flat");
+
+        assertThat(threeDoors.found(), is(true));
+        assertThat(threeDoors.parameter(1), equalTo("3"));
+        assertThat(threeDoors.parameterNames(), equalTo(new String[] { "numberOfDoors" }));
+        assertThat(fourDoors.parameter(1), equalTo("4"));
+        assertThat(noDoors.found(), is(false));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void shouldProvideParameterOfLastStepFoundByTheSameThread() throws InterruptedException {
+        final StepMatcher stepMatcher = parser.parseStep(StepType.GIVEN, "a house with $numberOfDoors doors");
+
+        assertThat(stepMatcher.find("a house with 3 doors"), is(true));
+        Thread otherThread = new Thread() {
+            @Override
+            public void run() {
+                stepMatcher.find("a house with 4 doors");
+            }
+        };
+        otherThread.start();
+        otherThread.join();
+        assertThat(stepMatcher.matches("a house with 5 doors"), is(true));
+
+        assertThat(stepMatcher.parameter(1), equalTo("3"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotProvideParametersOfStepNotMatched() {
+        ((RegexStepMatcher) parser.parseStep(StepType.GIVEN, "a house with $numberOfDoors doors")).match("a flat")
+                .parameter(1);
     }
 
     @Test
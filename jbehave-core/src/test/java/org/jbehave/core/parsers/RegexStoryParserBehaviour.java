@@ -57,6 +57,24 @@ public class RegexStoryParserBehaviour {
         assertThat(story.getName(), equalTo(EMPTY));
     }
 
+    @Test
+    public void shouldParseStepsWithLongTabularArgumentsInASinglePass() {
+        StringBuilder table = new StringBuilder("|h0|h1|");
+        for (int i = 0; i < 2000; i++) {
+            table.append(NL).append("|c").append(i).append("0|c").append(i).append("1|");
+        }
+        String wholeStory = "Scenario: A scenario with a long table" + NL +
+                "Given a step with a long tabular argument:" + NL + table + " \t" + NL + NL +
+                "When a step is performed  " + NL +
+                "Then the step is successful" + NL +
+                "Examples:" + NL + "|one|" + NL + "|1|";
+        Story story = parser.parseStory(wholeStory, storyPath);
+        Scenario scenario = story.getScenarios().get(0);
+        assertThat(scenario.getSteps(), equalTo(asList("Given a step with a long tabular argument:" + NL + table,
+                "When a step is performed", "Then the step is successful")));
+        assertThat(scenario.getExamplesTable().getRowCount(), equalTo(1));
+    }
+
     @Test
     public void shouldParseStoryWithMetaAndGivenStories() {
         String wholeStory = "Meta: @skip @theme parsing" + NL + 
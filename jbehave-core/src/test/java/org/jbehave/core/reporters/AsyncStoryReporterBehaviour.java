@@ -0,0 +1,118 @@
+package org.jbehave.core.reporters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class AsyncStoryReporterBehaviour {
+
+    private ExecutorService writers = Executors.newFixedThreadPool(2);
+
+    @After
+    public void shutdownWriters() {
+        writers.shutdownNow();
+    }
+
+    @Test
+    public void shouldWriteAllEventsInTheOrderTheyWereReportedByTheEndOfTheStory() {
+        // Given
+        StoryReporter delegate = mock(StoryReporter.class);
+        AsyncStoryReporter reporter = new AsyncStoryReporter(delegate, writers, 4);
+        Story story = new Story("path");
+        Scenario scenario = new Scenario();
+
+        // When
+        reporter.beforeStory(story, false);
+        reporter.beforeScenario(scenario);
+        for (int i = 0; i < 100; i++) {
+            reporter.successful("Given step " + i);
+        }
+        reporter.afterScenario();
+        reporter.afterStory(false);
+
+        // Then
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).beforeStory(story, false);
+        inOrder.verify(delegate).beforeScenario(scenario);
+        for (int i = 0; i < 100; i++) {
+            inOrder.verify(delegate).successful("Given step " + i);
+        }
+        inOrder.verify(delegate).afterScenario();
+        inOrder.verify(delegate).afterStory(false);
+    }
+
+    @Test
+    public void shouldWriteEventsInTheWriterThreads() {
+        // Given
+        final List<String> threads = new ArrayList<>();
+        StoryReporter delegate = new NullStoryReporter() {
+            @Override
+            public void successful(String step) {
+                threads.add(Thread.currentThread().getName());
+            }
+        };
+        AsyncStoryReporter reporter = new AsyncStoryReporter(delegate, writers);
+
+        // When
+        reporter.successful("Given step");
+        reporter.afterStory(false);
+
+        // Then
+        assertThat(threads.size(), equalTo(1));
+        assertThat(threads.get(0), not(equalTo(Thread.currentThread().getName())));
+    }
+
+    @Test
+    public void shouldRethrowFailureToWriteEventsAtTheEndOfTheStory() {
+        // Given
+        StoryReporter delegate = mock(StoryReporter.class);
+        RuntimeException failure = new RuntimeException("Write failed");
+        doThrow(failure).when(delegate).successful("Given step");
+        AsyncStoryReporter reporter = new AsyncStoryReporter(delegate, writers);
+
+        // When
+        reporter.successful("Given step");
+        reporter.pending("When step");
+        try {
+            reporter.afterStory(false);
+            throw new AssertionError("Failure not rethrown");
+        } catch (RuntimeException e) {
+            assertThat(e, is(failure));
+        }
+
+        // Then
+        verify(delegate).pending("When step");
+        verify(delegate, times(1)).afterStory(false);
+    }
+
+    @Test
+    public void shouldBuildAsyncReportersIfUsingReportWriterThreads() {
+        StoryReporterBuilder builder = new StoryReporterBuilder().withFormats(Format.TXT)
+                .withReportWriterThreads(1);
+        assertThat(builder.reportWriterThreads(), equalTo(1));
+        ConcurrentStoryReporter reporter = (ConcurrentStoryReporter) builder.build("path");
+        DelegatingStoryReporter delegating = (DelegatingStoryReporter) reporter.getDelegate();
+        StoryReporter delegate = delegating.getDelegates().iterator().next();
+        assertThat(delegate, instanceOf(AsyncStoryReporter.class));
+        assertThat(((AsyncStoryReporter) delegate).getDelegate(), instanceOf(TxtOutput.class));
+    }
+
+}
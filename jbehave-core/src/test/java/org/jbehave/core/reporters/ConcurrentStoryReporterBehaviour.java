@@ -0,0 +1,92 @@
+package org.jbehave.core.reporters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class ConcurrentStoryReporterBehaviour {
+
+    @Test
+    public void shouldDelayEventsUntilInvokedInTheOrderTheyWereReported() {
+        // Given
+        StoryReporter crossReferencing = mock(StoryReporter.class);
+        StoryReporter delegate = mock(StoryReporter.class);
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(crossReferencing, delegate, true);
+        Story story = new Story("path");
+        Scenario scenario = new Scenario();
+        Map<String, String> row = Collections.singletonMap("one", "1");
+
+        // When
+        reporter.beforeStory(story, false);
+        reporter.beforeScenario(scenario);
+        reporter.example(row, 0);
+        reporter.successful("Given step");
+        reporter.afterScenario();
+        reporter.afterStory(false);
+
+        // Then
+        verify(crossReferencing).beforeStory(story, false);
+        verify(crossReferencing).successful("Given step");
+        verifyZeroInteractions(delegate);
+        assertThat(reporter.invoked(), is(false));
+
+        reporter.invokeDelayed();
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).beforeStory(story, false);
+        inOrder.verify(delegate).beforeScenario(scenario);
+        inOrder.verify(delegate).example(row, 0);
+        inOrder.verify(delegate).successful("Given step");
+        inOrder.verify(delegate).afterScenario();
+        inOrder.verify(delegate).afterStory(false);
+        assertThat(reporter.invoked(), is(true));
+
+        // events are only invoked once
+        reporter.invokeDelayed();
+        verify(delegate, times(1)).successful("Given step");
+    }
+
+    @Test
+    public void shouldNotDelayEventsIfNotMultiThreading() {
+        StoryReporter delegate = mock(StoryReporter.class);
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(new NullStoryReporter(), delegate, false);
+        reporter.successful("Given step");
+        verify(delegate).successful("Given step");
+    }
+
+    @Test
+    public void shouldNotLoseEventsReportedConcurrently() throws InterruptedException {
+        StoryReporter delegate = mock(StoryReporter.class);
+        final ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(new NullStoryReporter(), delegate, true);
+        int threads = 4;
+        final int events = 500;
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < events; j++) {
+                        reporter.successful("Given step");
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+        reporter.invokeDelayed();
+        verify(delegate, times(threads * events)).successful("Given step");
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.jbehave.core.reporters;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.jbehave.core.embedder.MatchingStepMonitor.StepMatch;
 import org.jbehave.core.embedder.PerformableTree.*;
@@ -45,6 +46,59 @@ public class CrossReferenceBehaviour {
         assertThat(actualJson, equalTo(expectedJson));
     }
 
+    @Test
+    public void shouldProduceSameOutputsWhenSerialisingAgain() throws Exception {
+        // Given
+        CrossReference crossReference = new CrossReference();
+        PerformableRoot root = performableRoot();
+        File outputDirectory = new File("target");
+
+        // When
+        crossReference.serialise(root, outputDirectory);
+        String firstXml = output(outputDirectory, "xref.xml");
+        String firstJson = output(outputDirectory, "xref.json");
+        crossReference.serialise(root, outputDirectory);
+
+        // Then
+        assertThat(output(outputDirectory, "xref.xml"), equalTo(firstXml));
+        assertThat(output(outputDirectory, "xref.json"), equalTo(firstJson));
+    }
+
+    @Test
+    public void shouldMergeStoriesOutputAfterEachStoryAsIfOutputTogether() throws Exception {
+
+        // Given
+        PerformableRoot root = performableRoot();
+        Story story = new Story("/path/to/another/story", new Description("Another story"), Meta.EMPTY,
+                Narrative.EMPTY, new ArrayList<Scenario>());
+        root.add(new PerformableStory(story, new LocalizedKeywords(), false));
+        File outputDirectory = new File("target/xref-together");
+        new CrossReference().serialise(root, outputDirectory);
+
+        // When
+        CrossReference crossReference = new CrossReference().withOutputAfterEachStory(true);
+        File mergedDirectory = new File("target/xref-merged");
+        for (PerformableStory performableStory : root.getStories()) {
+            crossReference.serialise(performableStory, mergedDirectory);
+        }
+        crossReference.merge(mergedDirectory);
+
+        // Then
+        assertThat(output(mergedDirectory, "xref.xml"), equalTo(output(outputDirectory, "xref.xml")));
+        assertThat(output(mergedDirectory, "xref.json"), equalTo(output(outputDirectory, "xref.json")));
+        List<String> records = FileUtils.readLines(new File(mergedDirectory, "view/xref.jsonl"), StandardCharsets.UTF_8);
+        assertThat(records.size(), equalTo(2));
+        List<String> index = FileUtils.readLines(new File(mergedDirectory, "view/xref.jsonl.idx"), StandardCharsets.UTF_8);
+        assertThat(index, equalTo(Arrays.asList("0\t/path/to/story",
+                (records.get(0).length() + 1) + "\t/path/to/another/story")));
+
+        // and an empty run merges to no stories
+        crossReference.merge(mergedDirectory);
+        new CrossReference().serialise(new PerformableRoot(), outputDirectory);
+        assertThat(output(mergedDirectory, "xref.xml"), equalTo(output(outputDirectory, "xref.xml")));
+        assertThat(output(mergedDirectory, "xref.json"), equalTo(output(outputDirectory, "xref.json")));
+    }
+
     private String resource(String name) throws IOException {
         return IOUtils.toString(getClass().getResource(name), StandardCharsets.UTF_8).replaceAll("(?:\\n|\\r)", "");
     }
@@ -6,8 +6,12 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
 import java.net.URL;
 
+import org.apache.commons.io.FileUtils;
+
 import org.jbehave.core.io.CodeLocations;
 import org.jbehave.core.io.StoryLocation;
 import org.jbehave.core.reporters.FilePrintStreamFactory.FileConfiguration;
@@ -111,6 +115,42 @@ public class FilePrintStreamFactoryBehaviour {
         // Then fail as expected
     }
 
+    @Test
+    public void shouldBufferOutputToFileUntilFlushedAtEndOfStory() throws IOException {
+        // Given
+        URL codeLocation = CodeLocations.codeLocationFromClass(this.getClass());
+        String storyPath = "org/jbehave/examples/trader/stories/my_buffered.story";
+        FileConfiguration configuration = new FileConfiguration("target", "txt", new ResolveToSimpleName(), 1024);
+        FilePrintStreamFactory factory = new FilePrintStreamFactory(new StoryLocation(codeLocation, storyPath), configuration);
+        TxtOutput reporter = new TxtOutput(factory.createPrintStream());
+        File outputFile = factory.getOutputFile();
+
+        // When
+        reporter.successful("Given a step");
+
+        // Then
+        assertThat(FileUtils.readFileToString(outputFile), equalTo(""));
+        reporter.afterStory(true);
+        assertThat(FileUtils.readFileToString(outputFile), equalTo("Given a step\n\n"));
+    }
+
+    @Test
+    public void shouldNotBufferOutputToFileIfBufferSizeIsNotPositive() throws IOException {
+        // Given
+        URL codeLocation = CodeLocations.codeLocationFromClass(this.getClass());
+        String storyPath = "org/jbehave/examples/trader/stories/my_unbuffered.story";
+        FileConfiguration configuration = new FileConfiguration("target", "txt", new ResolveToSimpleName(), 0);
+        FilePrintStreamFactory factory = new FilePrintStreamFactory(new StoryLocation(codeLocation, storyPath), configuration);
+        PrintStream printStream = factory.createPrintStream();
+
+        // When
+        printStream.print("unbuffered");
+
+        // Then
+        assertThat(FileUtils.readFileToString(factory.getOutputFile()), equalTo("unbuffered"));
+        printStream.close();
+    }
+
     private void ensureOutputFileIsSame(URL codeLocation, String storyPath) {
         FileConfiguration configuration = new FileConfiguration("ext");
         FilePrintStreamFactory factory = new FilePrintStreamFactory(new StoryLocation(codeLocation, storyPath), configuration);
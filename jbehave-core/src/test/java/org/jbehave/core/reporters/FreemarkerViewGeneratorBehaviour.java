@@ -2,18 +2,24 @@ package org.jbehave.core.reporters;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.SortedMap;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.reporters.TemplateableViewGenerator.Report;
+import org.jbehave.core.reporters.TemplateableViewGenerator.ReportBody;
 import org.jbehave.core.reporters.TemplateableViewGenerator.ReportCreationFailed;
 import org.jbehave.core.reporters.TemplateableViewGenerator.Reports;
 import org.jbehave.core.reporters.TemplateableViewGenerator.TimeFormatter;
@@ -96,6 +102,75 @@ public class FreemarkerViewGeneratorBehaviour {
         
     }
     
+    @Test
+    public void shouldDecorateReportsStreamingTheirBodies() throws IOException {
+        // Given
+        FreemarkerViewGenerator generator = new FreemarkerViewGenerator();
+        File outputDirectory = new File("target/decorated-reports");
+        FileUtils.deleteDirectory(outputDirectory);
+        FileUtils.write(new File(outputDirectory, "story1.txt"), "Scenario: one </script>", StandardCharsets.UTF_8);
+        FileUtils.write(new File(outputDirectory, "story1.stats"), "scenarios=1", StandardCharsets.UTF_8);
+        FileUtils.write(new File(outputDirectory, "story2.html"), "<div>Scenario: two</div>", StandardCharsets.UTF_8);
+        FileUtils.write(new File(outputDirectory, "story2.stats"), "scenarios=2\nscenariosFailed=1",
+                StandardCharsets.UTF_8);
+
+        // When
+        generator.generateReportsView(outputDirectory, asList("txt", "html"), new Properties());
+
+        // Then
+        assertThat(FileUtils.readFileToString(new File(outputDirectory, "view/story1.txt.html"),
+                StandardCharsets.UTF_8), containsString("Scenario: one &lt;/script&gt;"));
+        assertThat(FileUtils.readFileToString(new File(outputDirectory, "view/story2.html"),
+                StandardCharsets.UTF_8), containsString("<div>Scenario: two</div>"));
+        ReportsCount count = generator.getReportsCount();
+        assertThat(count.getScenarios(), equalTo(3));
+        assertThat(count.getScenariosFailed(), equalTo(1));
+    }
+
+    @Test
+    public void shouldOnlyDecorateReportsChangedSinceLastGenerated() throws IOException {
+        // Given
+        FreemarkerViewGenerator generator = new FreemarkerViewGenerator();
+        File outputDirectory = new File("target/incremental-reports");
+        FileUtils.deleteDirectory(outputDirectory);
+        File story1 = new File(outputDirectory, "story1.txt");
+        File story2 = new File(outputDirectory, "story2.txt");
+        FileUtils.write(story1, "Scenario: one", StandardCharsets.UTF_8);
+        FileUtils.write(new File(outputDirectory, "story1.stats"), "scenarios=1", StandardCharsets.UTF_8);
+        FileUtils.write(story2, "Scenario: two", StandardCharsets.UTF_8);
+        FileUtils.write(new File(outputDirectory, "story2.stats"), "scenarios=2", StandardCharsets.UTF_8);
+        generator.generateReportsView(outputDirectory, asList("txt"), new Properties());
+        File decorated1 = new File(outputDirectory, "view/story1.txt.html");
+        File decorated2 = new File(outputDirectory, "view/story2.txt.html");
+        FileUtils.write(decorated1, "not decorated again", StandardCharsets.UTF_8);
+        FileUtils.write(decorated2, "not decorated again", StandardCharsets.UTF_8);
+
+        // When
+        FileUtils.write(story2, "Scenario: two changed", StandardCharsets.UTF_8);
+        generator.generateReportsView(outputDirectory, asList("txt"), new Properties());
+
+        // Then
+        assertThat(FileUtils.readFileToString(decorated1, StandardCharsets.UTF_8), equalTo("not decorated again"));
+        assertThat(FileUtils.readFileToString(decorated2, StandardCharsets.UTF_8),
+                containsString("Scenario: two changed"));
+        assertThat(generator.getReportsCount().getScenarios(), equalTo(3));
+    }
+
+    @Test
+    public void shouldFindTextInReportBodyAcrossReadBuffers() throws IOException {
+        // Given
+        File file = new File("target/report-body.txt");
+        FileUtils.write(file, StringUtils.repeat('a', 8190) + "</script>", StandardCharsets.UTF_8);
+
+        // When
+        ReportBody body = new ReportBody(file);
+
+        // Then
+        assertThat(body.contains("</script>"), equalTo(true));
+        assertThat(body.contains("</scripts>"), equalTo(false));
+        assertThat(body.toString().length(), equalTo(8199));
+    }
+
     @Test
     public void shouldFormatTimeDurantionInMillis(){
         long s = 1000;
@@ -14,6 +14,7 @@ import org.junit.Test;
 import org.xml.sax.SAXException;
 
 import java.io.*;
+import java.text.MessageFormat;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Properties;
@@ -443,6 +444,83 @@ public class PrintStreamOutputBehaviour extends AbstractOutputBehaviour {
         assertThat(dos2unix(out.toString()), equalTo(expected));
     }
 
+    @Test
+    public void shouldEscapeArgsViaOverriddenEscape() {
+        // Given
+        OutputStream out = new ByteArrayOutputStream();
+        StoryReporter reporter = new TxtOutput(new PrintStream(out)) {
+            @Override
+            protected Object[] escape(Format format, Object... args) {
+                Object[] escaped = super.escape(format, args);
+                for (int i = 0; i < escaped.length; i++) {
+                    if (escaped[i] instanceof String) {
+                        escaped[i] = ((String) escaped[i]).toUpperCase();
+                    }
+                }
+                return escaped;
+            }
+        };
+
+        // When
+        reporter.pending("a pending step");
+
+        // Then
+        assertThat(dos2unix(out.toString()), equalTo("A PENDING STEP (PENDING)\n"));
+    }
+
+    @Test
+    public void shouldOverwritePatternOnlyForTheOutputSharingDefaultPatterns() {
+        // Given
+        OutputStream out = new ByteArrayOutputStream();
+        OutputStream otherOut = new ByteArrayOutputStream();
+        TxtOutput reporter = new TxtOutput(new PrintStream(out));
+        TxtOutput otherReporter = new TxtOutput(new PrintStream(otherOut));
+
+        // When
+        reporter.overwritePattern("pending", "{0} is pending\n");
+        reporter.pending("a step");
+        otherReporter.pending("a step");
+
+        // Then
+        assertThat(dos2unix(out.toString()), equalTo("a step is pending\n"));
+        assertThat(dos2unix(otherOut.toString()), equalTo("a step (PENDING)\n"));
+        assertThat(dos2unix(new TxtOutput(new PrintStream(out)).format("pending", "", "a step", "PENDING")),
+                equalTo("a step (PENDING)\n"));
+    }
+
+    @Test
+    public void shouldFormatOutputPatternsAsMessageFormat() {
+        Object[] args = { "one", 1234567, null, new Date(0), Locale.UK, "<two & 'three'>" };
+        String[] patterns = { "{0}|", "{1} {0} {2}", "{x} {0}", "{0", "'{0}' is {0}", "it''s {0}", "'quoted ''{1}'' {0}",
+                "} {3} {4} {5} {6}", "{0,number,#}", "{1,number,#.00} {0}", "{00}{01}", "", "no args" };
+        for (String pattern : patterns) {
+            for (PrintStreamOutput.Format format : PrintStreamOutput.Format.values()) {
+                Object[] escaped = new Object[args.length];
+                for (int i = 0; i < args.length; i++) {
+                    escaped[i] = format.escapeValue(args[i]);
+                }
+                assertThat(pattern + " as " + format, formatted(pattern, escaped),
+                        equalTo(messageFormatted(pattern, escaped)));
+            }
+        }
+    }
+
+    private String formatted(String pattern, Object[] args) {
+        try {
+            return PrintStreamOutput.OutputPattern.of(pattern).appendTo(new StringBuilder(), args).toString();
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String messageFormatted(String pattern, Object[] args) {
+        try {
+            return MessageFormat.format(pattern, args);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
     @SuppressWarnings("serial")
     private static class MyKnownFailure extends KnownFailure {
     }
@@ -3,10 +3,14 @@ package org.jbehave.core.reporters;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.Writer;
 import java.net.URL;
 import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
@@ -16,10 +20,13 @@ import org.jbehave.core.io.StoryLocation;
 import org.jbehave.core.io.StoryPathResolver;
 import org.jbehave.core.io.UnderscoredCamelCaseResolver;
 import org.jbehave.core.junit.JUnitStory;
+import org.jbehave.core.model.Story;
 import org.jbehave.core.reporters.FilePrintStreamFactory.ResolveToPackagedName;
 import org.jbehave.core.reporters.FilePrintStreamFactory.ResolveToSimpleName;
 import org.junit.Test;
+import org.mockito.Matchers;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.equalTo;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -36,9 +43,41 @@ import static org.jbehave.core.reporters.Format.IDE_CONSOLE;
 import static org.jbehave.core.reporters.Format.STATS;
 import static org.jbehave.core.reporters.Format.TXT;
 import static org.jbehave.core.reporters.Format.XML;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class StoryReporterBuilderBehaviour {
 
+    @Test
+    public void shouldShareTemplateProcessorAcrossReportersBuiltForStories() {
+        // Given
+        TemplateProcessor processor = mock(TemplateProcessor.class);
+        StoryReporterBuilder builder = new StoryReporterBuilder().withFormats(Format.HTML_TEMPLATE)
+                .withTemplateProcessor(processor);
+        assertThat(builder.templateProcessor(), is(processor));
+
+        // When
+        for (String storyPath : asList("one.story", "two.story")) {
+            StoryReporter reporter = builder.build(storyPath);
+            reporter.beforeStory(new Story(storyPath), false);
+            reporter.afterStory(false);
+        }
+
+        // Then
+        verify(processor, times(2)).process(eq("ftl/jbehave-html-output.ftl"), Matchers.<Map<String, Object>>any(),
+                any(Writer.class));
+    }
+
+    @Test
+    public void shouldCreateFreemarkerTemplateProcessorByDefault() {
+        StoryReporterBuilder builder = new StoryReporterBuilder();
+        assertThat(builder.templateProcessor(), instanceOf(FreemarkerProcessor.class));
+        assertThat(builder.templateProcessor(), is(builder.templateProcessor()));
+    }
+
     @Test
     public void shouldBuildWithStatsByDefault() {
         // Given
@@ -214,6 +253,36 @@ public class StoryReporterBuilderBehaviour {
 
     }
 
+    @Test
+    public void shouldWriteReportsWhileStoryIsPerformedWhenMultiThreadedWithWriterThreads()
+            throws InterruptedException {
+        // Given
+        final CountDownLatch written = new CountDownLatch(1);
+        final StoryReporter writingReporter = new NullStoryReporter() {
+            @Override
+            public void beforeScenario(String scenarioTitle) {
+                written.countDown();
+            }
+        };
+        StoryReporterBuilder builder = new StoryReporterBuilder() {
+            @Override
+            public StoryReporter reporterFor(String storyPath, org.jbehave.core.reporters.Format format) {
+                return writingReporter;
+            }
+        };
+        builder.withMultiThreading(true).withReportWriterThreads(1).withFormats(TXT);
+
+        // When
+        StoryReporter reporter = builder.build(storyPath(MyStory.class));
+        reporter.beforeStory(new Story(), false);
+        reporter.beforeScenario("scenario");
+
+        // Then the scenario is written while its steps would be performed, before the story ends
+        assertThat(written.await(5, TimeUnit.SECONDS), is(true));
+        reporter.afterScenario();
+        reporter.afterStory(false);
+    }
+
     @Test
     public void shouldBuildWithCustomReporterForAGivenFormat() {
         // Given
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 
 
@@ -60,6 +61,36 @@ public class SurefireReporterBehaviour {
         assertThat(output(outputDirectory, outputPath), equalTo(resource(outputPath)));
     }
 
+    @Test
+    public void shouldProduceXmlReportsByStoryInParallel() throws Exception {
+
+        // Given
+        String reportName = "surefire-by-story";
+        SurefireReporter.Options options = new SurefireReporter.Options().useReportName(reportName)
+                .doIncludeProperties(false).doReportByStory(true).useThreads(2);
+        SurefireReporter reporter = new SurefireReporter(this.getClass(), options);
+
+        // When
+        PerformableRoot root = new PerformableRoot();
+        for (int i = 0; i < 3; i++) {
+            Story story = new Story("/path/to/story" + i + ".story", Description.EMPTY, Meta.EMPTY, Narrative.EMPTY,
+                    new ArrayList<Scenario>());
+            PerformableStory performableStory = new PerformableStory(story, new LocalizedKeywords(), false);
+            performableStory.add(new PerformableScenario(new Scenario("title & more", Arrays.asList("")),
+                    story.getPath()));
+            root.add(performableStory);
+        }
+        File outputDirectory = new File("target");
+        reporter.generate(root, outputDirectory);
+
+        // Then
+        for (int i = 0; i < 3; i++) {
+            assertThat(output(outputDirectory, reportName + "-.path.to.story" + i + ".xml"), containsString(
+                    "<testcase name=\"story" + i + ".title &amp; more\" classname=\"" + getClass().getName()
+                            + "\" time=\"0\"></testcase>"));
+        }
+    }
+
     private String resource(String name) throws IOException {
         return IOUtils.toString(getClass().getResource(name), StandardCharsets.UTF_8).replaceAll("(?:\\n|\\r)", "");
     }
@@ -6,21 +6,31 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
 import java.util.*;
 
 import org.hamcrest.Matchers;
 import org.jbehave.core.annotations.*;
 import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.failures.PendingStepFound;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.Lifecycle;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.StepPattern;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.steps.AbstractStepResult.Ignorable;
 import org.jbehave.core.steps.AbstractStepResult.Comment;
@@ -44,8 +54,8 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         Step executableStep = mock(Step.class);
 
         String stepAsString = "my step";
-        when(candidate.matches(stepAsString, null)).thenReturn(true);
-        when(candidate.createMatchedStep(stepAsString, parameters)).thenReturn(executableStep);
+        when(candidate.matches(eq(stepAsString), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(candidate.createMatchedStep(eq(stepAsString), eq(parameters), any(StepMonitor.class))).thenReturn(executableStep);
         List<CandidateSteps> steps = mockCandidateSteps(candidate);
 
         // When
@@ -67,10 +77,10 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
         String myStep = "my step";
         when(candidate.matches(myStep)).thenReturn(true);
-        when(candidate.createMatchedStep(myStep, parameters)).thenReturn(step);
+        when(candidate.createMatchedStep(eq(myStep), eq(parameters), any(StepMonitor.class))).thenReturn(step);
         String myAndStep = "And my step";
         when(andCandidate.matches(myAndStep)).thenReturn(true);
-        when(andCandidate.createMatchedStep(myAndStep, parameters)).thenReturn(andStep);
+        when(andCandidate.createMatchedStep(eq(myAndStep), eq(parameters), any(StepMonitor.class))).thenReturn(andStep);
 
         List<CandidateSteps> steps = mockCandidateSteps(candidate, andCandidate);
 
@@ -93,14 +103,17 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         Step failureStep = mock(Step.class, "failureStep");
 
         String myAnyStep = "my any step";
-        when(anyCandidate.matches(myAnyStep, null)).thenReturn(true);
-        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, parameters, Outcome.ANY)).thenReturn(anyStep);
+        when(anyCandidate.matches(eq(myAnyStep), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(anyCandidate.createMatchedStepUponOutcome(eq(myAnyStep), eq(parameters), eq(Outcome.ANY),
+                any(StepMonitor.class))).thenReturn(anyStep);
         String mySuccessStep = "my success step";
-        when(successCandidate.matches(mySuccessStep, null)).thenReturn(true);
-        when(successCandidate.createMatchedStepUponOutcome(mySuccessStep, parameters, Outcome.SUCCESS)).thenReturn(successStep);
+        when(successCandidate.matches(eq(mySuccessStep), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(successCandidate.createMatchedStepUponOutcome(eq(mySuccessStep), eq(parameters), eq(Outcome.SUCCESS),
+                any(StepMonitor.class))).thenReturn(successStep);
         String myFailureStep = "my failure step";
-        when(successCandidate.matches(myFailureStep, null)).thenReturn(true);
-        when(successCandidate.createMatchedStepUponOutcome(myFailureStep, parameters, Outcome.FAILURE)).thenReturn(failureStep);
+        when(successCandidate.matches(eq(myFailureStep), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(successCandidate.createMatchedStepUponOutcome(eq(myFailureStep), eq(parameters), eq(Outcome.FAILURE),
+                any(StepMonitor.class))).thenReturn(failureStep);
 
         List<CandidateSteps> steps = mockCandidateSteps(anyCandidate, successCandidate, failureCandidate);
 
@@ -130,14 +143,17 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         Step failureStep = mock(Step.class, "failureStep");
 
         String myAnyStep = "my any step";
-        when(anyCandidate.matches(myAnyStep, null)).thenReturn(true);
-        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, parameters, Outcome.ANY)).thenReturn(anyStep);
+        when(anyCandidate.matches(eq(myAnyStep), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(anyCandidate.createMatchedStepUponOutcome(eq(myAnyStep), eq(parameters), eq(Outcome.ANY),
+                any(StepMonitor.class))).thenReturn(anyStep);
         String mySuccessStep = "my success step";
-        when(successCandidate.matches(mySuccessStep, null)).thenReturn(true);
-        when(successCandidate.createMatchedStepUponOutcome(mySuccessStep, parameters, Outcome.SUCCESS)).thenReturn(successStep);
+        when(successCandidate.matches(eq(mySuccessStep), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(successCandidate.createMatchedStepUponOutcome(eq(mySuccessStep), eq(parameters), eq(Outcome.SUCCESS),
+                any(StepMonitor.class))).thenReturn(successStep);
         String myFailureStep = "my failure step";
-        when(successCandidate.matches(myFailureStep, null)).thenReturn(true);
-        when(successCandidate.createMatchedStepUponOutcome(myFailureStep, parameters, Outcome.FAILURE)).thenReturn(failureStep);
+        when(successCandidate.matches(eq(myFailureStep), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(successCandidate.createMatchedStepUponOutcome(eq(myFailureStep), eq(parameters), eq(Outcome.FAILURE),
+                any(StepMonitor.class))).thenReturn(failureStep);
 
         List<CandidateSteps> steps = mockCandidateSteps(anyCandidate, successCandidate, failureCandidate);
 
@@ -170,9 +186,9 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
         List<CandidateSteps> steps = mockCandidateSteps(compositeCandidate, composedCandidate2, composedCandidate1);
         String compositeAsText = "my composite step";
-        when(compositeCandidate.matches(compositeAsText, null)).thenReturn(true);
+        when(compositeCandidate.matches(eq(compositeAsText), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
         when(compositeCandidate.isComposite()).thenReturn(true);
-        when(compositeCandidate.createMatchedStep(compositeAsText, parameters)).thenReturn(
+        when(compositeCandidate.createMatchedStep(eq(compositeAsText), eq(parameters), any(StepMonitor.class))).thenReturn(
                 executableComposite);
 
         // When
@@ -180,8 +196,9 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
         // Then
         verify(compositeCandidate, times(1)).
-                addComposedSteps(new ArrayList<Step>(), compositeAsText, parameters,
-                        asList(compositeCandidate, composedCandidate1, composedCandidate2));
+                addComposedSteps(eq(new ArrayList<Step>()), eq(compositeAsText), eq(parameters),
+                        eq(asList(compositeCandidate, composedCandidate1, composedCandidate2)),
+                        any(StepMonitor.class));
     }
 
     @Test
@@ -419,18 +436,18 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
         // all matching the same step string with different priorities
         String stepAsString = "Given a step";
-        when(candidate1.matches(stepAsString, null)).thenReturn(true);
-        when(candidate2.matches(stepAsString, null)).thenReturn(true);
-        when(candidate3.matches(stepAsString, null)).thenReturn(true);
-        when(candidate4.matches(stepAsString, null)).thenReturn(true);
+        when(candidate1.matches(eq(stepAsString), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(candidate2.matches(eq(stepAsString), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(candidate3.matches(eq(stepAsString), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(candidate4.matches(eq(stepAsString), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
         when(candidate1.getPriority()).thenReturn(1);
         when(candidate2.getPriority()).thenReturn(2);
         when(candidate3.getPriority()).thenReturn(3);
         when(candidate4.getPriority()).thenReturn(4);
-        when(candidate1.createMatchedStep(stepAsString, parameters)).thenReturn(step1);
-        when(candidate2.createMatchedStep(stepAsString, parameters)).thenReturn(step2);
-        when(candidate3.createMatchedStep(stepAsString, parameters)).thenReturn(step3);
-        when(candidate4.createMatchedStep(stepAsString, parameters)).thenReturn(step4);
+        when(candidate1.createMatchedStep(eq(stepAsString), eq(parameters), any(StepMonitor.class))).thenReturn(step1);
+        when(candidate2.createMatchedStep(eq(stepAsString), eq(parameters), any(StepMonitor.class))).thenReturn(step2);
+        when(candidate3.createMatchedStep(eq(stepAsString), eq(parameters), any(StepMonitor.class))).thenReturn(step3);
+        when(candidate4.createMatchedStep(eq(stepAsString), eq(parameters), any(StepMonitor.class))).thenReturn(step4);
 
         // When we collect the list of steps
         List<Step> steps = stepCollector.collectScenarioSteps(asList(steps1, steps2), createScenario(stepAsString), parameters);
@@ -459,18 +476,18 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
         // all matching the same step string with different priorities
         String stepAsString = "Given a step";
-        when(candidate1.matches(stepAsString, null)).thenReturn(true);
-        when(candidate2.matches(stepAsString, null)).thenReturn(true);
-        when(candidate3.matches(stepAsString, null)).thenReturn(true);
-        when(candidate4.matches(stepAsString, null)).thenReturn(true);
+        when(candidate1.matches(eq(stepAsString), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(candidate2.matches(eq(stepAsString), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(candidate3.matches(eq(stepAsString), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
+        when(candidate4.matches(eq(stepAsString), (String) isNull(), any(StepMonitor.class))).thenReturn(true);
         when(candidate1.getPatternAsString()).thenReturn("Given I do something");
         when(candidate2.getPatternAsString()).thenReturn("When I do something ");
         when(candidate3.getPatternAsString()).thenReturn("Then I do something");
         when(candidate4.getPatternAsString()).thenReturn("And I do something");
-        when(candidate1.createMatchedStep(stepAsString, parameters)).thenReturn(step1);
-        when(candidate2.createMatchedStep(stepAsString, parameters)).thenReturn(step2);
-        when(candidate3.createMatchedStep(stepAsString, parameters)).thenReturn(step3);
-        when(candidate4.createMatchedStep(stepAsString, parameters)).thenReturn(step4);
+        when(candidate1.createMatchedStep(eq(stepAsString), eq(parameters), any(StepMonitor.class))).thenReturn(step1);
+        when(candidate2.createMatchedStep(eq(stepAsString), eq(parameters), any(StepMonitor.class))).thenReturn(step2);
+        when(candidate3.createMatchedStep(eq(stepAsString), eq(parameters), any(StepMonitor.class))).thenReturn(step3);
+        when(candidate4.createMatchedStep(eq(stepAsString), eq(parameters), any(StepMonitor.class))).thenReturn(step4);
 
         StepCollector stepCollector = new MarkUnmatchedStepsAsPending(new StepFinder(new ByLevenshteinDistance()));
         List<Step> steps = stepCollector.collectScenarioSteps(asList(steps1, steps2), createScenario(stepAsString), parameters);
@@ -479,6 +496,41 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         assertThat(step4, equalTo(steps.get(0)));
     }
 
+    @Test
+    public void shouldReportToTheStepMonitorOfEachCollectionWithoutChangingSharedCandidates() {
+        // Given
+        StepMonitor configuredMonitor = mock(StepMonitor.class, "configuredMonitor");
+        StepMonitor firstMonitor = mock(StepMonitor.class, "firstMonitor");
+        StepMonitor secondMonitor = mock(StepMonitor.class, "secondMonitor");
+        MostUsefulConfiguration configuration = new MostUsefulConfiguration();
+        configuration.useStepMonitor(configuredMonitor);
+        MonitoredSteps stepsInstance = new MonitoredSteps();
+        List<CandidateSteps> steps = asList((CandidateSteps) new Steps(configuration, stepsInstance));
+        List<StepCandidate> candidates = steps.get(0).listCandidates();
+        String stepAsString = "Given a monitored step";
+
+        // When
+        List<Step> firstSteps = stepCollector.collectScenarioSteps(steps, createScenario(stepAsString), parameters,
+                firstMonitor);
+        List<Step> secondSteps = stepCollector.collectScenarioSteps(steps, createScenario(stepAsString), parameters,
+                secondMonitor);
+        firstSteps.get(0).perform(null);
+
+        // Then
+        assertThat(steps.get(0).listCandidates(), Matchers.sameInstance(candidates));
+        verify(firstMonitor).stepMatchesPattern(eq(stepAsString), eq(true), any(StepPattern.class),
+                any(Method.class), eq(MonitoredSteps.class));
+        verify(firstMonitor).beforePerforming(eq(stepAsString), eq(false), any(Method.class));
+        verify(secondMonitor).stepMatchesPattern(eq(stepAsString), eq(true), any(StepPattern.class),
+                any(Method.class), eq(MonitoredSteps.class));
+        verify(secondMonitor, never()).beforePerforming(anyString(), anyBoolean(), any(Method.class));
+        verifyZeroInteractions(configuredMonitor);
+        assertThat(secondSteps.size(), equalTo(1));
+        assertThat(stepsInstance.performed, equalTo(1));
+        configuration.storyControls().doDryRun(true);
+        assertThat(steps.get(0).listCandidates(), Matchers.not(Matchers.sameInstance(candidates)));
+    }
+
     @Test
     public void afterScenarioStepsShouldBeInReverseOrder() {
         List<CandidateSteps> steps = new ArrayList<>();
@@ -656,6 +708,15 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
         }
     }
 
+    public static class MonitoredSteps {
+        private int performed;
+
+        @Given("a monitored step")
+        public void monitored() {
+            performed++;
+        }
+    }
+
     public static class BeforeOrAfterStoryWithParameter extends Steps {
         private String value;
 
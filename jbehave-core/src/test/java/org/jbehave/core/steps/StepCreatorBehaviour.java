@@ -30,6 +30,7 @@ import org.jbehave.core.io.LoadFromClasspath;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.TableTransformers;
 import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatch;
 import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult.Comment;
@@ -150,7 +151,7 @@ public class StepCreatorBehaviour {
 
         // When
         when(stepMatcher.parameterNames()).thenReturn(new String[] {});
-        stepCreator.matchedParameter("unknown");
+        stepCreator.matchedParameter(new StepMatch(new String[] {}, new String[] {}), "unknown");
 
         // Then .. fail as expected
     }
@@ -237,6 +238,7 @@ public class StepCreatorBehaviour {
 
         // When
         when(stepMatcher.parameterNames()).thenReturn(parameters.keySet().toArray(new String[parameters.size()]));
+        when(stepMatcher.find(anyString())).thenReturn(true);
         when(stepMatcher.parameter(1)).thenReturn(parameters.get(firstParameterValue));
         when(stepMatcher.parameter(2)).thenReturn(parameters.get(secondParameterValue));
         StepResult stepResult = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithANamedParameter"),
@@ -476,6 +478,7 @@ public class StepCreatorBehaviour {
         StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher, parameterControls);
         Map<String, String> params = Collections.singletonMap("param", "value");
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
+        when(stepMatcher.find(anyString())).thenReturn(true);
         when(stepMatcher.parameter(1)).thenReturn("<param>");
 
         // When
@@ -502,6 +505,7 @@ public class StepCreatorBehaviour {
         params.put("t", "distinct theme");
         params.put("v", "distinct variant");
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
+        when(stepMatcher.find(anyString())).thenReturn(true);
         when(stepMatcher.parameter(1)).thenReturn("<t>");
         when(stepMatcher.parameter(2)).thenReturn("<v>");
 
@@ -532,6 +536,7 @@ public class StepCreatorBehaviour {
         params.put("theme", "a theme");
         params.put("variant", "a variant");
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
+        when(stepMatcher.find(anyString())).thenReturn(true);
         when(stepMatcher.parameter(1)).thenReturn("<t>");
         when(stepMatcher.parameter(2)).thenReturn("<v>");
 
@@ -3,10 +3,12 @@ package org.jbehave.core.steps;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.jbehave.core.steps.StepType.GIVEN;
 import static org.jbehave.core.steps.StepType.THEN;
 import static org.jbehave.core.steps.StepType.WHEN;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -31,6 +33,52 @@ public class StepFinderBehaviour {
         assertThatStepdocIs(stepdocs.get(2), "thenFoo", "thenFoo(java.lang.String)", "foo named $name", "Then", THEN, mySteps);        
     }
     
+    @Test
+    public void shouldIndexCandidatesMatchingTheSameCandidateAsALinearScan() {
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(new MostUsefulConfiguration(),
+                new IndexedSteps()).createCandidateSteps();
+        StepCandidateIndex index = finder.indexCandidates(candidateSteps);
+        String[][] stepsAndPreviousNonAndSteps = { { "Given a user named Bob", null },
+                { "Given a  user named Bob", null }, { "Given 3 users", null }, { "Given all users", null },
+                { "When a user named Bob logs in", null }, { "When Bob logs out", null },
+                { "Then a user named Bob is logged out", null }, { "And a user named Bob", "Given all users" },
+                { "And a user named Bob", null }, { "Given an unknown step", null }, { "!-- Given 3 users", null } };
+        for (String[] stepAndPrevious : stepsAndPreviousNonAndSteps) {
+            String step = stepAndPrevious[0];
+            String previousNonAndStep = stepAndPrevious[1];
+            List<StepCandidate> narrowed = index.prioritise(step, previousNonAndStep);
+            assertThat(step, firstMatching(narrowed, step, previousNonAndStep),
+                    equalTo(firstMatching(finder.prioritise(step, new ArrayList<>(index.candidates())), step,
+                            previousNonAndStep)));
+        }
+        assertThat(index.prioritise("Given a user named Bob", null).size(), lessThan(index.candidates().size()));
+    }
+
+    @Test
+    public void shouldPrioritiseCandidatesByLevenshteinDistanceConsistentlyWhenScoresAreCached() {
+        StepFinder levenshteinFinder = new StepFinder(new StepFinder.ByLevenshteinDistance());
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(new MostUsefulConfiguration(),
+                new IndexedSteps()).createCandidateSteps();
+        List<StepCandidate> candidates = levenshteinFinder.collectCandidates(candidateSteps);
+        String step = "When a user named Bob logs in";
+        List<StepCandidate> prioritised = levenshteinFinder.prioritise(step, new ArrayList<>(candidates));
+        assertThat(prioritised.size(), equalTo(candidates.size()));
+        assertThat(prioritised.get(0).getPatternAsString(), equalTo("a user named $name logs in"));
+        List<StepCandidate> reversed = new ArrayList<>(candidates);
+        Collections.reverse(reversed);
+        assertThat(levenshteinFinder.prioritise(step, reversed).get(0), equalTo(prioritised.get(0)));
+        assertThat(levenshteinFinder.prioritise(step, new ArrayList<>(candidates)), equalTo(prioritised));
+    }
+
+    private StepCandidate firstMatching(List<StepCandidate> candidates, String step, String previousNonAndStep) {
+        for (StepCandidate candidate : candidates) {
+            if (candidate.matches(step, previousNonAndStep)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
     private void assertThatStepdocIs(Stepdoc stepdoc, String methodName, String methodSignature, String pattern, String startingWord, StepType stepType, Object stepsInstance) {
         assertThat(stepdoc.getMethod().getName(), equalTo(methodName));
         assertThat(stepdoc.toString(), containsString(methodName));
@@ -60,6 +108,37 @@ public class StepFinderBehaviour {
         }
 
     }
-    
+
+    static class IndexedSteps {
+
+        @Given("a user named $name")
+        public void givenUser(String name) {
+        }
+
+        @Given(value = "a user named Bob", priority = 1)
+        public void givenBob() {
+        }
+
+        @Given("$count users")
+        public void givenUsers(int count) {
+        }
+
+        @Given("all users")
+        public void givenAllUsers() {
+        }
+
+        @When("a user named $name logs in")
+        public void whenUserLogsIn(String name) {
+        }
+
+        @When("$name logs out")
+        public void whenLogsOut(String name) {
+        }
+
+        @Then("a user named $name is logged out")
+        public void thenUserIsLoggedOut(String name) {
+        }
+
+    }
 
 }
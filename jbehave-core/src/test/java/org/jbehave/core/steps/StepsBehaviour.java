@@ -1,5 +1,7 @@
 package org.jbehave.core.steps;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -35,6 +37,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class StepsBehaviour {
 
@@ -58,6 +62,50 @@ public class StepsBehaviour {
         assertThat(steps.thens, equalTo(2));
     }
 
+    @Test
+    public void shouldCacheListedCandidatesUntilReset() {
+        SingleAliasSteps steps = new SingleAliasSteps();
+        List<StepCandidate> candidates = steps.listCandidates();
+        assertThat(steps.listCandidates(), sameInstance(candidates));
+        StepFinder stepFinder = new StepFinder();
+        List<CandidateSteps> candidateSteps = Arrays.<CandidateSteps>asList(steps);
+        StepCandidateIndex index = stepFinder.indexCandidates(candidateSteps);
+        assertThat(stepFinder.indexCandidates(candidateSteps), sameInstance(index));
+
+        steps.resetCandidates();
+        List<StepCandidate> resetCandidates = steps.listCandidates();
+        assertThat(resetCandidates, not(sameInstance(candidates)));
+        assertThat(resetCandidates.size(), equalTo(candidates.size()));
+        assertThat(stepFinder.indexCandidates(candidateSteps), not(sameInstance(index)));
+    }
+
+    @Test
+    public void shouldListCandidatesOfStepsOverridingListCandidates() {
+        final List<StepCandidate> listed = new SingleAliasSteps().listCandidates();
+        AbstractCandidateSteps steps = new AbstractCandidateSteps(new MostUsefulConfiguration()) {
+            @Override
+            public List<StepCandidate> listCandidates() {
+                return listed;
+            }
+
+            @Override
+            public List<BeforeOrAfterStep> listBeforeOrAfterStories() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<BeforeOrAfterStep> listBeforeOrAfterStory(boolean givenStory) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<BeforeOrAfterStep> listBeforeOrAfterScenario(ScenarioType type) {
+                return Collections.emptyList();
+            }
+        };
+        assertThat(steps.listCandidates(), sameInstance(listed));
+    }
+
 	@Test
     public void shouldListCandidateStepsFromAnnotatedMethodsWithMultipleAliases() {
         MultipleAliasesSteps steps = new MultipleAliasesSteps();
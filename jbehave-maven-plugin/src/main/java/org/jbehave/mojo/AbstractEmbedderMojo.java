@@ -187,6 +187,21 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
      */
     boolean failOnStoryTimeout = false;
 
+    /**
+     * The boolean flag to build each story just before it is run
+     * 
+     * @parameter default-value="false"
+     */
+    boolean buildStoriesLazily = false;
+
+    /**
+     * The boolean flag to submit stories longest first, by the durations of
+     * the previous run
+     * 
+     * @parameter default-value="false"
+     */
+    boolean scheduleLongestStoriesFirst = false;
+
     /**
      * The number of threads
      * 
@@ -392,7 +407,8 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
                 .doGenerateViewAfterStories(generateViewAfterStories).doIgnoreFailureInStories(ignoreFailureInStories)
                 .doIgnoreFailureInView(ignoreFailureInView).doVerboseFailures(verboseFailures)
                 .doVerboseFiltering(verboseFiltering)
-                .doFailOnStoryTimeout(failOnStoryTimeout).useThreads(threads);
+                .doFailOnStoryTimeout(failOnStoryTimeout).doBuildStoriesLazily(buildStoriesLazily)
+                .doScheduleLongestStoriesFirst(scheduleLongestStoriesFirst).useThreads(threads);
         if ( storyTimeoutInSecs != 0 ){
         	embedderControls.useStoryTimeoutInSecs(storyTimeoutInSecs);
         }
@@ -82,6 +82,22 @@ public class SpringEmbedderControls extends EmbedderControls
         doFailOnStoryTimeout(failOnStoryTimeout);
     }
 
+    public boolean isBuildStoriesLazily() {
+        return buildStoriesLazily();
+    }
+
+    public void setBuildStoriesLazily(boolean buildStoriesLazily) {
+        doBuildStoriesLazily(buildStoriesLazily);
+    }
+
+    public boolean isScheduleLongestStoriesFirst() {
+        return scheduleLongestStoriesFirst();
+    }
+
+    public void setScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        doScheduleLongestStoriesFirst(scheduleLongestStoriesFirst);
+    }
+
     public int getThreads() {
         return threads();
     }
@@ -39,4 +39,12 @@ public class SpringStoryControls extends StoryControls {
     public void setSkipStoryIfGivenStoryFailed(boolean skipStoryIfGivenStoryFailed) {
         doSkipStoryIfGivenStoryFailed(skipStoryIfGivenStoryFailed);
     }
+
+    public int getExamplesThreads() {
+        return examplesThreads();
+    }
+
+    public void setExamplesThreads(int examplesThreads) {
+        useExamplesThreads(examplesThreads);
+    }
 }
@@ -3,6 +3,7 @@ package org.jbehave.core.configuration.spring;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.reporters.FilePrintStreamFactory.FilePathResolver;
 import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.core.reporters.TemplateProcessor;
 
 import java.net.URL;
 import java.util.List;
@@ -91,4 +92,28 @@ public class SpringStoryReporterBuilder extends StoryReporterBuilder {
         withMultiThreading(multiThreading);
     }
 
+    public int getReportWriterThreads() {
+        return reportWriterThreads();
+    }
+
+    public void setReportWriterThreads(int reportWriterThreads) {
+        withReportWriterThreads(reportWriterThreads);
+    }
+
+    public int getReportBufferSize() {
+        return reportBufferSize();
+    }
+
+    public void setReportBufferSize(int reportBufferSize) {
+        withReportBufferSize(reportBufferSize);
+    }
+
+    public TemplateProcessor getTemplateProcessor() {
+        return templateProcessor();
+    }
+
+    public void setTemplateProcessor(TemplateProcessor templateProcessor) {
+        withTemplateProcessor(templateProcessor);
+    }
+
 }